@@ -0,0 +1,19 @@
+package com.courthub.common.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Published by court-service on {@code court.issue.created} and {@code court.issue.status.changed},
+ * keyed by courtId. {@code previousStatus} is null for created issues.
+ */
+public record CourtIssueEventPayload(
+        UUID issueId,
+        UUID courtId,
+        String severity,
+        String status,
+        String previousStatus,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.courthub.common.dto.analytics;
+
+import java.util.List;
+
+/**
+ * One page of bookings in id order, for analytics extraction. Pass {@code nextCursor} back to fetch
+ * the next page; it is null once {@code hasMore} is false.
+ */
+public record BookingInternalPage(
+    List<BookingInternalDTO> items,
+    String nextCursor,
+    boolean hasMore
+) {}
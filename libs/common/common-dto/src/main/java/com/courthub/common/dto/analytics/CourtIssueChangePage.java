@@ -0,0 +1,13 @@
+package com.courthub.common.dto.analytics;
+
+import java.util.List;
+
+/**
+ * One page of the court issue change feed. {@code nextCursor} is always set: store it and pass it
+ * back to resume after the last change seen, even when the page is empty.
+ */
+public record CourtIssueChangePage(
+    List<CourtIssueInternalDTO> items,
+    String nextCursor,
+    boolean hasMore
+) {}
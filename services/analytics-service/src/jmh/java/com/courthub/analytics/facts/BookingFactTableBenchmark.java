@@ -0,0 +1,90 @@
+package com.courthub.analytics.facts;
+
+import com.courthub.analytics.facts.BookingFactTable.Dimension;
+import com.courthub.common.dto.analytics.BookingInternalDTO;
+import com.courthub.common.dto.analytics.UserInternalDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of the fact table over synthetic bookings spread over three years, 40 courts and
+ * 20,000 users in 21 faculties: a bitmap-filtered day-of-week by hour heatmap, the same with a
+ * scanned hour filter and a date range, and an unfiltered court by month scan of every row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class BookingFactTableBenchmark {
+
+    private static final String[] STATUSES = {"CONFIRMED", "CONFIRMED", "CONFIRMED", "CANCELLED", "PENDING", "COMPLETED"};
+
+    @Param({"5000000"})
+    private int bookings;
+
+    private BookingFactTable table;
+
+    private final BookingFactTable.Query cancelledHeatmap = new BookingFactTable.Query(
+            List.of(Dimension.DAY_OF_WEEK, Dimension.HOUR),
+            Map.of(Dimension.STATUS, Set.of("CANCELLED")), null, null);
+    private final BookingFactTable.Query facultyEveningsLastYear = new BookingFactTable.Query(
+            List.of(Dimension.COURT, Dimension.DAY_OF_WEEK),
+            Map.of(Dimension.FACULTY, Set.of("FACULTY-3", "FACULTY-7"),
+                    Dimension.HOUR, Set.of("18:00", "19:00", "20:00")),
+            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+    private final BookingFactTable.Query courtByMonth = new BookingFactTable.Query(
+            List.of(Dimension.COURT, Dimension.MONTH), Map.of(), null, null);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<UserInternalDTO> users = new ArrayList<>();
+        for (int user = 0; user < 20_000; user++) {
+            users.add(new UserInternalDTO("user-" + user, "User " + user, "FACULTY-" + user % 21));
+        }
+        BookingFactTable.Builder builder = new BookingFactTable.Builder();
+        LocalDate first = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < bookings; i++) {
+            builder.accept(new BookingInternalDTO(null, "court-" + random.nextInt(40),
+                    first.plusDays(random.nextInt(3 * 365)), LocalTime.of(7 + random.nextInt(15), 0),
+                    STATUSES[random.nextInt(STATUSES.length)], "user-" + random.nextInt(users.size())));
+        }
+        table = builder.build(users);
+    }
+
+    @Benchmark
+    public BookingFactTable.Result cancelledHeatmap() {
+        return table.query(cancelledHeatmap);
+    }
+
+    @Benchmark
+    public BookingFactTable.Result facultyEveningsLastYear() {
+        return table.query(facultyEveningsLastYear);
+    }
+
+    @Benchmark
+    public BookingFactTable.Result courtByMonth() {
+        return table.query(courtByMonth);
+    }
+}
@@ -0,0 +1,125 @@
+package com.courthub.analytics.service;
+
+import com.courthub.common.dto.analytics.BookingInternalDTO;
+import com.courthub.common.dto.analytics.UserInternalDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Sync aggregation cost of the single primitive pass in {@link BookingAggregator} against the
+ * per-metric-family stream passes it replaced (reproduced in {@link #streamPasses}), over one
+ * year of synthetic bookings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingAggregatorBenchmark {
+
+    private static final String[] STATUSES = {"CONFIRMED", "CONFIRMED", "CONFIRMED", "CANCELLED", "PENDING"};
+    private static final String[] FACULTIES = {"ARTES", "CIENCIAS", "INGENIERÍA QUÍMICA", "ODONTOLOGÍA"};
+
+    @Param({"100000", "1000000"})
+    private int bookings;
+
+    private List<BookingInternalDTO> rows;
+    private List<UserInternalDTO> users;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        users = new ArrayList<>();
+        for (int user = 0; user < 5000; user++) {
+            users.add(new UserInternalDTO("user-" + user, "User " + user, FACULTIES[user % FACULTIES.length]));
+        }
+        rows = new ArrayList<>(bookings);
+        LocalDate first = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < bookings; i++) {
+            rows.add(new BookingInternalDTO("booking-" + i, "court-" + random.nextInt(20),
+                    first.plusDays(random.nextInt(365)), LocalTime.of(8 + random.nextInt(8), 0),
+                    STATUSES[random.nextInt(STATUSES.length)], "user-" + random.nextInt(users.size())));
+        }
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        BookingAggregator aggregator = new BookingAggregator();
+        rows.forEach(aggregator::accept);
+        blackhole.consume(aggregator.occupancy());
+        blackhole.consume(aggregator.peakHours());
+        blackhole.consume(aggregator.facultyUsage(users));
+        blackhole.consume(aggregator.reservationHistory());
+        blackhole.consume(aggregator.topUsers(5));
+    }
+
+    @Benchmark
+    public void streamPasses(Blackhole blackhole) {
+        Map<String, UserInternalDTO> userMap = users.stream()
+                .collect(Collectors.toMap(UserInternalDTO::id, user -> user));
+
+        Map<String, List<BookingInternalDTO>> byDateAndCourt = rows.stream()
+                .collect(Collectors.groupingBy(b -> b.date().toString() + "|" + b.courtId()));
+        for (Map.Entry<String, List<BookingInternalDTO>> entry : byDateAndCourt.entrySet()) {
+            String[] parts = entry.getKey().split("\\|");
+            blackhole.consume(LocalDate.parse(parts[0]));
+            blackhole.consume(entry.getValue().stream().filter(b -> "CONFIRMED".equals(b.status())).count());
+            blackhole.consume(entry.getValue().stream()
+                    .filter(b -> "CONFIRMED".equals(b.status()))
+                    .collect(Collectors.groupingBy(b -> String.format("%02d:00", b.startTime().getHour()),
+                            Collectors.summingInt(b -> 1))));
+        }
+
+        Map<String, Map<String, Integer>> peakHours = new HashMap<>();
+        for (BookingInternalDTO booking : rows) {
+            if ("CONFIRMED".equals(booking.status())) {
+                peakHours.computeIfAbsent(booking.date().getDayOfWeek().toString(), k -> new HashMap<>())
+                        .merge(String.format("%02d:00", booking.startTime().getHour()), 1, Integer::sum);
+            }
+        }
+        blackhole.consume(peakHours);
+
+        Map<String, Integer> facultyUsage = new HashMap<>();
+        Map<String, Integer> userCounts = new HashMap<>();
+        for (BookingInternalDTO booking : rows) {
+            if ("CONFIRMED".equals(booking.status())) {
+                UserInternalDTO user = userMap.get(booking.userId());
+                if (user != null) {
+                    facultyUsage.merge(user.faculty(), 1, Integer::sum);
+                }
+                userCounts.merge(booking.userId(), 1, Integer::sum);
+            }
+        }
+        blackhole.consume(facultyUsage);
+        blackhole.consume(userCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(5)
+                .toList());
+
+        blackhole.consume(rows.stream().collect(Collectors.groupingBy(b -> YearMonth.from(b.date()),
+                Collectors.partitioningBy(b -> "CANCELLED".equals(b.status()), Collectors.counting()))));
+    }
+}
@@ -1,8 +1,10 @@
 package com.courthub.analytics.client;
 
 import com.courthub.common.dto.analytics.BookingInternalDTO;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 
@@ -11,4 +13,12 @@ public interface BookingServiceFeignClient {
 
     @GetMapping("/bookings/internal/bookings/all")
     List<BookingInternalDTO> getAllBookings();
+
+    /**
+     * Raw response for one page of bookings, read with {@link InternalPageReader} so the body is
+     * parsed as it streams in. The caller must close the response.
+     */
+    @GetMapping("/bookings/internal/bookings/page")
+    Response getBookingsPage(@RequestParam(value = "cursor", required = false) String cursor,
+                             @RequestParam("size") int size);
 }
@@ -0,0 +1,96 @@
+package com.courthub.analytics.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Response;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Walks a cursor-paged internal endpoint ({@code {"items": [...], "nextCursor": ..., "hasMore": ...}})
+ * and hands each item to a sink as it is parsed off the response stream.
+ * <p>
+ * Items are bound one at a time from a Jackson token parser, so neither the whole dataset nor a
+ * whole page is ever materialized as a list; memory stays bounded by the sink's own state.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InternalPageReader {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return the number of items read
+     */
+    public <T> long readAll(String source, BiFunction<String, Integer, Response> fetchPage, int pageSize,
+                            Class<T> itemType, Consumer<T> sink) {
+        long count = 0;
+        int pages = 0;
+        String cursor = null;
+        boolean hasMore = true;
+        while (hasMore) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("Extraction of " + source + " interrupted");
+            }
+            try (Response response = fetchPage.apply(cursor, pageSize)) {
+                if (response.status() < 200 || response.status() >= 300) {
+                    throw FeignException.errorStatus(source, response);
+                }
+                PageState page = readPage(response, itemType, sink);
+                count += page.items;
+                pages++;
+                hasMore = page.hasMore && page.nextCursor != null;
+                cursor = page.nextCursor;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read " + source + " page", e);
+            }
+        }
+        log.debug("Internal pages read: source={}, pages={}, items={}", source, pages, count);
+        return count;
+    }
+
+    private <T> PageState readPage(Response response, Class<T> itemType, Consumer<T> sink) throws IOException {
+        PageState page = new PageState();
+        if (response.body() == null) {
+            return page;
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(response.body().asInputStream())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a page object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "items" -> {
+                        if (value == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                                sink.accept(objectMapper.readValue(parser, itemType));
+                                page.items++;
+                            }
+                        }
+                    }
+                    case "nextCursor" -> page.nextCursor = value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                    case "hasMore" -> page.hasMore = parser.getValueAsBoolean();
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return page;
+    }
+
+    private static final class PageState {
+        private long items;
+        private String nextCursor;
+        private boolean hasMore;
+    }
+}
@@ -1,8 +1,10 @@
 package com.courthub.analytics.client;
 
 import com.courthub.common.dto.analytics.UserInternalDTO;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 
@@ -11,4 +13,12 @@ public interface UserServiceFeignClient {
 
     @GetMapping("/users/internal/users/all")
     List<UserInternalDTO> getAllUsers();
+
+    /**
+     * Raw response for one page of users, read with {@link InternalPageReader} so the body is
+     * parsed as it streams in. The caller must close the response.
+     */
+    @GetMapping("/users/internal/users/page")
+    Response getUsersPage(@RequestParam(value = "cursor", required = false) String cursor,
+                          @RequestParam("size") int size);
 }
@@ -47,7 +47,10 @@ public class SecurityConfig {
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html", "/actuator/**", "/analytics/hello").permitAll()
                         
                         .requestMatchers(HttpMethod.GET, "/analytics/dashboard").hasAuthority("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/analytics/range").hasAuthority("ADMIN")
                         .requestMatchers(HttpMethod.POST, "/analytics/sync").hasAuthority("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/analytics/facts/query").hasAuthority("ADMIN")
+                        .requestMatchers("/analytics/rebuild").hasAuthority("ADMIN")
                         
                         .requestMatchers("/analytics/**").authenticated()
                         .anyRequest().authenticated()
@@ -1,20 +1,34 @@
 package com.courthub.analytics.controller;
 
+import com.courthub.analytics.domain.SyncRun;
 import com.courthub.analytics.dto.DashboardResponse;
-import com.courthub.analytics.service.AnalyticsService;
+import com.courthub.analytics.dto.FactQueryRequest;
+import com.courthub.analytics.dto.FactQueryResponse;
+import com.courthub.analytics.dto.RangeSummaryResponse;
+import com.courthub.analytics.dto.RebuildStatusResponse;
+import com.courthub.analytics.service.BookingFactTableService;
+import com.courthub.analytics.service.BookingRollupService;
+import com.courthub.analytics.service.DashboardSnapshotService;
 import com.courthub.analytics.service.DataSyncService;
+import com.courthub.analytics.service.MetricsRebuildService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -22,12 +36,22 @@ import java.util.Map;
 @Tag(name = "Analytics", description = "Analytics and data synchronization endpoints. Most operations are ADMIN-only.")
 public class AnalyticsController {
 
-    private final AnalyticsService analyticsService;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final BookingRollupService bookingRollupService;
+    private final BookingFactTableService bookingFactTableService;
     private final DataSyncService dataSyncService;
+    private final MetricsRebuildService metricsRebuildService;
 
-    public AnalyticsController(AnalyticsService analyticsService, DataSyncService dataSyncService) {
-        this.analyticsService = analyticsService;
+    public AnalyticsController(DashboardSnapshotService dashboardSnapshotService,
+                               BookingRollupService bookingRollupService,
+                               BookingFactTableService bookingFactTableService,
+                               DataSyncService dataSyncService,
+                               MetricsRebuildService metricsRebuildService) {
+        this.dashboardSnapshotService = dashboardSnapshotService;
+        this.bookingRollupService = bookingRollupService;
+        this.bookingFactTableService = bookingFactTableService;
         this.dataSyncService = dataSyncService;
+        this.metricsRebuildService = metricsRebuildService;
     }
 
     @GetMapping("/hello")
@@ -43,18 +67,72 @@ public class AnalyticsController {
     }
 
     @GetMapping("/dashboard")
-    @Operation(summary = "Get analytics dashboard", description = "Returns dashboard metrics including KPIs, heatmap, faculty usage, and student rankings. Requires ADMIN authority.")
+    @Operation(summary = "Get analytics dashboard", description = "Returns dashboard metrics including KPIs, heatmap, faculty usage, and student rankings from the latest precomputed snapshot, with an ETag. Requires ADMIN authority.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Dashboard data returned successfully"),
+            @ApiResponse(responseCode = "304", description = "Dashboard unchanged since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden - Requires ADMIN role")
     })
     @SecurityRequirement(name = "Bearer Authentication")
-    public ResponseEntity<DashboardResponse> getDashboard() {
+    public ResponseEntity<DashboardResponse> getDashboard(WebRequest request) {
         log.info("Fetching analytics dashboard [ADMIN]");
-        DashboardResponse dashboard = analyticsService.getDashboard();
-        log.info("Analytics dashboard returned successfully [ADMIN]");
-        return ResponseEntity.ok(dashboard);
+        DashboardSnapshotService.Snapshot snapshot = dashboardSnapshotService.getSnapshot();
+        if (request.checkNotModified(snapshot.etag())) {
+            log.info("Analytics dashboard not modified: etag={} [ADMIN]", snapshot.etag());
+            return null;
+        }
+        log.info("Analytics dashboard returned successfully: etag={}, builtAt={} [ADMIN]",
+                snapshot.etag(), snapshot.builtAt());
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(snapshot.dashboard());
+    }
+
+    @GetMapping("/range")
+    @Operation(summary = "Get booking totals for a date range", description = "Returns confirmed and cancelled bookings, overall and per court, for [from, to) from pre-aggregated hourly, daily, weekly and monthly rollups. Bounds are truncated to the hour. Requires ADMIN authority.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Range totals returned successfully"),
+            @ApiResponse(responseCode = "400", description = "Range is empty or reversed"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Requires ADMIN role")
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<RangeSummaryResponse> getRangeSummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("Range summary request received: from={}, to={} [ADMIN]", from, to);
+        if (!from.truncatedTo(ChronoUnit.HOURS).isBefore(to.truncatedTo(ChronoUnit.HOURS))) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        return ResponseEntity.ok(bookingRollupService.summarize(from, to));
+    }
+
+    @PostMapping("/facts/query")
+    @Operation(summary = "Query the booking fact table", description = "Counts bookings grouped by any of status, court, faculty, dayOfWeek, hour, month and date, with equality filters on the same dimensions and an optional date range, over the in-memory fact table built by the latest sync. Requires ADMIN authority.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Query executed successfully"),
+            @ApiResponse(responseCode = "400", description = "Unknown dimension or too many groups"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Requires ADMIN role"),
+            @ApiResponse(responseCode = "503", description = "The fact table has not been built or loaded on this instance yet")
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<FactQueryResponse> queryFacts(@RequestBody FactQueryRequest request) {
+        log.info("Fact query request received: groupBy={}, filters={} [ADMIN]", request.groupBy(),
+                request.filters() != null ? request.filters().keySet() : null);
+        try {
+            Optional<FactQueryResponse> response = bookingFactTableService.query(request);
+            if (response.isEmpty()) {
+                log.warn("Fact query rejected: fact table not built or loaded on this instance");
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            }
+            return ResponseEntity.ok(response.get());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid fact query: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
     }
 
     @PostMapping("/sync")
@@ -63,6 +141,7 @@ public class AnalyticsController {
             @ApiResponse(responseCode = "200", description = "Synchronization completed successfully"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden - Requires ADMIN role"),
+            @ApiResponse(responseCode = "409", description = "A sync is already running on another instance"),
             @ApiResponse(responseCode = "500", description = "Internal server error during sync")
     })
     @SecurityRequirement(name = "Bearer Authentication")
@@ -70,9 +149,22 @@ public class AnalyticsController {
         log.info("Manual sync request received [ADMIN]");
         try {
             long startTime = System.currentTimeMillis();
-            dataSyncService.syncAnalyticsData();
+            Optional<SyncRun> run = dataSyncService.runSync("manual");
             long duration = System.currentTimeMillis() - startTime;
 
+            if (run.isEmpty()) {
+                Map<String, Object> skippedResponse = new HashMap<>();
+                skippedResponse.put("status", "skipped");
+                skippedResponse.put("message", "Analytics sync already running on another instance");
+                skippedResponse.put("timestamp", System.currentTimeMillis());
+
+                log.info("Manual sync skipped: lease held by another instance [ADMIN]");
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(skippedResponse);
+            }
+            if (!"SUCCESS".equals(run.get().getOutcome())) {
+                throw new IllegalStateException(run.get().getOutcome() + ": " + run.get().getError());
+            }
+
             Map<String, Object> response = new HashMap<>();
             response.put("status", "success");
             response.put("message", "Analytics data synchronized successfully");
@@ -92,4 +184,35 @@ public class AnalyticsController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
         }
     }
-}
\ No newline at end of file
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "Rebuild incremental metrics from Kafka", description = "Starts a background rebuild that replays the booking and payment topics from the earliest retained offset into shadow collections, one worker per partition, and swaps them in when caught up. Ends as HISTORY_TRUNCATED, leaving the live metrics untouched, if retention has deleted the start of any partition. Requires ADMIN authority.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Rebuild started"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Requires ADMIN role"),
+            @ApiResponse(responseCode = "409", description = "A rebuild or sync is already running")
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<RebuildStatusResponse> startRebuild() {
+        log.info("Metrics rebuild request received [ADMIN]");
+        Optional<RebuildStatusResponse> started = metricsRebuildService.start();
+        if (started.isEmpty()) {
+            log.info("Metrics rebuild skipped: rebuild or sync already running [ADMIN]");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(metricsRebuildService.getStatus());
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(started.get());
+    }
+
+    @GetMapping("/rebuild")
+    @Operation(summary = "Get metrics rebuild status", description = "Returns the state and progress of the latest rebuild started on this instance. Requires ADMIN authority.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rebuild status returned"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Requires ADMIN role")
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<RebuildStatusResponse> getRebuildStatus() {
+        return ResponseEntity.ok(metricsRebuildService.getStatus());
+    }
+}
@@ -0,0 +1,40 @@
+package com.courthub.analytics.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Per-booking state used by the incremental aggregation. {@code counted} records whether the
+ * booking is currently included in the confirmed-booking aggregates and {@code cancelled} whether
+ * its cancellation has been applied, so redelivered or out-of-order events never apply twice.
+ * {@code pending} lists the aggregate increments a transition still owes, recorded with the
+ * transition and removed one by one as they are applied; {@code pendingSince} is set while any
+ * are owed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "booking_facts")
+public class BookingFact {
+    @Id
+    private String id; // bookingId
+    private String courtId;
+    private String userId;
+    private LocalDate date;
+    private LocalTime startTime;
+    private boolean confirmed;
+    private boolean counted;
+    private boolean cancelled;
+    private List<String> pending;
+    @Indexed(sparse = true)
+    private Instant pendingSince;
+}
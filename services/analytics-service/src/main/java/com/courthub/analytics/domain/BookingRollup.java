@@ -0,0 +1,31 @@
+package com.courthub.analytics.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Booking counts for one time bucket, kept at every {@link RollupGranularity} so a date range can
+ * be answered from a handful of pre-aggregated documents.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "booking_rollups")
+@CompoundIndex(name = "granularity_bucket", def = "{'granularity': 1, 'bucketStart': 1}", unique = true)
+public class BookingRollup {
+
+    @Id
+    private String id;
+    private RollupGranularity granularity;
+    private LocalDateTime bucketStart;
+    private int confirmedBookings;
+    private int cancelledBookings;
+    private Map<String, Integer> courtBookings; // courtId -> confirmed bookings
+}
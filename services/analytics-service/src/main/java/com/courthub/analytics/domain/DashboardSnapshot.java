@@ -0,0 +1,27 @@
+package com.courthub.analytics.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Last published dashboard, kept as its serialized JSON so a restarted instance can serve it
+ * without rebuilding it from the metric collections.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "dashboard_snapshots")
+public class DashboardSnapshot {
+    @Id
+    private String id;
+    private LocalDate date; // day the dashboard was built for
+    private String etag;
+    private Instant builtAt;
+    private String json;
+}
@@ -0,0 +1,30 @@
+package com.courthub.analytics.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * HyperLogLog registers of the users with a confirmed booking on a date, per faculty. Only
+ * non-zero registers are stored (register index to rank).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "faculty_active_users")
+@CompoundIndex(name = "date_faculty", def = "{'date': 1, 'faculty': 1}", unique = true)
+public class FacultyActiveUsers {
+
+    @Id
+    private String id;
+    private LocalDate date;
+    private String faculty;
+    private int precision;
+    private Map<String, Integer> registers;
+}
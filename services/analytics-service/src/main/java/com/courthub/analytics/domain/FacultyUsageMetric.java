@@ -1,15 +1,19 @@
 package com.courthub.analytics.domain;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
 
 @Document(collection = "faculty_usage_metrics")
+@CompoundIndex(name = "faculty_date", def = "{'faculty': 1, 'date': -1}", unique = true)
 public class FacultyUsageMetric {
 
     @Id
     private String id;
+    @Indexed
     private LocalDate date;
     private String faculty;
     private int bookingCount;
@@ -1,6 +1,7 @@
 package com.courthub.analytics.domain;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
@@ -10,6 +11,7 @@ public class MaintenanceMetric {
 
     @Id
     private String id;
+    @Indexed(unique = true)
     private LocalDate date;
     private int criticalIssuesCount;
     private int highIssuesCount;
@@ -1,12 +1,14 @@
 package com.courthub.analytics.domain;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
 import java.util.Map;
 
 @Document(collection = "occupancy_metrics")
+@CompoundIndex(name = "date_court", def = "{'date': 1, 'courtId': 1}", unique = true)
 public class OccupancyMetric {
 
     @Id
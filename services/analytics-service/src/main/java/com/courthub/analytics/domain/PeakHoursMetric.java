@@ -3,22 +3,31 @@ package com.courthub.analytics.domain;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
-import java.util.Map;
-
-@Document(collection = "peak_hours_metrics")
+/**
+ * Confirmed bookings by day of week and hour, kept as one document holding a 7×24 matrix so the
+ * heatmap is read with a single lookup. Rows follow {@link java.time.DayOfWeek} order (Monday
+ * first), columns are hours of the day; a slot is incremented in place as {@code bookings.<day>.<hour>}.
+ */
+@Document(collection = "peak_hours_matrix")
 public class PeakHoursMetric {
 
+    public static final String WEEK_ID = "week";
+    public static final int DAYS = 7;
+    public static final int HOURS = 24;
+
     @Id
     private String id;
-    private String dayOfWeek;
-    private Map<String, Integer> hourlyBookings;
-    private long totalBookings;
+    private int[][] bookings;
 
     public PeakHoursMetric() {}
 
-    public PeakHoursMetric(String dayOfWeek, Map<String, Integer> hourlyBookings) {
-        this.dayOfWeek = dayOfWeek;
-        this.hourlyBookings = hourlyBookings;
+    public PeakHoursMetric(int[][] bookings) {
+        this.id = WEEK_ID;
+        this.bookings = bookings;
+    }
+
+    public static int[][] emptyMatrix() {
+        return new int[DAYS][HOURS];
     }
 
     // Getters and Setters
@@ -30,27 +39,11 @@ public class PeakHoursMetric {
         this.id = id;
     }
 
-    public String getDayOfWeek() {
-        return dayOfWeek;
-    }
-
-    public void setDayOfWeek(String dayOfWeek) {
-        this.dayOfWeek = dayOfWeek;
-    }
-
-    public Map<String, Integer> getHourlyBookings() {
-        return hourlyBookings;
-    }
-
-    public void setHourlyBookings(Map<String, Integer> hourlyBookings) {
-        this.hourlyBookings = hourlyBookings;
-    }
-
-    public long getTotalBookings() {
-        return totalBookings;
+    public int[][] getBookings() {
+        return bookings;
     }
 
-    public void setTotalBookings(long totalBookings) {
-        this.totalBookings = totalBookings;
+    public void setBookings(int[][] bookings) {
+        this.bookings = bookings;
     }
 }
@@ -0,0 +1,38 @@
+package com.courthub.analytics.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Bucket sizes of the {@link BookingRollup} hierarchy. Buckets start on the hour, at midnight, on
+ * Monday and on the first of the month; hours nest in days and days in weeks and months, weeks do
+ * not nest in months.
+ */
+public enum RollupGranularity {
+
+    HOUR,
+    DAY,
+    WEEK,
+    MONTH;
+
+    public LocalDateTime bucketStart(LocalDateTime time) {
+        LocalDateTime hour = time.truncatedTo(ChronoUnit.HOURS);
+        return switch (this) {
+            case HOUR -> hour;
+            case DAY -> hour.truncatedTo(ChronoUnit.DAYS);
+            case WEEK -> hour.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> hour.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        };
+    }
+
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return switch (this) {
+            case HOUR -> bucketStart.plusHours(1);
+            case DAY -> bucketStart.plusDays(1);
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+        };
+    }
+}
@@ -4,23 +4,41 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
+import java.util.List;
 
+/**
+ * The day's most active students, kept as one document per date (keyed by the ISO date) so a
+ * ranking is replaced by a single upsert and readers never see a partially written one.
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Document(collection = "student_rankings")
+@Document(collection = "student_rankings_daily")
 public class StudentRanking {
 
     @Id
     private String id;
 
+    @Indexed
     private LocalDate date;
-    private String userId;
-    private String userName;
-    private String faculty;
-    private int totalBookings;
-    private int totalHours;
+    private List<Entry> students;
+
+    public static String idOf(LocalDate date) {
+        return date.toString();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private String userId;
+        private String userName;
+        private String faculty;
+        private int totalBookings;
+        private int totalHours;
+    }
 }
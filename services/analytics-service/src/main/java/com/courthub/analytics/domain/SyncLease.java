@@ -0,0 +1,27 @@
+package com.courthub.analytics.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Time-bounded ownership of a cluster-wide job. {@code token} is incremented on every acquisition
+ * and never reset, so it orders the holders and serves as their fencing token.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "sync_leases")
+public class SyncLease {
+
+    @Id
+    private String id; // lease name
+    private String owner;
+    private long token;
+    private Instant acquiredAt;
+    private Instant expiresAt;
+}
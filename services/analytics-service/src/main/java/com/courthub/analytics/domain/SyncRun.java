@@ -0,0 +1,32 @@
+package com.courthub.analytics.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * One execution of the analytics sync by the replica holding the sync lease.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "sync_runs")
+public class SyncRun {
+
+    @Id
+    private String id;
+    private long token; // fencing token of the lease the run held
+    private String owner;
+    private String trigger; // scheduled or manual
+    @Indexed
+    private Instant startedAt;
+    private Instant finishedAt;
+    private long durationMs;
+    private String outcome; // RUNNING, SUCCESS, FAILED or LEASE_LOST
+    private String error;
+}
@@ -0,0 +1,25 @@
+package com.courthub.analytics.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Running confirmed-booking total per user, with the name and faculty captured by the last sync,
+ * so booking events can update faculty usage and the student ranking without calling user-service.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "user_activity")
+public class UserActivity {
+    @Id
+    private String id; // userId
+    private String name;
+    private String faculty;
+    @Indexed
+    private int confirmedBookings;
+}
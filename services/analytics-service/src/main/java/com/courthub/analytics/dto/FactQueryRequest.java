@@ -0,0 +1,13 @@
+package com.courthub.analytics.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public record FactQueryRequest(
+    List<String> groupBy,
+    Map<String, List<String>> filters,
+    LocalDate from,
+    LocalDate to,
+    Integer limit
+) {}
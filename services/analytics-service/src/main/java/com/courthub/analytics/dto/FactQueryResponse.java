@@ -0,0 +1,16 @@
+package com.courthub.analytics.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record FactQueryResponse(
+    List<String> groupBy,
+    List<Row> rows,
+    long matchedRows,
+    int tableRows,
+    int segments,
+    long tookMs,
+    Instant builtAt
+) {
+    public record Row(List<String> key, long count) {}
+}
@@ -4,5 +4,6 @@ public record FacultyUsageResponse(
     String faculty,
     int bookingCount,
     double averageOccupancy,
-    String color
+    String color,
+    long activeStudents
 ) {}
@@ -5,5 +5,6 @@ public record KPIsResponse(
     int totalStudents,
     int maintenanceIssues,
     int criticalIssues,
-    int resolvedIssues
+    int resolvedIssues,
+    long activeStudents
 ) {}
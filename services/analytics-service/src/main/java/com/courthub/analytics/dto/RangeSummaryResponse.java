@@ -0,0 +1,13 @@
+package com.courthub.analytics.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record RangeSummaryResponse(
+    LocalDateTime from,
+    LocalDateTime to,
+    int confirmedBookings,
+    int cancelledBookings,
+    Map<String, Integer> courtBookings,
+    int bucketsRead
+) {}
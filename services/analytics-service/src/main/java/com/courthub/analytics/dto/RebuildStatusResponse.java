@@ -0,0 +1,17 @@
+package com.courthub.analytics.dto;
+
+import java.time.Instant;
+
+public record RebuildStatusResponse(
+    String state, // IDLE, RUNNING, SUCCESS, FAILED, LEASE_LOST or HISTORY_TRUNCATED
+    Instant startedAt,
+    Instant finishedAt,
+    int partitions,
+    long eventsApplied,
+    long remainingOffsets,
+    String error
+) {
+    public static RebuildStatusResponse idle() {
+        return new RebuildStatusResponse("IDLE", null, null, 0, 0, 0, null);
+    }
+}
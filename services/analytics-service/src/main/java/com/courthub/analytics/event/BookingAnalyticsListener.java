@@ -0,0 +1,42 @@
+package com.courthub.analytics.event;
+
+import com.courthub.analytics.service.IncrementalAnalyticsService;
+import com.courthub.common.dto.PaymentEventPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingAnalyticsListener {
+
+    private final IncrementalAnalyticsService incrementalAnalyticsService;
+
+    @KafkaListener(topics = "booking.created",
+                   groupId = "analytics-service",
+                   containerFactory = "bookingEventKafkaListenerContainerFactory")
+    public void onBookingCreated(BookingEventPayload event) {
+        log.info("Received booking.created event: bookingId={}, courtId={}, status={}",
+                event.getBookingId(), event.getCourtId(), event.getStatus());
+        incrementalAnalyticsService.onBookingCreated(event);
+    }
+
+    @KafkaListener(topics = "booking.cancelled",
+                   groupId = "analytics-service",
+                   containerFactory = "bookingEventKafkaListenerContainerFactory")
+    public void onBookingCancelled(BookingEventPayload event) {
+        log.info("Received booking.cancelled event: bookingId={}, courtId={}",
+                event.getBookingId(), event.getCourtId());
+        incrementalAnalyticsService.onBookingCancelled(event);
+    }
+
+    @KafkaListener(topics = "payment.confirmed",
+                   groupId = "analytics-service",
+                   containerFactory = "paymentEventKafkaListenerContainerFactory")
+    public void onPaymentConfirmed(PaymentEventPayload event) {
+        log.info("Received payment.confirmed event: bookingId={}", event.bookingId());
+        incrementalAnalyticsService.onPaymentConfirmed(event.bookingId());
+    }
+}
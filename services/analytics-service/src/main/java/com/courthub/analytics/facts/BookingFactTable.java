@@ -0,0 +1,467 @@
+package com.courthub.analytics.facts;
+
+import com.courthub.common.dto.analytics.BookingInternalDTO;
+import com.courthub.common.dto.analytics.UserInternalDTO;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable, column-oriented copy of every booking, built by the sync and queried in memory.
+ * <p>
+ * Each column is a primitive array indexed by row: the date as an epoch day, the start hour, and
+ * dictionary codes for status, court and faculty (the user's faculty at build time). Status, court
+ * and faculty also have one bitmap per value, so equality filters on them are resolved by OR-ing
+ * and AND-ing bitmaps before any row is touched. A query then scans the candidate rows in parallel
+ * segments, each counting into a dense array indexed by the group key, and the segment arrays are
+ * summed at the end. Rows take 18 bytes plus one bit per bitmap.
+ * <p>
+ * {@link #writeTo} stores the columns and dictionaries, 14 bytes per row; {@link #readFrom} rebuilds
+ * the bitmaps, so replicas that did not run the sync can load the table instead of extracting it.
+ */
+public final class BookingFactTable {
+
+    public enum Dimension {
+        STATUS("status"),
+        COURT("court"),
+        FACULTY("faculty"),
+        DAY_OF_WEEK("dayOfWeek"),
+        HOUR("hour"),
+        MONTH("month"),
+        DATE("date");
+
+        private final String key;
+
+        Dimension(String key) {
+            this.key = key;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        public static Dimension fromKey(String key) {
+            for (Dimension dimension : values()) {
+                if (dimension.key.equals(key)) {
+                    return dimension;
+                }
+            }
+            throw new IllegalArgumentException("Unknown dimension: " + key);
+        }
+    }
+
+    public record Query(List<Dimension> groupBy, Map<Dimension, Collection<String>> filters,
+                        LocalDate from, LocalDate to) {
+    }
+
+    public record Group(List<String> key, long count) {
+    }
+
+    public record Result(List<Group> groups, long matchedRows, int segments) {
+    }
+
+    static final int MAX_GROUPS = 1 << 16;
+    private static final int MIN_SEGMENT_ROWS = 1 << 16;
+    private static final int NO_HOUR = 24;
+    private static final int UNKNOWN = 0; // faculty code of users without a faculty
+
+    private final int rows;
+    private final int[] date;
+    private final byte[] hour;
+    private final byte[] status;
+    private final int[] court;
+    private final int[] faculty;
+
+    private final String[] statuses;
+    private final String[] courts;
+    private final String[] faculties;
+
+    private final BitSet[] statusIndex;
+    private final BitSet[] courtIndex;
+    private final BitSet[] facultyIndex;
+
+    private final int minDay;
+    private final int days;
+    private final int[] monthOfDay; // day - minDay -> month code
+    private final YearMonth[] months;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private BookingFactTable(int rows, int[] date, byte[] hour, byte[] status, int[] court, int[] faculty,
+                             String[] statuses, String[] courts, String[] faculties) {
+        this.rows = rows;
+        this.date = date;
+        this.hour = hour;
+        this.status = status;
+        this.court = court;
+        this.faculty = faculty;
+
+        this.statuses = statuses;
+        this.courts = courts;
+        this.faculties = faculties;
+
+        this.statusIndex = new BitSet[statuses.length];
+        this.courtIndex = new BitSet[courts.length];
+        this.facultyIndex = new BitSet[faculties.length];
+        for (int row = 0; row < rows; row++) {
+            bitmap(statusIndex, status[row]).set(row);
+            bitmap(courtIndex, court[row]).set(row);
+            bitmap(facultyIndex, faculty[row]).set(row);
+        }
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int row = 0; row < rows; row++) {
+            min = Math.min(min, date[row]);
+            max = Math.max(max, date[row]);
+        }
+        this.minDay = rows > 0 ? min : 0;
+        this.days = rows > 0 ? max - min + 1 : 0;
+        this.monthOfDay = new int[days];
+        List<YearMonth> monthList = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            YearMonth month = YearMonth.from(LocalDate.ofEpochDay(minDay + day));
+            if (monthList.isEmpty() || !monthList.get(monthList.size() - 1).equals(month)) {
+                monthList.add(month);
+            }
+            monthOfDay[day] = monthList.size() - 1;
+        }
+        this.months = monthList.toArray(YearMonth[]::new);
+    }
+
+    public static BookingFactTable empty() {
+        return new Builder().build(List.of());
+    }
+
+    /**
+     * Writes the dictionaries and columns; the stream is flushed but not closed.
+     */
+    public void writeTo(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(FORMAT_VERSION);
+        writeDictionary(out, statuses);
+        writeDictionary(out, courts);
+        writeDictionary(out, faculties);
+        out.writeInt(rows);
+        for (int row = 0; row < rows; row++) {
+            out.writeInt(date[row]);
+        }
+        out.write(hour, 0, rows);
+        out.write(status, 0, rows);
+        for (int row = 0; row < rows; row++) {
+            out.writeInt(court[row]);
+        }
+        for (int row = 0; row < rows; row++) {
+            out.writeInt(faculty[row]);
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a table written by {@link #writeTo}.
+     *
+     * @throws IOException if the stream ends early or holds another format version
+     */
+    public static BookingFactTable readFrom(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported fact table format version: " + version);
+        }
+        String[] statuses = readDictionary(in);
+        String[] courts = readDictionary(in);
+        String[] faculties = readDictionary(in);
+        int rows = in.readInt();
+        int[] date = new int[rows];
+        for (int row = 0; row < rows; row++) {
+            date[row] = in.readInt();
+        }
+        byte[] hour = new byte[rows];
+        in.readFully(hour);
+        byte[] status = new byte[rows];
+        in.readFully(status);
+        int[] court = new int[rows];
+        for (int row = 0; row < rows; row++) {
+            court[row] = in.readInt();
+        }
+        int[] faculty = new int[rows];
+        for (int row = 0; row < rows; row++) {
+            faculty[row] = in.readInt();
+        }
+        return new BookingFactTable(rows, date, hour, status, court, faculty, statuses, courts, faculties);
+    }
+
+    private static void writeDictionary(DataOutputStream out, String[] values) throws IOException {
+        out.writeInt(values.length);
+        for (String value : values) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String[] readDictionary(DataInputStream in) throws IOException {
+        String[] values = new String[in.readInt()];
+        for (int code = 0; code < values.length; code++) {
+            values[code] = in.readUTF();
+        }
+        return values;
+    }
+
+    public int size() {
+        return rows;
+    }
+
+    public Result query(Query query) {
+        List<Dimension> groupBy = query.groupBy();
+        int[] cardinalities = new int[groupBy.size()];
+        long groups = 1;
+        for (int i = 0; i < groupBy.size(); i++) {
+            cardinalities[i] = Math.max(cardinality(groupBy.get(i)), 1);
+            groups *= cardinalities[i];
+            if (groups > MAX_GROUPS) {
+                throw new IllegalArgumentException("Group-by " + groupBy + " exceeds " + MAX_GROUPS + " groups");
+            }
+        }
+
+        BitSet candidates = null;
+        List<Dimension> scanned = new ArrayList<>();
+        List<boolean[]> allowed = new ArrayList<>();
+        for (Map.Entry<Dimension, Collection<String>> filter : query.filters().entrySet()) {
+            BitSet[] index = bitmapIndex(filter.getKey());
+            if (index != null) {
+                BitSet matching = new BitSet(rows);
+                for (int code = 0; code < index.length; code++) {
+                    if (index[code] != null && filter.getValue().contains(label(filter.getKey(), code))) {
+                        matching.or(index[code]);
+                    }
+                }
+                if (candidates == null) {
+                    candidates = matching;
+                } else {
+                    candidates.and(matching);
+                }
+            } else {
+                boolean[] codes = new boolean[cardinality(filter.getKey())];
+                for (int code = 0; code < codes.length; code++) {
+                    codes[code] = filter.getValue().contains(label(filter.getKey(), code));
+                }
+                scanned.add(filter.getKey());
+                allowed.add(codes);
+            }
+        }
+
+        int fromDay = query.from() != null ? (int) query.from().toEpochDay() : Integer.MIN_VALUE;
+        int toDay = query.to() != null ? (int) query.to().toEpochDay() : Integer.MAX_VALUE;
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int segmentRows = Math.max(MIN_SEGMENT_ROWS, rows / Math.max(parallelism * 4, 1) + 1);
+        int segments = (rows + segmentRows - 1) / segmentRows;
+        int groupCount = (int) groups;
+        BitSet filtered = candidates;
+
+        long[] counts = IntStream.range(0, segments).parallel()
+                .mapToObj(segment -> scan(segment * segmentRows, Math.min(rows, (segment + 1) * segmentRows),
+                        filtered, fromDay, toDay, scanned, allowed, groupBy, cardinalities, groupCount))
+                .reduce(new long[groupCount], BookingFactTable::sum);
+
+        List<Group> result = new ArrayList<>();
+        long matched = 0;
+        for (int key = 0; key < counts.length; key++) {
+            if (counts[key] > 0) {
+                matched += counts[key];
+                result.add(new Group(labels(key, groupBy, cardinalities), counts[key]));
+            }
+        }
+        result.sort((a, b) -> Long.compare(b.count(), a.count()));
+        return new Result(result, matched, segments);
+    }
+
+    private long[] scan(int start, int end, BitSet candidates, int fromDay, int toDay,
+                        List<Dimension> scanned, List<boolean[]> allowed,
+                        List<Dimension> groupBy, int[] cardinalities, int groupCount) {
+        long[] counts = new long[groupCount];
+        int row = candidates == null ? start : candidates.nextSetBit(start);
+        candidate:
+        while (row >= 0 && row < end) {
+            int day = date[row];
+            if (day >= fromDay && day <= toDay) {
+                for (int i = 0; i < scanned.size(); i++) {
+                    if (!allowed.get(i)[code(scanned.get(i), row)]) {
+                        row = next(candidates, row);
+                        continue candidate;
+                    }
+                }
+                int key = 0;
+                for (int i = 0; i < cardinalities.length; i++) {
+                    key = key * cardinalities[i] + code(groupBy.get(i), row);
+                }
+                counts[key]++;
+            }
+            row = next(candidates, row);
+        }
+        return counts;
+    }
+
+    private static int next(BitSet candidates, int row) {
+        return candidates == null ? row + 1 : candidates.nextSetBit(row + 1);
+    }
+
+    private static long[] sum(long[] a, long[] b) {
+        long[] total = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            total[i] = a[i] + b[i];
+        }
+        return total;
+    }
+
+    private List<String> labels(int key, List<Dimension> groupBy, int[] cardinalities) {
+        String[] labels = new String[groupBy.size()];
+        for (int i = groupBy.size() - 1; i >= 0; i--) {
+            labels[i] = label(groupBy.get(i), key % cardinalities[i]);
+            key /= cardinalities[i];
+        }
+        return List.of(labels);
+    }
+
+    private int cardinality(Dimension dimension) {
+        return switch (dimension) {
+            case STATUS -> statuses.length;
+            case COURT -> courts.length;
+            case FACULTY -> faculties.length;
+            case DAY_OF_WEEK -> 7;
+            case HOUR -> NO_HOUR + 1;
+            case MONTH -> months.length;
+            case DATE -> days;
+        };
+    }
+
+    private int code(Dimension dimension, int row) {
+        return switch (dimension) {
+            case STATUS -> status[row];
+            case COURT -> court[row];
+            case FACULTY -> faculty[row];
+            case DAY_OF_WEEK -> Math.floorMod(date[row] + 3, 7); // 1970-01-01 was a Thursday
+            case HOUR -> hour[row];
+            case MONTH -> monthOfDay[date[row] - minDay];
+            case DATE -> date[row] - minDay;
+        };
+    }
+
+    private String label(Dimension dimension, int code) {
+        return switch (dimension) {
+            case STATUS -> statuses[code];
+            case COURT -> courts[code];
+            case FACULTY -> faculties[code];
+            case DAY_OF_WEEK -> DayOfWeek.of(code + 1).toString();
+            case HOUR -> code == NO_HOUR ? "none" : String.format("%02d:00", code);
+            case MONTH -> months[code].toString();
+            case DATE -> LocalDate.ofEpochDay(minDay + code).toString();
+        };
+    }
+
+    private BitSet[] bitmapIndex(Dimension dimension) {
+        return switch (dimension) {
+            case STATUS -> statusIndex;
+            case COURT -> courtIndex;
+            case FACULTY -> facultyIndex;
+            default -> null;
+        };
+    }
+
+    private static BitSet bitmap(BitSet[] index, int code) {
+        if (index[code] == null) {
+            index[code] = new BitSet();
+        }
+        return index[code];
+    }
+
+    /**
+     * Appends bookings into growable columns. Faculties are resolved from the users when the table
+     * is built, so users can be extracted concurrently with the bookings.
+     */
+    public static final class Builder {
+
+        private int rows;
+        private int[] date = new int[1024];
+        private byte[] hour = new byte[1024];
+        private byte[] status = new byte[1024];
+        private int[] court = new int[1024];
+        private int[] user = new int[1024];
+
+        private final List<String> statuses = new ArrayList<>();
+        private final Map<String, Integer> statusCodes = new HashMap<>();
+        private final List<String> courts = new ArrayList<>();
+        private final Map<String, Integer> courtCodes = new HashMap<>();
+        private final List<String> users = new ArrayList<>();
+        private final Map<String, Integer> userCodes = new HashMap<>();
+
+        public void accept(BookingInternalDTO booking) {
+            if (booking.date() == null) {
+                return;
+            }
+            if (rows == date.length) {
+                int capacity = rows * 2;
+                date = Arrays.copyOf(date, capacity);
+                hour = Arrays.copyOf(hour, capacity);
+                status = Arrays.copyOf(status, capacity);
+                court = Arrays.copyOf(court, capacity);
+                user = Arrays.copyOf(user, capacity);
+            }
+            date[rows] = (int) booking.date().toEpochDay();
+            hour[rows] = (byte) (booking.startTime() != null ? booking.startTime().getHour() : NO_HOUR);
+            status[rows] = (byte) encode(String.valueOf(booking.status()), statuses, statusCodes);
+            court[rows] = encode(String.valueOf(booking.courtId()), courts, courtCodes);
+            user[rows] = booking.userId() != null ? encode(booking.userId(), users, userCodes) : -1;
+            rows++;
+        }
+
+        public BookingFactTable build(List<UserInternalDTO> knownUsers) {
+            if (statuses.size() > Byte.MAX_VALUE) {
+                throw new IllegalStateException("Too many booking statuses: " + statuses.size());
+            }
+            List<String> facultyNames = new ArrayList<>();
+            Map<String, Integer> facultyCodes = new HashMap<>();
+            encode("Unknown", facultyNames, facultyCodes); // UNKNOWN
+            int[] facultyOfUser = new int[users.size()];
+            for (UserInternalDTO known : knownUsers) {
+                Integer code = userCodes.get(known.id());
+                if (code != null && known.faculty() != null) {
+                    facultyOfUser[code] = encode(known.faculty(), facultyNames, facultyCodes);
+                }
+            }
+            int[] faculty = new int[rows];
+            for (int row = 0; row < rows; row++) {
+                int code = user[row];
+                faculty[row] = code >= 0 && code < facultyOfUser.length ? facultyOfUser[code] : UNKNOWN;
+            }
+            return new BookingFactTable(rows, Arrays.copyOf(date, rows), Arrays.copyOf(hour, rows),
+                    Arrays.copyOf(status, rows), Arrays.copyOf(court, rows), faculty,
+                    statuses.toArray(String[]::new), courts.toArray(String[]::new), facultyNames.toArray(String[]::new));
+        }
+
+        private static int encode(String value, List<String> dictionary, Map<String, Integer> codes) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                codes.put(value, code);
+                dictionary.add(value);
+            }
+            return code;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.courthub.analytics.repository;
+
+import com.courthub.analytics.domain.DashboardSnapshot;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.Optional;
+
+public interface DashboardSnapshotRepository extends MongoRepository<DashboardSnapshot, String> {
+
+    /**
+     * The snapshot without its serialized dashboard, to check whether it changed.
+     */
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'json': 0 }")
+    Optional<DashboardSnapshot> findHeaderById(String id);
+}
@@ -13,4 +13,5 @@ public interface FacultyUsageMetricRepository extends MongoRepository<FacultyUsa
     List<FacultyUsageMetric> findByDate(LocalDate date);
     List<FacultyUsageMetric> findByFaculty(String faculty);
     Optional<FacultyUsageMetric> findByDateAndFaculty(LocalDate date, String faculty);
+    Optional<FacultyUsageMetric> findTopByFacultyOrderByDateDesc(String faculty);
 }
@@ -3,8 +3,11 @@ package com.courthub.analytics.repository;
 import com.courthub.analytics.domain.ReservationHistory;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReservationHistoryRepository extends MongoRepository<ReservationHistory, String> {
     Optional<ReservationHistory> findByYearAndMonth(int year, String month);
+    List<ReservationHistory> findByYearIn(Collection<Integer> years);
 }
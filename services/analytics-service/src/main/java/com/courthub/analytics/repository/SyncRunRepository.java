@@ -0,0 +1,7 @@
+package com.courthub.analytics.repository;
+
+import com.courthub.analytics.domain.SyncRun;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface SyncRunRepository extends MongoRepository<SyncRun, String> {
+}
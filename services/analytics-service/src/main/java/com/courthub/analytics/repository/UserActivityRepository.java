@@ -0,0 +1,10 @@
+package com.courthub.analytics.repository;
+
+import com.courthub.analytics.domain.UserActivity;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface UserActivityRepository extends MongoRepository<UserActivity, String> {
+    List<UserActivity> findTop5ByConfirmedBookingsGreaterThanOrderByConfirmedBookingsDesc(int confirmedBookings);
+}
@@ -0,0 +1,68 @@
+package com.courthub.analytics.service;
+
+import com.courthub.analytics.domain.FacultyActiveUsers;
+import com.courthub.analytics.sketch.HyperLogLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Distinct users with a confirmed booking per faculty and date, kept as {@link HyperLogLog}
+ * sketches in {@code faculty_active_users}.
+ * <p>
+ * A user is recorded with a single {@code $max} on one register, which is atomic, idempotent under
+ * redelivery and order-independent, so every replica writes to the same document without
+ * coordination. Reading a day merges the faculty sketches into the campus-wide estimate. Sketches
+ * only grow: a cancelled booking does not remove its user.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActiveUserSketchService {
+
+    public record DailyActiveUsers(Map<String, Long> byFaculty, long total) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+
+    public void record(String faculty, LocalDate date, String userId) {
+        record(faculty, date, userId, MetricCollections.LIVE);
+    }
+
+    public void record(String faculty, LocalDate date, String userId, MetricCollections target) {
+        if (faculty == null || date == null || userId == null) {
+            return;
+        }
+        HyperLogLog.Observation observation = HyperLogLog.observe(userId, HyperLogLog.DEFAULT_PRECISION);
+        mongoTemplate.upsert(
+                new Query(where("date").is(date).and("faculty").is(faculty)),
+                new Update()
+                        .max("registers." + observation.register(), observation.rank())
+                        .setOnInsert("precision", HyperLogLog.DEFAULT_PRECISION),
+                FacultyActiveUsers.class, target.of(mongoTemplate, FacultyActiveUsers.class));
+    }
+
+    public DailyActiveUsers estimate(LocalDate date) {
+        Map<String, Long> byFaculty = new HashMap<>();
+        HyperLogLog campus = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        for (FacultyActiveUsers sketch : mongoTemplate.find(new Query(where("date").is(date)), FacultyActiveUsers.class)) {
+            int precision = sketch.getPrecision() > 0 ? sketch.getPrecision() : HyperLogLog.DEFAULT_PRECISION;
+            HyperLogLog faculty = HyperLogLog.fromRegisters(precision, sketch.getRegisters());
+            byFaculty.put(sketch.getFaculty(), faculty.estimate());
+            if (faculty.precision() == campus.precision()) {
+                campus.merge(faculty);
+            }
+        }
+        log.debug("Active users estimated: date={}, faculties={}, total={}", date, byFaculty.size(), campus.estimate());
+        return new DailyActiveUsers(byFaculty, campus.estimate());
+    }
+}
@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.TextStyle;
@@ -34,22 +35,33 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AnalyticsService {
 
+    private static final String[] HOUR_LABELS = new String[PeakHoursMetric.HOURS];
+
+    static {
+        for (int hour = 0; hour < HOUR_LABELS.length; hour++) {
+            HOUR_LABELS[hour] = String.format("%02d:00", hour);
+        }
+    }
+
     private final OccupancyMetricRepository occupancyMetricRepository;
     private final FacultyUsageMetricRepository facultyUsageMetricRepository;
     private final PeakHoursMetricRepository peakHoursMetricRepository;
     private final MaintenanceMetricRepository maintenanceMetricRepository;
     private final StudentRankingRepository studentRankingRepository;
     private final ReservationHistoryRepository reservationHistoryRepository;
+    private final ActiveUserSketchService activeUserSketchService;
 
     public DashboardResponse getDashboard() {
         LocalDate today = LocalDate.now();
         log.info("Building analytics dashboard for date={}", today);
 
-        KPIsResponse kpis = buildKPIs(today);
+        ActiveUserSketchService.DailyActiveUsers activeUsers = activeUserSketchService.estimate(today);
 
-        HeatmapResponse heatmap = buildHeatmap(today);
+        KPIsResponse kpis = buildKPIs(today, activeUsers);
 
-        List<FacultyUsageResponse> facultyUsage = buildFacultyUsage(today);
+        HeatmapResponse heatmap = buildHeatmap();
+
+        List<FacultyUsageResponse> facultyUsage = buildFacultyUsage(today, activeUsers);
 
         List<StudentRankingResponse> topActiveStudents = buildStudentRanking();
 
@@ -61,7 +73,7 @@ public class AnalyticsService {
         return response;
     }
 
-    private KPIsResponse buildKPIs(LocalDate date) {
+    private KPIsResponse buildKPIs(LocalDate date, ActiveUserSketchService.DailyActiveUsers activeUsers) {
         List<OccupancyMetric> occupancyMetrics = occupancyMetricRepository.findByDate(date);
         double avgOccupancyRate = occupancyMetrics.stream()
             .mapToDouble(OccupancyMetric::getOccupancyRate)
@@ -87,36 +99,34 @@ public class AnalyticsService {
             totalStudents,
             totalMaintenanceIssues,
             maintenanceMetric.getCriticalIssuesCount(),
-            maintenanceMetric.getResolvedIssuesCount()
+            maintenanceMetric.getResolvedIssuesCount(),
+            activeUsers.total()
         );
     }
 
-    private HeatmapResponse buildHeatmap(LocalDate date) {
-        Map<String, Map<String, Integer>> dayHourMatrix = new LinkedHashMap<>();
-
-        String[] daysOfWeek = {"MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY", "SUNDAY"};
+    private HeatmapResponse buildHeatmap() {
+        int[][] matrix = peakHoursMetricRepository.findById(PeakHoursMetric.WEEK_ID)
+            .map(PeakHoursMetric::getBookings)
+            .orElseGet(PeakHoursMetric::emptyMatrix);
 
-        for (String dayOfWeek : daysOfWeek) {
-            Optional<PeakHoursMetric> peakMetric = peakHoursMetricRepository.findByDayOfWeek(dayOfWeek);
-
-            Map<String, Integer> hourCounts = new TreeMap<>((h1, h2) -> {
-                int hour1 = Integer.parseInt(h1.split(":")[0]);
-                int hour2 = Integer.parseInt(h2.split(":")[0]);
-                return Integer.compare(hour1, hour2);
-            });
-
-            if (peakMetric.isPresent() && peakMetric.get().getHourlyBookings() != null) {
-                hourCounts.putAll(peakMetric.get().getHourlyBookings());
+        // Days in calendar order, and only booked hours in hour order, as the frontend expects
+        Map<String, Map<String, Integer>> dayHourMatrix = new LinkedHashMap<>();
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            int[] hours = dayOfWeek.ordinal() < matrix.length ? matrix[dayOfWeek.ordinal()] : null;
+            Map<String, Integer> hourCounts = new LinkedHashMap<>();
+            for (int hour = 0; hours != null && hour < Math.min(hours.length, PeakHoursMetric.HOURS); hour++) {
+                if (hours[hour] != 0) {
+                    hourCounts.put(HOUR_LABELS[hour], hours[hour]);
+                }
             }
-
-            dayHourMatrix.put(dayOfWeek, hourCounts);
+            dayHourMatrix.put(dayOfWeek.name(), hourCounts);
         }
 
         log.debug("Built heatmap with {} days of week data", dayHourMatrix.size());
         return new HeatmapResponse(dayHourMatrix);
     }
 
-    private List<FacultyUsageResponse> buildFacultyUsage(LocalDate date) {
+    private List<FacultyUsageResponse> buildFacultyUsage(LocalDate date, ActiveUserSketchService.DailyActiveUsers activeUsers) {
         List<FacultyUsageMetric> metrics = facultyUsageMetricRepository.findByDate(date);
         
         return metrics.stream()
@@ -124,7 +134,8 @@ public class AnalyticsService {
                 m.getFaculty(),
                 m.getBookingCount(),
                 m.getAverageOccupancyRate() * 100,
-                m.getColor()
+                m.getColor(),
+                activeUsers.byFaculty().getOrDefault(m.getFaculty(), 0L)
             ))
             .sorted(Comparator.comparingInt(FacultyUsageResponse::bookingCount).reversed())
             .collect(Collectors.toList());
@@ -132,15 +143,12 @@ public class AnalyticsService {
 
     private List<StudentRankingResponse> buildStudentRanking() {
         Optional<StudentRanking> latest = studentRankingRepository.findTopByOrderByDateDesc();
-        if (latest.isEmpty()) {
+        if (latest.isEmpty() || latest.get().getStudents() == null) {
             return Collections.emptyList();
         }
 
-        LocalDate date = latest.get().getDate();
-        List<StudentRanking> rankings = studentRankingRepository.findByDate(date);
-
-        return rankings.stream()
-            .sorted(Comparator.comparingInt(StudentRanking::getTotalBookings).reversed())
+        return latest.get().getStudents().stream()
+            .sorted(Comparator.comparingInt(StudentRanking.Entry::getTotalBookings).reversed())
             .map(r -> new StudentRankingResponse(
                 r.getUserId(),
                 r.getUserName(),
@@ -156,14 +164,19 @@ public class AnalyticsService {
         List<ReservationHistoryResponse> history = new ArrayList<>();
         YearMonth current = YearMonth.now();
 
+        Map<String, ReservationHistory> byYearAndMonth = new HashMap<>();
+        for (ReservationHistory record : reservationHistoryRepository.findByYearIn(
+                List.of(current.minusMonths(5).getYear(), current.getYear()))) {
+            byYearAndMonth.put(record.getYear() + "|" + record.getMonth(), record);
+        }
+
         for (int i = 5; i >= 0; i--) {
             YearMonth target = current.minusMonths(i);
             String month = target.getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH);
             int year = target.getYear();
 
-            ReservationHistory record = reservationHistoryRepository
-                .findByYearAndMonth(year, month)
-                .orElse(new ReservationHistory(null, month, 0, 0, year));
+            ReservationHistory record = byYearAndMonth.getOrDefault(year + "|" + month,
+                new ReservationHistory(null, month, 0, 0, year));
 
             history.add(new ReservationHistoryResponse(
                 record.getMonth(),
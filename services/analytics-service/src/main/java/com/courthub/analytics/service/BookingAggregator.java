@@ -0,0 +1,312 @@
+package com.courthub.analytics.service;
+
+import com.courthub.common.dto.analytics.BookingInternalDTO;
+import com.courthub.common.dto.analytics.UserInternalDTO;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Computes every booking-based metric family of the sync in one pass over the bookings, which are
+ * pushed in one at a time through {@link #accept} so they never need to be held in memory together.
+ * <p>
+ * Court and user ids are dictionary-encoded to dense ints on first sight, and the counts live in
+ * primitive arrays: a day-of-week by hour matrix for peak hours, one cell per date and court (24
+ * hourly confirmed counts, the day total, then 24 hourly cancelled counts) for occupancy and the
+ * rollups, and per-month and per-user counters.
+ * Faculty usage is derived from the per-user counts when read, so users can be extracted
+ * concurrently with the bookings. Strings, boxed counts and maps are only built when the results
+ * are read, once per output row instead of once per booking.
+ */
+final class BookingAggregator {
+
+    private static final int HOURS = 24;
+    private static final int OCCUPIED = HOURS; // day total, stored after the hourly counts
+    private static final int CANCELLED = OCCUPIED + 1; // first of the hourly cancelled counts
+    private static final int CELL_SIZE = CANCELLED + HOURS;
+    private static final String[] HOUR_LABELS = new String[HOURS];
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+
+    static {
+        for (int hour = 0; hour < HOURS; hour++) {
+            HOUR_LABELS[hour] = String.format("%02d:00", hour);
+        }
+    }
+
+    record OccupancyCell(LocalDate date, String courtId, int occupiedSlots, Map<String, Integer> hourlyOccupancy) {
+    }
+
+    record MonthCounts(YearMonth yearMonth, int completedCount, int cancelledCount) {
+    }
+
+    record UserCount(String userId, int confirmedBookings) {
+    }
+
+    record HourCount(LocalDateTime hour, String courtId, int confirmed, int cancelled) {
+    }
+
+    private final Map<String, Integer> courtIndex = new HashMap<>();
+    private final List<String> courtIds = new ArrayList<>();
+
+    private final Map<String, Integer> userIndex = new HashMap<>();
+    private final List<String> userIds = new ArrayList<>();
+    private int[] confirmedByUser = new int[16];
+
+    private final int[][] peakHours = new int[DAYS.length][HOURS];
+
+    // epochDay - firstDay -> court index -> int[CELL_SIZE]; null when the date/court had no booking
+    private int firstDay;
+    private int[][][] occupancy = new int[0][][];
+
+    // (year * 12 + month - 1) - firstMonth -> {completed, cancelled}; null when the month had no booking
+    private int firstMonth;
+    private int[][] months = new int[0][];
+
+    private int bookingCount;
+
+    void accept(BookingInternalDTO booking) {
+        bookingCount++;
+        String status = booking.status();
+        boolean confirmed = "CONFIRMED".equals(status);
+
+        if (confirmed && booking.userId() != null) {
+            // Resolve first: userIndex may replace the array, which the indexing would already have read
+            int user = userIndex(booking.userId());
+            confirmedByUser[user]++;
+        }
+
+        LocalDate date = booking.date();
+        if (date == null) {
+            return;
+        }
+
+        int[] month = monthCounts(date.getYear() * 12 + date.getMonthValue() - 1);
+        if (confirmed || "COMPLETED".equals(status)) {
+            month[0]++;
+        } else if ("CANCELLED".equals(status)) {
+            month[1]++;
+        }
+
+        int[] cell = occupancyCell((int) date.toEpochDay(), courtIndex(booking.courtId()));
+        if (confirmed && booking.startTime() != null) {
+            int hour = booking.startTime().getHour();
+            cell[hour]++;
+            cell[OCCUPIED]++;
+
+            int dayOfWeek = date.getDayOfWeek().ordinal();
+            peakHours[dayOfWeek][hour]++;
+        } else if ("CANCELLED".equals(status) && booking.startTime() != null) {
+            cell[CANCELLED + booking.startTime().getHour()]++;
+        }
+    }
+
+    boolean isEmpty() {
+        return bookingCount == 0;
+    }
+
+    int size() {
+        return bookingCount;
+    }
+
+    List<OccupancyCell> occupancy() {
+        List<OccupancyCell> cells = new ArrayList<>();
+        for (int day = 0; day < occupancy.length; day++) {
+            int[][] courts = occupancy[day];
+            if (courts == null) {
+                continue;
+            }
+            LocalDate date = LocalDate.ofEpochDay(firstDay + day);
+            for (int court = 0; court < courts.length; court++) {
+                int[] cell = courts[court];
+                if (cell != null) {
+                    cells.add(new OccupancyCell(date, courtIds.get(court), cell[OCCUPIED], hourly(cell)));
+                }
+            }
+        }
+        return cells;
+    }
+
+    List<HourCount> hourCounts() {
+        List<HourCount> counts = new ArrayList<>();
+        for (int day = 0; day < occupancy.length; day++) {
+            int[][] courts = occupancy[day];
+            if (courts == null) {
+                continue;
+            }
+            LocalDate date = LocalDate.ofEpochDay(firstDay + day);
+            for (int court = 0; court < courts.length; court++) {
+                int[] cell = courts[court];
+                if (cell == null) {
+                    continue;
+                }
+                for (int hour = 0; hour < HOURS; hour++) {
+                    if (cell[hour] > 0 || cell[CANCELLED + hour] > 0) {
+                        counts.add(new HourCount(date.atTime(hour, 0), courtIds.get(court),
+                                cell[hour], cell[CANCELLED + hour]));
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Confirmed bookings by day of week (Monday first) and hour.
+     */
+    int[][] peakHours() {
+        int[][] matrix = new int[DAYS.length][];
+        for (int day = 0; day < DAYS.length; day++) {
+            matrix[day] = peakHours[day].clone();
+        }
+        return matrix;
+    }
+
+    Map<String, Integer> facultyUsage(List<UserInternalDTO> users) {
+        Map<String, Integer> usage = new HashMap<>();
+        for (UserInternalDTO user : users) {
+            int confirmed = confirmedBookings(user.id());
+            if (confirmed > 0 && user.faculty() != null) {
+                usage.merge(user.faculty(), confirmed, Integer::sum);
+            }
+        }
+        return usage;
+    }
+
+    List<MonthCounts> reservationHistory() {
+        List<MonthCounts> rows = new ArrayList<>();
+        for (int offset = 0; offset < months.length; offset++) {
+            int[] counts = months[offset];
+            if (counts != null) {
+                int month = firstMonth + offset;
+                rows.add(new MonthCounts(YearMonth.of(month / 12, month % 12 + 1), counts[0], counts[1]));
+            }
+        }
+        return rows;
+    }
+
+    int confirmedBookings(String userId) {
+        Integer index = userIndex.get(userId);
+        return index != null ? confirmedByUser[index] : 0;
+    }
+
+    /**
+     * Selects the {@code limit} users with the most confirmed bookings with a min-heap of
+     * {@code limit} entries, so the selection costs O(users log limit) and no list of all users.
+     */
+    List<UserCount> topUsers(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1,
+                (a, b) -> Integer.compare(confirmedByUser[a], confirmedByUser[b]));
+        for (int user = 0; user < userIds.size(); user++) {
+            if (confirmedByUser[user] == 0) {
+                continue;
+            }
+            if (heap.size() < limit) {
+                heap.add(user);
+            } else if (confirmedByUser[user] > confirmedByUser[heap.peek()]) {
+                heap.poll();
+                heap.add(user);
+            }
+        }
+
+        UserCount[] top = new UserCount[heap.size()];
+        for (int i = top.length - 1; i >= 0; i--) {
+            int user = heap.poll();
+            top[i] = new UserCount(userIds.get(user), confirmedByUser[user]);
+        }
+        return Arrays.asList(top);
+    }
+
+    private static Map<String, Integer> hourly(int[] counts) {
+        Map<String, Integer> hourly = new HashMap<>();
+        for (int hour = 0; hour < HOURS; hour++) {
+            if (counts[hour] > 0) {
+                hourly.put(HOUR_LABELS[hour], counts[hour]);
+            }
+        }
+        return hourly;
+    }
+
+    private int courtIndex(String courtId) {
+        Integer index = courtIndex.get(courtId);
+        if (index == null) {
+            index = courtIds.size();
+            courtIndex.put(courtId, index);
+            courtIds.add(courtId);
+        }
+        return index;
+    }
+
+    private int userIndex(String userId) {
+        Integer index = userIndex.get(userId);
+        if (index == null) {
+            index = userIds.size();
+            userIndex.put(userId, index);
+            userIds.add(userId);
+            if (index >= confirmedByUser.length) {
+                confirmedByUser = Arrays.copyOf(confirmedByUser, confirmedByUser.length * 2);
+            }
+        }
+        return index;
+    }
+
+    private int[] occupancyCell(int epochDay, int court) {
+        if (occupancy.length == 0) {
+            firstDay = epochDay;
+        }
+        int offset = epochDay - firstDay;
+        if (offset < 0) {
+            int shift = Math.max(-offset, occupancy.length);
+            int[][][] grown = new int[occupancy.length + shift][][];
+            System.arraycopy(occupancy, 0, grown, shift, occupancy.length);
+            occupancy = grown;
+            firstDay -= shift;
+            offset += shift;
+        } else if (offset >= occupancy.length) {
+            occupancy = Arrays.copyOf(occupancy, Math.max(offset + 1, occupancy.length * 2));
+        }
+
+        int[][] courts = occupancy[offset];
+        if (courts == null || court >= courts.length) {
+            courts = courts == null ? new int[Math.max(court + 1, courtIds.size())][]
+                    : Arrays.copyOf(courts, Math.max(court + 1, courtIds.size()));
+            occupancy[offset] = courts;
+        }
+        if (courts[court] == null) {
+            courts[court] = new int[CELL_SIZE];
+        }
+        return courts[court];
+    }
+
+    private int[] monthCounts(int month) {
+        if (months.length == 0) {
+            firstMonth = month;
+        }
+        int offset = month - firstMonth;
+        if (offset < 0) {
+            int shift = Math.max(-offset, months.length);
+            int[][] grown = new int[months.length + shift][];
+            System.arraycopy(months, 0, grown, shift, months.length);
+            months = grown;
+            firstMonth -= shift;
+            offset += shift;
+        } else if (offset >= months.length) {
+            months = Arrays.copyOf(months, Math.max(offset + 1, months.length * 2));
+        }
+
+        if (months[offset] == null) {
+            months[offset] = new int[2];
+        }
+        return months[offset];
+    }
+}
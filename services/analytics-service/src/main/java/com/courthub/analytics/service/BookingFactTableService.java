@@ -0,0 +1,166 @@
+package com.courthub.analytics.service;
+
+import com.courthub.analytics.dto.FactQueryRequest;
+import com.courthub.analytics.dto.FactQueryResponse;
+import com.courthub.analytics.facts.BookingFactTable;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.gridfs.GridFsOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Holds the {@link BookingFactTable} built by the latest sync and answers ad-hoc group-by queries
+ * against it. The table is replaced as a whole by each sync, so queries never see a half-built
+ * one.
+ * <p>
+ * Only the sync lease holder builds the table, so it is also stored, compressed, in GridFS, and
+ * every replica loads a newer stored table every {@code analytics.facts.refresh-interval-ms}. A
+ * replica that has neither built nor loaded one yet answers no query rather than an empty result.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingFactTableService {
+
+    static final String FILE_NAME = "booking-fact-table";
+
+    private static final int DEFAULT_LIMIT = 1000;
+
+    private record Published(BookingFactTable table, Instant builtAt) {
+    }
+
+    private final AtomicReference<Published> current =
+            new AtomicReference<>(new Published(BookingFactTable.empty(), null));
+
+    private final GridFsOperations gridFsOperations;
+
+    @Value("${analytics.facts.enabled:true}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void publish(BookingFactTable table) {
+        // Truncated to what the stored copy keeps, so every replica reports the same build time
+        Instant builtAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        current.set(new Published(table, builtAt));
+        log.info("Booking fact table published: rows={}", table.size());
+        try {
+            persist(table, builtAt);
+        } catch (IOException | DataAccessException e) {
+            log.warn("Failed to persist booking fact table: rows={}", table.size(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.facts.refresh-interval-ms:60000}")
+    public void refreshFromPersisted() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            loadIfNewer();
+        } catch (Exception e) {
+            log.warn("Failed to load the persisted booking fact table", e);
+        }
+    }
+
+    /**
+     * Stores the table, then removes the copies stored before it.
+     */
+    private void persist(BookingFactTable table, Instant builtAt) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            table.writeTo(out);
+        }
+        gridFsOperations.store(new ByteArrayInputStream(bytes.toByteArray()), FILE_NAME, "application/octet-stream",
+                new Document("builtAt", Date.from(builtAt)).append("rows", table.size()));
+        gridFsOperations.delete(new Query(where("filename").is(FILE_NAME).and("metadata.builtAt").lt(Date.from(builtAt))));
+        log.debug("Booking fact table persisted: rows={}, bytes={}", table.size(), bytes.size());
+    }
+
+    synchronized void loadIfNewer() throws IOException {
+        GridFSFile file = gridFsOperations.findOne(new Query(where("filename").is(FILE_NAME))
+                .with(Sort.by(Sort.Direction.DESC, "metadata.builtAt")).limit(1));
+        if (file == null || file.getMetadata() == null || !(file.getMetadata().get("builtAt") instanceof Date stored)) {
+            return;
+        }
+        Instant builtAt = stored.toInstant();
+        Instant currentBuiltAt = current.get().builtAt();
+        if (currentBuiltAt != null && !builtAt.isAfter(currentBuiltAt)) {
+            return;
+        }
+        BookingFactTable table;
+        try (InputStream in = new GZIPInputStream(gridFsOperations.getResource(file).getInputStream())) {
+            table = BookingFactTable.readFrom(in);
+        }
+        current.set(new Published(table, builtAt));
+        log.info("Booking fact table loaded: rows={}, builtAt={}", table.size(), builtAt);
+    }
+
+    /**
+     * @return the result, or empty when this instance has neither built nor loaded a table yet
+     * @throws IllegalArgumentException if the request names an unknown dimension or groups too finely
+     */
+    public Optional<FactQueryResponse> query(FactQueryRequest request) {
+        List<BookingFactTable.Dimension> groupBy = new ArrayList<>();
+        if (request.groupBy() != null) {
+            for (String key : request.groupBy()) {
+                groupBy.add(BookingFactTable.Dimension.fromKey(key));
+            }
+        }
+        Map<BookingFactTable.Dimension, Collection<String>> filters =
+                new EnumMap<>(BookingFactTable.Dimension.class);
+        if (request.filters() != null) {
+            request.filters().forEach((key, values) ->
+                    filters.put(BookingFactTable.Dimension.fromKey(key), values != null ? new HashSet<>(values) : Set.of()));
+        }
+
+        Published published = current.get();
+        if (published.builtAt() == null) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        BookingFactTable.Result result = published.table().query(
+                new BookingFactTable.Query(groupBy, filters, request.from(), request.to()));
+        long tookMs = (System.nanoTime() - start) / 1_000_000;
+
+        int limit = request.limit() != null && request.limit() > 0 ? request.limit() : DEFAULT_LIMIT;
+        List<FactQueryResponse.Row> rows = result.groups().stream()
+                .limit(limit)
+                .map(group -> new FactQueryResponse.Row(group.key(), group.count()))
+                .toList();
+        log.debug("Fact query executed: groupBy={}, filters={}, matched={}, rows={}, tookMs={}",
+                request.groupBy(), filters.keySet(), result.matchedRows(), published.table().size(), tookMs);
+        return Optional.of(new FactQueryResponse(request.groupBy() != null ? request.groupBy() : List.of(), rows,
+                result.matchedRows(), published.table().size(), result.segments(), tookMs, published.builtAt()));
+    }
+}
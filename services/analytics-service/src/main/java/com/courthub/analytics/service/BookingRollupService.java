@@ -0,0 +1,131 @@
+package com.courthub.analytics.service;
+
+import com.courthub.analytics.domain.BookingRollup;
+import com.courthub.analytics.domain.RollupGranularity;
+import com.courthub.analytics.dto.RangeSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Maintains and reads the {@link BookingRollup} buckets.
+ * <p>
+ * Every booking counts in one bucket of each granularity. A range is answered by covering it with
+ * the coarsest buckets that fit (months, then weeks, days and hours at the edges) and summing them,
+ * so any period costs one indexed query over a few dozen documents at most, instead of a scan of
+ * the bookings.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingRollupService {
+
+    private static final RollupGranularity[] COARSEST_FIRST = {
+            RollupGranularity.MONTH, RollupGranularity.WEEK, RollupGranularity.DAY, RollupGranularity.HOUR
+    };
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Applies a booking change to the bucket of every granularity in one unordered bulk write.
+     */
+    public void increment(LocalDate date, LocalTime startTime, String courtId, int confirmedDelta, int cancelledDelta) {
+        increment(date, startTime, courtId, confirmedDelta, cancelledDelta, MetricCollections.LIVE);
+    }
+
+    public void increment(LocalDate date, LocalTime startTime, String courtId, int confirmedDelta, int cancelledDelta,
+                          MetricCollections target) {
+        if (date == null || startTime == null) {
+            return;
+        }
+        LocalDateTime time = date.atTime(startTime);
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, BookingRollup.class,
+                target.of(mongoTemplate, BookingRollup.class));
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            Update update = new Update()
+                    .inc("confirmedBookings", confirmedDelta)
+                    .inc("cancelledBookings", cancelledDelta);
+            if (courtId != null && confirmedDelta != 0) {
+                update.inc("courtBookings." + courtId, confirmedDelta);
+            }
+            bulk.upsert(bucketQuery(granularity, granularity.bucketStart(time)), update);
+        }
+        bulk.execute();
+    }
+
+    public RangeSummaryResponse summarize(LocalDateTime from, LocalDateTime to) {
+        Map<RollupGranularity, List<LocalDateTime>> buckets = cover(from, to);
+
+        List<Criteria> criteria = new ArrayList<>(buckets.size());
+        buckets.forEach((granularity, starts) ->
+                criteria.add(where("granularity").is(granularity.name()).and("bucketStart").in(starts)));
+        List<BookingRollup> rollups = criteria.isEmpty() ? List.of()
+                : mongoTemplate.find(new Query(new Criteria().orOperator(criteria)), BookingRollup.class);
+
+        int confirmed = 0;
+        int cancelled = 0;
+        Map<String, Integer> courtBookings = new HashMap<>();
+        for (BookingRollup rollup : rollups) {
+            confirmed += rollup.getConfirmedBookings();
+            cancelled += rollup.getCancelledBookings();
+            if (rollup.getCourtBookings() != null) {
+                rollup.getCourtBookings().forEach((court, count) -> courtBookings.merge(court, count, Integer::sum));
+            }
+        }
+        courtBookings.values().removeIf(count -> count <= 0);
+
+        log.debug("Range summarized: from={}, to={}, buckets={}, documents={}",
+                from, to, buckets.values().stream().mapToInt(List::size).sum(), rollups.size());
+        return new RangeSummaryResponse(from, to, confirmed, cancelled, courtBookings, rollups.size());
+    }
+
+    static Query bucketQuery(RollupGranularity granularity, LocalDateTime bucketStart) {
+        return new Query(where("granularity").is(granularity.name()).and("bucketStart").is(bucketStart));
+    }
+
+    /**
+     * Splits {@code [from, to)}, both truncated to the hour, into the fewest buckets the greedy walk
+     * finds. Weeks straddle month starts, so a week or finer bucket is not allowed to cross the
+     * next month start while a whole month still fits after it; otherwise a range starting
+     * mid-month would be tiled in weeks to its end.
+     */
+    static Map<RollupGranularity, List<LocalDateTime>> cover(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime end = to.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime cursor = from.truncatedTo(ChronoUnit.HOURS);
+        Map<RollupGranularity, List<LocalDateTime>> buckets = new EnumMap<>(RollupGranularity.class);
+        while (cursor.isBefore(end)) {
+            LocalDateTime nextMonth = RollupGranularity.MONTH.next(RollupGranularity.MONTH.bucketStart(cursor));
+            LocalDateTime limit = RollupGranularity.MONTH.next(nextMonth).isAfter(end) ? end : nextMonth;
+
+            RollupGranularity chosen = RollupGranularity.HOUR;
+            for (RollupGranularity granularity : COARSEST_FIRST) {
+                LocalDateTime bucketEnd = granularity.next(cursor);
+                boolean fits = !bucketEnd.isAfter(granularity == RollupGranularity.MONTH ? end : limit);
+                if (granularity.bucketStart(cursor).equals(cursor) && fits) {
+                    chosen = granularity;
+                    break;
+                }
+            }
+            buckets.computeIfAbsent(chosen, g -> new ArrayList<>()).add(cursor);
+            cursor = chosen.next(cursor);
+        }
+        return buckets;
+    }
+}
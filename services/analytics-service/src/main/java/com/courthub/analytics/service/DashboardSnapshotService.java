@@ -0,0 +1,160 @@
+package com.courthub.analytics.service;
+
+import com.courthub.analytics.domain.DashboardSnapshot;
+import com.courthub.analytics.dto.DashboardResponse;
+import com.courthub.analytics.repository.DashboardSnapshotRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the complete dashboard as a snapshot built once per change instead of once per request.
+ * <p>
+ * The snapshot is rebuilt from the metric collections at the end of every sync, and at most every
+ * {@code analytics.dashboard.refresh-interval-ms} after incremental booking events mark it stale.
+ * Each rebuild is published with a single reference swap, so readers always see one complete
+ * dashboard, and persisted so a restarted instance serves the last one without rebuilding.
+ * Replicas that did not build it (the sync runs only on the lease holder, and each replica only
+ * sees the events of its own partitions) pick up a newer persisted snapshot on the same schedule.
+ * Published snapshots are never mutated. The ETag is a hash of the serialized dashboard.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardSnapshotService {
+
+    static final String SNAPSHOT_ID = "current";
+
+    public record Snapshot(DashboardResponse dashboard, String etag, LocalDate date, Instant builtAt) {
+    }
+
+    private final AnalyticsService analyticsService;
+    private final DashboardSnapshotRepository snapshotRepository;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicBoolean stale = new AtomicBoolean();
+
+    public Snapshot getSnapshot() {
+        Snapshot snapshot = current.get();
+        if (snapshot == null || !snapshot.date().equals(LocalDate.now())) {
+            // First request before the startup load finished, or the day rolled over
+            snapshot = refresh();
+        }
+        return snapshot;
+    }
+
+    public void markStale() {
+        stale.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.dashboard.refresh-interval-ms:30000}")
+    public void refreshIfStale() {
+        if (stale.getAndSet(false)) {
+            refresh();
+            return;
+        }
+        try {
+            loadIfNewer();
+        } catch (Exception e) {
+            log.warn("Failed to check the persisted dashboard snapshot", e);
+        }
+    }
+
+    /**
+     * Adopts the persisted snapshot when another replica published a newer one for today; only its
+     * ETag and build time are read unless it changed.
+     */
+    synchronized void loadIfNewer() throws JsonProcessingException {
+        DashboardSnapshot header = snapshotRepository.findHeaderById(SNAPSHOT_ID).orElse(null);
+        if (header == null || !isNewer(header, current.get())) {
+            return;
+        }
+        DashboardSnapshot persisted = snapshotRepository.findById(SNAPSHOT_ID).orElse(null);
+        if (persisted != null && isNewer(persisted, current.get())) {
+            current.set(toSnapshot(persisted));
+            log.info("Dashboard snapshot loaded: etag={}, builtAt={}", persisted.getEtag(), persisted.getBuiltAt());
+        }
+    }
+
+    private static boolean isNewer(DashboardSnapshot persisted, Snapshot snapshot) {
+        if (!LocalDate.now().equals(persisted.getDate()) || persisted.getBuiltAt() == null) {
+            return false;
+        }
+        return snapshot == null
+                || (!persisted.getEtag().equals(snapshot.etag()) && persisted.getBuiltAt().isAfter(snapshot.builtAt()));
+    }
+
+    private Snapshot toSnapshot(DashboardSnapshot persisted) throws JsonProcessingException {
+        DashboardResponse dashboard = objectMapper.readValue(persisted.getJson(), DashboardResponse.class);
+        return new Snapshot(dashboard, persisted.getEtag(), persisted.getDate(), persisted.getBuiltAt());
+    }
+
+    public synchronized Snapshot refresh() {
+        LocalDate today = LocalDate.now();
+        Snapshot existing = current.get();
+        DashboardResponse dashboard = analyticsService.getDashboard();
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(dashboard);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize dashboard snapshot", e);
+        }
+        String etag = etag(json);
+        if (existing != null && existing.etag().equals(etag) && existing.date().equals(today)) {
+            log.debug("Dashboard snapshot unchanged: etag={}", etag);
+            return existing;
+        }
+
+        Snapshot snapshot = new Snapshot(dashboard, etag, today, Instant.now());
+        current.set(snapshot);
+        try {
+            snapshotRepository.save(new DashboardSnapshot(SNAPSHOT_ID, today, etag, snapshot.builtAt(), json));
+        } catch (DataAccessException e) {
+            log.warn("Failed to persist dashboard snapshot: etag={}", etag, e);
+        }
+        log.info("Dashboard snapshot published: date={}, etag={}", today, etag);
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPersisted() {
+        try {
+            DashboardSnapshot persisted = snapshotRepository.findById(SNAPSHOT_ID).orElse(null);
+            if (persisted != null && LocalDate.now().equals(persisted.getDate())) {
+                current.compareAndSet(null, toSnapshot(persisted));
+                log.info("Dashboard snapshot loaded: etag={}, builtAt={}", persisted.getEtag(), persisted.getBuiltAt());
+                return;
+            }
+            refresh();
+        } catch (Exception e) {
+            log.warn("Failed to load dashboard snapshot, it will be built on first request", e);
+        }
+    }
+
+    private static String etag(String json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
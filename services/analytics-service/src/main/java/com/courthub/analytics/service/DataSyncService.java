@@ -2,49 +2,100 @@ package com.courthub.analytics.service;
 
 import com.courthub.analytics.client.BookingServiceFeignClient;
 import com.courthub.analytics.client.CourtServiceFeignClient;
+import com.courthub.analytics.client.InternalPageReader;
 import com.courthub.analytics.client.UserServiceFeignClient;
 import com.courthub.common.dto.analytics.BookingInternalDTO;
 import com.courthub.common.dto.analytics.CourtIssueInternalDTO;
 import com.courthub.common.dto.analytics.UserInternalDTO;
+import com.courthub.analytics.domain.BookingRollup;
 import com.courthub.analytics.domain.FacultyUsageMetric;
 import com.courthub.analytics.domain.MaintenanceMetric;
 import com.courthub.analytics.domain.OccupancyMetric;
 import com.courthub.analytics.domain.PeakHoursMetric;
 import com.courthub.analytics.domain.ReservationHistory;
+import com.courthub.analytics.domain.RollupGranularity;
 import com.courthub.analytics.domain.StudentRanking;
-import com.courthub.analytics.repository.FacultyUsageMetricRepository;
-import com.courthub.analytics.repository.MaintenanceMetricRepository;
-import com.courthub.analytics.repository.OccupancyMetricRepository;
-import com.courthub.analytics.repository.PeakHoursMetricRepository;
-import com.courthub.analytics.repository.ReservationHistoryRepository;
-import com.courthub.analytics.repository.StudentRankingRepository;
+import com.courthub.analytics.domain.SyncRun;
+import com.courthub.analytics.domain.UserActivity;
+import com.courthub.analytics.facts.BookingFactTable;
+import com.courthub.analytics.repository.SyncRunRepository;
+import com.mongodb.bulk.BulkWriteResult;
 import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.TextStyle;
 import java.util.Locale;
 import java.util.*;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Hourly full recomputation of every dashboard aggregate from booking-, user- and court-service.
+ * <p>
+ * Booking aggregates are kept current between runs by {@link IncrementalAnalyticsService}; this
+ * job reconciles them, overwriting any drift left by lost events or by events applied while it ran.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DataSyncService {
 
+    static final int TOTAL_SLOTS_PER_DAY = 8; // 8am-4pm with 1-hour slots
+    static final String SYNC_LEASE = "analytics-sync";
+
+    private final InternalPageReader pageReader;
     private final BookingServiceFeignClient bookingServiceFeignClient;
     private final UserServiceFeignClient userServiceFeignClient;
     private final CourtServiceFeignClient courtServiceFeignClient;
-    private final OccupancyMetricRepository occupancyMetricRepository;
-    private final FacultyUsageMetricRepository facultyUsageMetricRepository;
-    private final PeakHoursMetricRepository peakHoursMetricRepository;
-    private final MaintenanceMetricRepository maintenanceMetricRepository;
-    private final StudentRankingRepository studentRankingRepository;
-    private final ReservationHistoryRepository reservationHistoryRepository;
+    private final SyncRunRepository syncRunRepository;
+    private final SyncLeaseService syncLeaseService;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final BookingFactTableService factTableService;
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${analytics.sync.bulk-batch-size:1000}")
+    private int batchSize;
+
+    @Value("${analytics.sync.page-size:1000}")
+    private int pageSize;
+
+    @Value("${analytics.sync.lease-ttl:15m}")
+    private Duration leaseTtl;
+
+    @Value("${analytics.sync.timeouts.bookings:60s}")
+    private Duration bookingsTimeout;
+
+    @Value("${analytics.sync.timeouts.users:30s}")
+    private Duration usersTimeout;
+
+    @Value("${analytics.sync.timeouts.court-issues:30s}")
+    private Duration courtIssuesTimeout;
 
     private static final Map<String, String> FACULTY_COLORS = Map.ofEntries(
             Map.entry("INGENIERÍA Y CIENCIAS APLICADAS", "#00458d"), // FICA
@@ -69,181 +120,257 @@ public class DataSyncService {
             Map.entry("MEDICINA VETERINARIA Y ZOOTECNIA", "#8fbc8f"),
             Map.entry("ODONTOLOGÍA", "#b0c4de")
     );
+
+    static String facultyColor(String faculty) {
+        return FACULTY_COLORS.getOrDefault(faculty, "#808080");
+    }
+
     @Scheduled(cron = "0 0 * * * *") // Cada hora
     public void syncAnalyticsData() {
+        runSync("scheduled");
+    }
+
+    /**
+     * Runs one sync if this replica takes the sync lease, recording the run in {@code sync_runs}
+     * and under {@code analytics.sync.runs{outcome}} / {@code analytics.sync.run.duration{outcome}}.
+     *
+     * @return the finished run, or empty when another replica holds the lease
+     */
+    public Optional<SyncRun> runSync(String trigger) {
+        Optional<SyncLeaseService.Lease> acquired = syncLeaseService.tryAcquire(SYNC_LEASE, leaseTtl);
+        if (acquired.isEmpty()) {
+            log.info("Skipping analytics data sync: lease held by another instance, trigger={}", trigger);
+            Counter.builder("analytics.sync.runs").tag("outcome", "skipped").register(meterRegistry).increment();
+            return Optional.empty();
+        }
+
+        SyncLeaseService.Lease lease = acquired.get();
+        SyncRun run = syncRunRepository.save(new SyncRun(null, lease.token(), lease.owner(), trigger,
+                Instant.now(), null, 0, "RUNNING", null));
         long start = System.currentTimeMillis();
-        log.info("Starting analytics data sync");
         try {
-            List<BookingInternalDTO> bookings = extractBookings();
-            List<UserInternalDTO> users = extractUsers();
-            List<CourtIssueInternalDTO> courtIssues = extractCourtIssues();
+            sync(lease);
+            run.setOutcome("SUCCESS");
+        } catch (SyncLeaseService.LeaseLostException e) {
+            log.warn("Analytics data sync aborted: {}", e.getMessage());
+            run.setOutcome("LEASE_LOST");
+            run.setError(e.getMessage());
+        } catch (Exception e) {
+            log.error("Error during analytics data sync", e);
+            run.setOutcome("FAILED");
+            run.setError(e.getMessage());
+        } finally {
+            syncLeaseService.release(lease);
+        }
 
-            log.info("Analytics data extracted: bookings={}, users={}, courtIssues={}",
-                    bookings.size(), users.size(), courtIssues.size());
+        long durationMs = System.currentTimeMillis() - start;
+        run.setFinishedAt(Instant.now());
+        run.setDurationMs(durationMs);
+        syncRunRepository.save(run);
+        String outcome = run.getOutcome().toLowerCase(Locale.ROOT);
+        Counter.builder("analytics.sync.runs").tag("outcome", outcome).register(meterRegistry).increment();
+        Timer.builder("analytics.sync.run.duration").tag("outcome", outcome).register(meterRegistry)
+                .record(durationMs, TimeUnit.MILLISECONDS);
+        return Optional.of(run);
+    }
 
-            Map<String, UserInternalDTO> userMap = users.stream()
-                .collect(Collectors.toMap(UserInternalDTO::id, u -> u));
+    /**
+     * Every write of the run is fenced by the lease token: upserts only match documents last
+     * written by this token or an older one, and stamp it as {@code syncToken}. If the lease
+     * expired and another replica started a newer run, this run's late upserts hit the unique key
+     * of a document carrying the newer token and fail instead of overwriting it. The lease is also
+     * renewed, failing fast if it was lost, before the writes.
+     */
+    private void sync(SyncLeaseService.Lease lease) {
+        long start = System.currentTimeMillis();
+        long fence = lease.token();
+        log.info("Starting analytics data sync: token={}", fence);
+        Extracted extracted = extractAll();
+        BookingAggregator aggregates = extracted.bookings().orElse(null);
+        Optional<List<UserInternalDTO>> users = extracted.users();
+        Optional<List<CourtIssueInternalDTO>> courtIssues = extracted.courtIssues();
+
+        log.info("Analytics data extracted: bookings={}, users={}, courtIssues={}",
+                aggregates != null ? Integer.toString(aggregates.size()) : "unavailable",
+                sizeOf(users), sizeOf(courtIssues));
+
+        syncLeaseService.renew(lease, leaseTtl);
+        if (aggregates != null) {
+            processOccupancyMetrics(fence, aggregates);
+            processPeakHours(fence, aggregates);
+            processReservationHistory(fence, aggregates);
+            processRollups(fence, aggregates);
+        } else {
+            log.warn("Skipping occupancy, peak hours, reservation history and rollups: bookings unavailable");
+        }
 
-            processOccupancyMetrics(bookings);
-            processPeakHours(bookings);
-            processFacultyUsage(bookings, userMap);
-            processMaintenanceMetrics(courtIssues);
-            processStudentRanking(bookings, userMap);
-            processReservationHistory(bookings);
+        if (aggregates != null && users.isPresent()) {
+            processFacultyUsage(fence, aggregates, users.get());
+            processUserActivity(fence, aggregates, users.get());
+            processStudentRanking(fence, aggregates, users.get());
+        } else {
+            log.warn("Skipping faculty usage, user activity and student ranking: bookings or users unavailable");
+        }
 
-            long durationMs = System.currentTimeMillis() - start;
-            log.info("Analytics data sync completed successfully: durationMs={}", durationMs);
-        } catch (Exception e) {
-            log.error("Error during analytics data sync", e);
+        if (courtIssues.isPresent()) {
+            processMaintenanceMetrics(fence, courtIssues.get());
+        } else {
+            log.warn("Skipping maintenance metrics: court issues unavailable");
         }
-    }
 
-    private List<BookingInternalDTO> extractBookings() {
-        try {
-            List<BookingInternalDTO> bookings = bookingServiceFeignClient.getAllBookings();
-            return bookings != null ? bookings : Collections.emptyList();
-        } catch (FeignException e) {
-            log.warn("Failed to extract bookings from booking-service", e);
-            return Collections.emptyList();
-        } catch (Exception e) {
-            log.error("Error extracting bookings from booking-service", e);
-            return Collections.emptyList();
+        if (extracted.facts().isPresent() && users.isPresent()) {
+            factTableService.publish(extracted.facts().get().build(users.get()));
         }
+
+        dashboardSnapshotService.refresh();
+
+        long durationMs = System.currentTimeMillis() - start;
+        log.info("Analytics data sync completed successfully: token={}, durationMs={}", fence, durationMs);
     }
 
-    private List<UserInternalDTO> extractUsers() {
-        try {
-            List<UserInternalDTO> users = userServiceFeignClient.getAllUsers();
-            return users != null ? users : Collections.emptyList();
-        } catch (FeignException e) {
-            log.warn("Failed to extract users from user-service", e);
-            return Collections.emptyList();
-        } catch (Exception e) {
-            log.error("Error extracting users from user-service", e);
-            return Collections.emptyList();
-        }
+    private record Extracted(Optional<BookingAggregator> bookings,
+                             Optional<BookingFactTable.Builder> facts,
+                             Optional<List<UserInternalDTO>> users,
+                             Optional<List<CourtIssueInternalDTO>> courtIssues) {
     }
 
-    private List<CourtIssueInternalDTO> extractCourtIssues() {
+    /**
+     * Runs the three Feign extractions concurrently on virtual threads, so the extract phase takes
+     * as long as the slowest source rather than the sum of all three. A source that fails or
+     * exceeds its timeout comes back empty-handed ({@link Optional#empty()}), which skips only the
+     * metric families built from it instead of overwriting them with zeros.
+     * <p>
+     * Bookings and users are read page by page from their keyset-paged internal endpoints and
+     * parsed as they stream in; bookings go straight into the {@link BookingAggregator}, so heap
+     * use no longer grows with booking history. The one exception is the columnar fact table
+     * ({@code analytics.facts.enabled}), which deliberately keeps about 18 bytes per booking.
+     */
+    private Extracted extractAll() {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
         try {
-            List<CourtIssueInternalDTO> issues = courtServiceFeignClient.getAllCourtIssues();
-            return issues != null ? issues : Collections.emptyList();
-        } catch (FeignException e) {
-            log.warn("Failed to extract court issues from court-service", e);
-            return Collections.emptyList();
-        } catch (Exception e) {
-            log.error("Error extracting court issues from court-service", e);
-            return Collections.emptyList();
+            BookingFactTable.Builder facts = factTableService.isEnabled() ? new BookingFactTable.Builder() : null;
+            Future<BookingAggregator> bookings = executor.submit(() -> {
+                BookingAggregator aggregator = new BookingAggregator();
+                pageReader.readAll("bookings", bookingServiceFeignClient::getBookingsPage, pageSize,
+                        BookingInternalDTO.class, booking -> {
+                            aggregator.accept(booking);
+                            if (facts != null) {
+                                facts.accept(booking);
+                            }
+                        });
+                return aggregator;
+            });
+            Future<List<UserInternalDTO>> users = executor.submit(() -> {
+                List<UserInternalDTO> all = new ArrayList<>();
+                pageReader.readAll("users", userServiceFeignClient::getUsersPage, pageSize,
+                        UserInternalDTO.class, all::add);
+                return all;
+            });
+            Future<List<CourtIssueInternalDTO>> courtIssues = executor.submit(() ->
+                    Objects.requireNonNullElse(courtServiceFeignClient.getAllCourtIssues(), List.of()));
+
+            long startNanos = System.nanoTime();
+            Optional<BookingAggregator> aggregates = await("bookings", bookings, startNanos, bookingsTimeout);
+            return new Extracted(
+                    aggregates,
+                    aggregates.isPresent() ? Optional.ofNullable(facts) : Optional.empty(),
+                    await("users", users, startNanos, usersTimeout),
+                    await("court-issues", courtIssues, startNanos, courtIssuesTimeout));
+        } finally {
+            // Do not wait for sources that timed out; their threads are interrupted and discarded
+            executor.shutdownNow();
         }
     }
 
-    private void processOccupancyMetrics(List<BookingInternalDTO> bookings) {
-        Map<String, List<BookingInternalDTO>> byDateAndCourt = bookings.stream()
-                .collect(Collectors.groupingBy(b -> b.date().toString() + "|" + b.courtId()));
-
-        for (Map.Entry<String, List<BookingInternalDTO>> entry : byDateAndCourt.entrySet()) {
-            String[] parts = entry.getKey().split("\\|");
-            LocalDate date = LocalDate.parse(parts[0]); // Ahora parts[0] será "2026-01-29" completo
-            String courtId = parts[1];
-            List<BookingInternalDTO> courtBookings = entry.getValue();
-
-            long occupiedSlots = courtBookings.stream()
-                .filter(b -> "CONFIRMED".equals(b.status()))
-                .count();
-
-            int totalSlots = 8; // Assuming 8 slots per day (8am-4pm with 1-hour slots)
-            double occupancyRate = (double) occupiedSlots / totalSlots;
-
-            Map<String, Integer> hourlyOccupancy = courtBookings.stream()
-                .filter(b -> "CONFIRMED".equals(b.status()))
-                .collect(Collectors.groupingBy(
-                    b -> String.format("%02d:00", b.startTime().getHour()),
-                    Collectors.summingInt(b -> 1)
-                ));
-
-            OccupancyMetric metric = occupancyMetricRepository
-                .findByDateAndCourtId(date, courtId)
-                .orElse(new OccupancyMetric());
-
-            metric.setDate(date);
-            metric.setCourtId(courtId);
-            metric.setOccupancyRate(occupancyRate);
-            metric.setTotalSlots(totalSlots);
-            metric.setOccupiedSlots((int) occupiedSlots);
-            metric.setHourlyOccupancy(hourlyOccupancy);
-
-            occupancyMetricRepository.save(metric);
+    private <T> Optional<T> await(String source, Future<T> future, long startNanos, Duration timeout) {
+        String outcome = "success";
+        try {
+            long remainingNanos = timeout.toNanos() - (System.nanoTime() - startNanos);
+            return Optional.of(future.get(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+            future.cancel(true);
+            log.warn("Timed out extracting {} after {}", source, timeout);
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            outcome = "failure";
+            if (e.getCause() instanceof FeignException || e.getCause() instanceof UncheckedIOException) {
+                log.warn("Failed to extract {}", source, e.getCause());
+            } else {
+                log.error("Error extracting {}", source, e.getCause());
+            }
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            outcome = "interrupted";
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return Optional.empty();
+        } finally {
+            Timer.builder("analytics.sync.extract.duration")
+                .tag("source", source)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
         }
     }
 
-    private void processPeakHours(List<BookingInternalDTO> bookings) {
-        Map<String, Map<String, Integer>> dayOfWeekData = new HashMap<>();
-        Map<String, Long> totalBookingsByDay = new HashMap<>();
-
-        for (BookingInternalDTO booking : bookings) {
-            if ("CONFIRMED".equals(booking.status())) {
-                String dayOfWeek = booking.date().getDayOfWeek().toString();
-                String hour = String.format("%02d:00", booking.startTime().getHour());
-
-                dayOfWeekData.computeIfAbsent(dayOfWeek, k -> new HashMap<>())
-                    .merge(hour, 1, Integer::sum);
+    private static String sizeOf(Optional<? extends List<?>> data) {
+        return data.map(list -> Integer.toString(list.size())).orElse("unavailable");
+    }
 
-                totalBookingsByDay.merge(dayOfWeek, 1L, Long::sum);
-            }
+    private void processOccupancyMetrics(long fence, BookingAggregator aggregates) {
+        List<BookingAggregator.OccupancyCell> cells = aggregates.occupancy();
+        int totalSlots = TOTAL_SLOTS_PER_DAY;
+
+        List<Pair<Query, Update>> upserts = new ArrayList<>(cells.size());
+        for (BookingAggregator.OccupancyCell cell : cells) {
+            double occupancyRate = (double) cell.occupiedSlots() / totalSlots;
+            upserts.add(Pair.of(
+                new Query(where("date").is(cell.date()).and("courtId").is(cell.courtId())),
+                new Update()
+                    .set("occupancyRate", occupancyRate)
+                    .set("totalSlots", totalSlots)
+                    .set("occupiedSlots", cell.occupiedSlots())
+                    .set("hourlyOccupancy", cell.hourlyOccupancy())));
         }
 
-        for (String dayOfWeek : dayOfWeekData.keySet()) {
-            PeakHoursMetric metric = peakHoursMetricRepository
-                .findByDayOfWeek(dayOfWeek)
-                .orElse(new PeakHoursMetric(dayOfWeek, new HashMap<>()));
+        bulkUpsert(fence, OccupancyMetric.class, upserts);
+    }
 
-            metric.setDayOfWeek(dayOfWeek);
-            metric.setHourlyBookings(dayOfWeekData.get(dayOfWeek));
-            metric.setTotalBookings(totalBookingsByDay.get(dayOfWeek));
+    private void processPeakHours(long fence, BookingAggregator aggregates) {
+        int[][] matrix = aggregates.peakHours();
 
-            peakHoursMetricRepository.save(metric);
-            log.debug("Processed peak hours for dayOfWeek={}, totalBookings={}", 
-                dayOfWeek, totalBookingsByDay.get(dayOfWeek));
-        }
+        bulkUpsert(fence, PeakHoursMetric.class, List.of(Pair.of(
+            new Query(where("_id").is(PeakHoursMetric.WEEK_ID)),
+            new Update().set("bookings", matrix))));
+        log.debug("Processed peak hours: totalBookings={}", Arrays.stream(matrix).flatMapToInt(Arrays::stream).sum());
     }
 
-    private void processFacultyUsage(List<BookingInternalDTO> bookings, Map<String, UserInternalDTO> userMap) {
-        Map<String, Integer> facultyBookingCounts = new HashMap<>();
-        
-        for (BookingInternalDTO booking : bookings) {
-            if ("CONFIRMED".equals(booking.status())) {
-                UserInternalDTO user = userMap.get(booking.userId());
-                if (user != null) {
-                    String faculty = user.faculty();
-                    facultyBookingCounts.merge(faculty, 1, Integer::sum);
-                }
-            }
-        }
+    private void processFacultyUsage(long fence, BookingAggregator aggregates, List<UserInternalDTO> users) {
+        Map<String, Integer> facultyBookingCounts = aggregates.facultyUsage(users);
 
         LocalDate today = LocalDate.now();
+        List<Pair<Query, Update>> upserts = new ArrayList<>(facultyBookingCounts.size());
         for (Map.Entry<String, Integer> entry : facultyBookingCounts.entrySet()) {
             String faculty = entry.getKey();
             int count = entry.getValue();
-            String color = FACULTY_COLORS.getOrDefault(faculty, "#808080");
+            String color = facultyColor(faculty);
             
             // Calculate average occupancy for this faculty
             double avgOccupancy = (double) count / 100; // Simplified calculation
 
-            FacultyUsageMetric metric = facultyUsageMetricRepository
-                .findByDateAndFaculty(today, faculty)
-                .orElse(new FacultyUsageMetric());
-
-            metric.setDate(today);
-            metric.setFaculty(faculty);
-            metric.setBookingCount(count);
-            metric.setAverageOccupancyRate(avgOccupancy);
-            metric.setColor(color);
-
-            facultyUsageMetricRepository.save(metric);
+            upserts.add(Pair.of(
+                new Query(where("date").is(today).and("faculty").is(faculty)),
+                new Update()
+                    .set("bookingCount", count)
+                    .set("averageOccupancyRate", avgOccupancy)
+                    .set("color", color)));
         }
+
+        bulkUpsert(fence, FacultyUsageMetric.class, upserts);
     }
 
-    private void processMaintenanceMetrics(List<CourtIssueInternalDTO> courtIssues) {
+    private void processMaintenanceMetrics(long fence, List<CourtIssueInternalDTO> courtIssues) {
         int criticalCount = 0;
         int highCount = 0;
         int mediumCount = 0;
@@ -264,105 +391,173 @@ public class DataSyncService {
         }
 
         LocalDate today = LocalDate.now();
-        MaintenanceMetric metric = maintenanceMetricRepository
-            .findByDate(today)
-            .orElse(new MaintenanceMetric());
-
-        metric.setDate(today);
-        metric.setCriticalIssuesCount(criticalCount);
-        metric.setHighIssuesCount(highCount);
-        metric.setMediumIssuesCount(mediumCount);
-        metric.setLowIssuesCount(lowCount);
-        metric.setResolvedIssuesCount(resolvedCount);
-
-        maintenanceMetricRepository.save(metric);
+        bulkUpsert(fence, MaintenanceMetric.class, List.of(Pair.of(
+            new Query(where("date").is(today)),
+            new Update()
+                .set("criticalIssuesCount", criticalCount)
+                .set("highIssuesCount", highCount)
+                .set("mediumIssuesCount", mediumCount)
+                .set("lowIssuesCount", lowCount)
+                .set("resolvedIssuesCount", resolvedCount))));
     }
 
-    private void processStudentRanking(List<BookingInternalDTO> bookings, Map<String, UserInternalDTO> userMap) {
-        if (bookings.isEmpty()) {
-            log.debug("Skipping student ranking: no bookings available");
+    private void processUserActivity(long fence, BookingAggregator aggregates, List<UserInternalDTO> users) {
+        if (aggregates.isEmpty()) {
+            log.debug("Skipping user activity: no bookings available");
             return;
         }
 
-        Map<String, Long> totalByUser = bookings.stream()
-            .collect(Collectors.groupingBy(BookingInternalDTO::userId, Collectors.counting()));
+        List<Pair<Query, Update>> upserts = new ArrayList<>(users.size());
+        for (UserInternalDTO user : users) {
+            upserts.add(Pair.of(
+                new Query(where("_id").is(user.id())),
+                new Update()
+                    .set("name", user.name())
+                    .set("faculty", user.faculty())
+                    .set("confirmedBookings", aggregates.confirmedBookings(user.id()))));
+        }
 
-        Map<String, Long> confirmedByUser = bookings.stream()
-            .filter(b -> "CONFIRMED".equals(b.status()))
-            .collect(Collectors.groupingBy(BookingInternalDTO::userId, Collectors.counting()));
+        bulkUpsert(fence, UserActivity.class, upserts);
+    }
+
+    private void processStudentRanking(long fence, BookingAggregator aggregates, List<UserInternalDTO> users) {
+        if (aggregates.isEmpty()) {
+            log.debug("Skipping student ranking: no bookings available");
+            return;
+        }
 
         LocalDate today = LocalDate.now();
-        studentRankingRepository.deleteByDate(today);
-
-        List<StudentRanking> topRanked = confirmedByUser.entrySet().stream()
-            .map(entry -> {
-                String userId = entry.getKey();
-                long confirmedCount = entry.getValue();
-                long totalCount = totalByUser.getOrDefault(userId, 0L);
-
-                UserInternalDTO user = userMap.get(userId);
-                String userName = user != null ? user.name() : "Unknown";
-                String faculty = user != null ? user.faculty() : "Unknown";
-
-                int totalBookings = (int) confirmedCount;
-                int totalHours = (int) confirmedCount; // 1 hora por reserva
-
-                return new StudentRanking(
-                    null,
-                    today,
-                    userId,
-                    userName,
-                    faculty,
-                    totalBookings,
-                    totalHours
-                );
-            })
-            .sorted(Comparator.comparingInt(StudentRanking::getTotalBookings).reversed())
-            .limit(5)
-            .collect(Collectors.toList());
-
-        studentRankingRepository.saveAll(topRanked);
+        List<BookingAggregator.UserCount> top = aggregates.topUsers(5);
+        Map<String, UserInternalDTO> topUsers = new HashMap<>();
+        for (BookingAggregator.UserCount entry : top) {
+            topUsers.put(entry.userId(), null);
+        }
+        for (UserInternalDTO user : users) {
+            if (topUsers.containsKey(user.id())) {
+                topUsers.put(user.id(), user);
+            }
+        }
+
+        List<StudentRanking.Entry> topRanked = new ArrayList<>();
+        for (BookingAggregator.UserCount entry : top) {
+            UserInternalDTO user = topUsers.get(entry.userId());
+            String userName = user != null ? user.name() : "Unknown";
+            String faculty = user != null ? user.faculty() : "Unknown";
+
+            int totalBookings = entry.confirmedBookings();
+            int totalHours = entry.confirmedBookings(); // 1 hora por reserva
+
+            topRanked.add(new StudentRanking.Entry(
+                entry.userId(),
+                userName,
+                faculty,
+                totalBookings,
+                totalHours
+            ));
+        }
+
+        bulkUpsert(fence, StudentRanking.class, List.of(Pair.of(
+            new Query(where("_id").is(StudentRanking.idOf(today))),
+            new Update()
+                .set("date", today)
+                .set("students", topRanked))));
     }
 
-    private void processReservationHistory(List<BookingInternalDTO> bookings) {
-        if (bookings.isEmpty()) {
+    private void processReservationHistory(long fence, BookingAggregator aggregates) {
+        if (aggregates.isEmpty()) {
             log.debug("Skipping reservation history: no bookings available");
             return;
         }
 
-        Map<YearMonth, int[]> countsByMonth = new HashMap<>();
+        List<BookingAggregator.MonthCounts> months = aggregates.reservationHistory();
+        List<Pair<Query, Update>> upserts = new ArrayList<>(months.size());
+        for (BookingAggregator.MonthCounts counts : months) {
+            YearMonth yearMonth = counts.yearMonth();
+            String month = yearMonth.getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH);
+            int year = yearMonth.getYear();
+
+            upserts.add(Pair.of(
+                new Query(where("year").is(year).and("month").is(month)),
+                new Update()
+                    .set("completedCount", counts.completedCount())
+                    .set("cancelledCount", counts.cancelledCount())));
+        }
+
+        bulkUpsert(fence, ReservationHistory.class, upserts);
+    }
 
-        for (BookingInternalDTO booking : bookings) {
-            if (booking.date() == null) {
-                continue;
-            }
-            YearMonth yearMonth = YearMonth.from(booking.date());
-            int[] counts = countsByMonth.computeIfAbsent(yearMonth, ym -> new int[2]);
-
-            String status = booking.status();
-            if ("CONFIRMED".equals(status) || "COMPLETED".equals(status)) {
-                counts[0]++;
-            } else if ("CANCELLED".equals(status)) {
-                counts[1]++;
+    /**
+     * Rebuilds every rollup bucket that has bookings from the hourly counts, rolling each hour up
+     * into its day, week and month in memory before writing.
+     */
+    private void processRollups(long fence, BookingAggregator aggregates) {
+        Map<RollupGranularity, Map<LocalDateTime, RollupTotals>> buckets = new EnumMap<>(RollupGranularity.class);
+        for (BookingAggregator.HourCount count : aggregates.hourCounts()) {
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                buckets.computeIfAbsent(granularity, g -> new HashMap<>())
+                    .computeIfAbsent(granularity.bucketStart(count.hour()), start -> new RollupTotals())
+                    .add(count);
             }
         }
 
-        for (Map.Entry<YearMonth, int[]> entry : countsByMonth.entrySet()) {
-            YearMonth yearMonth = entry.getKey();
-            int completedCount = entry.getValue()[0];
-            int cancelledCount = entry.getValue()[1];
+        List<Pair<Query, Update>> upserts = new ArrayList<>();
+        buckets.forEach((granularity, byStart) -> byStart.forEach((bucketStart, totals) ->
+            upserts.add(Pair.of(
+                BookingRollupService.bucketQuery(granularity, bucketStart),
+                new Update()
+                    .set("confirmedBookings", totals.confirmed)
+                    .set("cancelledBookings", totals.cancelled)
+                    .set("courtBookings", totals.courtBookings)))));
 
-            String month = yearMonth.getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH);
-            int year = yearMonth.getYear();
+        bulkUpsert(fence, BookingRollup.class, upserts);
+    }
 
-            ReservationHistory history = reservationHistoryRepository
-                .findByYearAndMonth(year, month)
-                .orElse(new ReservationHistory(null, month, 0, 0, year));
+    private static final class RollupTotals {
+        private int confirmed;
+        private int cancelled;
+        private final Map<String, Integer> courtBookings = new HashMap<>();
 
-            history.setCompletedCount(completedCount);
-            history.setCancelledCount(cancelledCount);
+        void add(BookingAggregator.HourCount count) {
+            confirmed += count.confirmed();
+            cancelled += count.cancelled();
+            if (count.confirmed() > 0 && count.courtId() != null) {
+                courtBookings.merge(count.courtId(), count.confirmed(), Integer::sum);
+            }
+        }
+    }
 
-            reservationHistoryRepository.save(history);
+    /**
+     * Writes the upserts as unordered bulk batches of at most {@code batchSize} operations, so a
+     * collection costs one round trip per batch instead of a lookup and a save per key, and records
+     * the write time under {@code analytics.sync.write.duration{collection}}. Each upsert is fenced
+     * with the run's lease token, see {@link #sync}.
+     */
+    private void bulkUpsert(long fence, Class<?> type, List<Pair<Query, Update>> upserts) {
+        if (upserts.isEmpty()) {
+            return;
+        }
+        for (Pair<Query, Update> upsert : upserts) {
+            upsert.getFirst().addCriteria(new Criteria().orOperator(
+                where("syncToken").exists(false), where("syncToken").lte(fence)));
+            upsert.getSecond().set("syncToken", fence);
+        }
+        String collection = mongoTemplate.getCollectionName(type);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int matched = 0;
+        int upserted = 0;
+        int size = Math.max(batchSize, 1);
+        for (int from = 0; from < upserts.size(); from += size) {
+            List<Pair<Query, Update>> batch = upserts.subList(from, Math.min(from + size, upserts.size()));
+            BulkWriteResult result = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type)
+                .upsert(batch)
+                .execute();
+            matched += result.getMatchedCount();
+            upserted += result.getUpserts().size();
         }
+        long durationNs = sample.stop(Timer.builder("analytics.sync.write.duration")
+            .tag("collection", collection)
+            .register(meterRegistry));
+        log.debug("Bulk upsert completed: collection={}, operations={}, matched={}, upserted={}, durationMs={}",
+            collection, upserts.size(), matched, upserted, durationNs / 1_000_000);
     }
 }
@@ -0,0 +1,402 @@
+package com.courthub.analytics.service;
+
+import com.courthub.analytics.domain.BookingFact;
+import com.courthub.analytics.domain.FacultyUsageMetric;
+import com.courthub.analytics.domain.OccupancyMetric;
+import com.courthub.analytics.domain.PeakHoursMetric;
+import com.courthub.analytics.domain.ReservationHistory;
+import com.courthub.analytics.domain.StudentRanking;
+import com.courthub.analytics.domain.UserActivity;
+import com.courthub.analytics.event.BookingEventPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Applies booking lifecycle events to the dashboard aggregates as they happen, instead of waiting
+ * for the hourly {@link DataSyncService} run.
+ * <p>
+ * Every event first records what it knows in the booking's {@link BookingFact}; the aggregates are
+ * then changed only by an atomic state transition on that document ({@code counted} false to true
+ * when the booking is both known and confirmed, {@code cancelled} false to true on cancellation).
+ * Redelivered events find the transition already made and change nothing, and a
+ * {@code payment.confirmed} that overtakes its {@code booking.created} is counted once the booking
+ * details arrive.
+ * <p>
+ * The aggregates live in other documents, so a transition records the increments it owes in the
+ * fact's {@code pending} list in the same atomic update, and each one is removed once applied. If
+ * the process fails in between, the increments still owed after
+ * {@code analytics.incremental.pending-grace} are applied by the next event for that booking, such
+ * as the redelivery, or by the periodic sweep. The grace keeps a live handler and a resumer from
+ * applying the same increment twice; an increment applied just before a failure, but not yet
+ * removed, is the only one that can be applied again.
+ * <p>
+ * Every write goes to a {@link MetricCollections} target, so a {@link MetricsRebuildService}
+ * replay can apply the same logic to shadow collections. Replays skip the per-event student
+ * ranking refresh and dashboard invalidation; the rebuild does both once at the end. Live events
+ * wait at the {@link MetricsSwapGate} while a rebuild swaps its shadows in.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IncrementalAnalyticsService {
+
+    private final MongoTemplate mongoTemplate;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final BookingRollupService bookingRollupService;
+    private final ActiveUserSketchService activeUserSketchService;
+    private final MetricsSwapGate swapGate;
+
+    @Value("${analytics.incremental.pending-grace:30s}")
+    private Duration pendingGrace;
+
+    /**
+     * Aggregate writes owed by a {@link BookingFact} transition, recorded as
+     * {@code <name>+1} or {@code <name>-1} in its {@code pending} list.
+     */
+    private enum Increment {
+        OCCUPANCY, PEAK_HOUR, COMPLETED_HISTORY, COMPLETED_ROLLUP, USER_ACTIVITY, FACULTY_USAGE,
+        CANCELLED_HISTORY, CANCELLED_ROLLUP;
+
+        private static final List<Increment> CONFIRMED = List.of(
+                OCCUPANCY, PEAK_HOUR, COMPLETED_HISTORY, COMPLETED_ROLLUP, USER_ACTIVITY, FACULTY_USAGE);
+        private static final List<Increment> CANCELLED = List.of(CANCELLED_HISTORY, CANCELLED_ROLLUP);
+
+        private static List<String> owed(List<Increment> increments, int delta) {
+            return increments.stream().map(increment -> increment.name() + (delta > 0 ? "+1" : "-1")).toList();
+        }
+    }
+
+    public void onBookingCreated(BookingEventPayload event) {
+        swapGate.awaitOpen();
+        onBookingCreated(event, MetricCollections.LIVE);
+    }
+
+    public void onPaymentConfirmed(UUID bookingId) {
+        swapGate.awaitOpen();
+        onPaymentConfirmed(bookingId, MetricCollections.LIVE);
+    }
+
+    public void onBookingCancelled(BookingEventPayload event) {
+        swapGate.awaitOpen();
+        onBookingCancelled(event, MetricCollections.LIVE);
+    }
+
+    public void onBookingCreated(BookingEventPayload event, MetricCollections target) {
+        resumeOwed(event.getBookingId(), target);
+        recordDetails(event, target);
+        if ("CONFIRMED".equals(event.getStatus())) {
+            markConfirmed(event.getBookingId(), target);
+        }
+        countIfConfirmed(event.getBookingId(), target);
+    }
+
+    public void onPaymentConfirmed(UUID bookingId, MetricCollections target) {
+        resumeOwed(bookingId, target);
+        markConfirmed(bookingId, target);
+        countIfConfirmed(bookingId, target);
+    }
+
+    /**
+     * Cancels the fact with one of two transitions, depending on whether it is counted; each only
+     * matches while {@code counted} is still what it expects, and {@code counted} only changes once
+     * before a cancellation, so the second round always settles it.
+     */
+    public void onBookingCancelled(BookingEventPayload event, MetricCollections target) {
+        resumeOwed(event.getBookingId(), target);
+        recordDetails(event, target);
+        String bookingId = event.getBookingId().toString();
+        List<String> uncount = new ArrayList<>(Increment.owed(Increment.CONFIRMED, -1));
+        uncount.addAll(Increment.owed(Increment.CANCELLED, 1));
+        List<String> cancel = Increment.owed(Increment.CANCELLED, 1);
+        for (int attempt = 0; attempt < 2; attempt++) {
+            List<String> owed = uncount;
+            BookingFact fact = transition(where("_id").is(bookingId).and("cancelled").ne(true).and("counted").is(true),
+                    new Update().set("cancelled", true).set("counted", false), owed, target);
+            if (fact == null) {
+                owed = cancel;
+                fact = transition(where("_id").is(bookingId).and("cancelled").ne(true).and("counted").ne(true),
+                        new Update().set("cancelled", true), owed, target);
+            }
+            if (fact != null) {
+                applyOwed(fact, owed, target);
+                log.debug("Booking cancellation applied: bookingId={}, wasCounted={}", bookingId, owed == uncount);
+                return;
+            }
+        }
+        log.debug("Booking cancellation already applied: bookingId={}", bookingId);
+    }
+
+    /**
+     * Applies the increments of facts whose owed increments have outlasted the grace period, for
+     * bookings that receive no further event after a failure.
+     */
+    @Scheduled(fixedDelayString = "${analytics.incremental.pending-sweep-interval-ms:60000}")
+    public void resumeStaleIncrements() {
+        swapGate.awaitOpen();
+        int resumed = 0;
+        BookingFact fact;
+        while ((fact = claimOwed(null, MetricCollections.LIVE)) != null) {
+            applyOwed(fact, fact.getPending(), MetricCollections.LIVE);
+            resumed++;
+        }
+        if (resumed > 0) {
+            log.info("Resumed owed booking increments: facts={}", resumed);
+        }
+    }
+
+    /**
+     * Rewrites the day's top-five student ranking from {@code user_activity} with one upsert of the
+     * day's ranking document, so concurrent refreshes and the sync each replace it whole.
+     */
+    public void refreshStudentRanking(MetricCollections target) {
+        LocalDate today = LocalDate.now();
+        List<StudentRanking.Entry> topRanked = mongoTemplate.find(
+                        new Query(where("confirmedBookings").gt(0))
+                                .with(Sort.by(Sort.Direction.DESC, "confirmedBookings"))
+                                .limit(5),
+                        UserActivity.class, target.of(mongoTemplate, UserActivity.class)).stream()
+                .map(user -> new StudentRanking.Entry(
+                        user.getId(),
+                        user.getName() != null ? user.getName() : "Unknown",
+                        user.getFaculty() != null ? user.getFaculty() : "Unknown",
+                        user.getConfirmedBookings(),
+                        user.getConfirmedBookings() // 1 hora por reserva
+                ))
+                .toList();
+
+        mongoTemplate.upsert(new Query(where("_id").is(StudentRanking.idOf(today))),
+                new Update().set("date", today).set("students", topRanked),
+                StudentRanking.class, target.of(mongoTemplate, StudentRanking.class));
+    }
+
+    private void recordDetails(BookingEventPayload event, MetricCollections target) {
+        Update update = new Update()
+                .set("courtId", event.getCourtId() != null ? event.getCourtId().toString() : null)
+                .set("userId", event.getUserId() != null ? event.getUserId().toString() : null)
+                .set("date", event.getDate())
+                .set("startTime", event.getStartTime())
+                .setOnInsert("confirmed", false)
+                .setOnInsert("counted", false)
+                .setOnInsert("cancelled", false);
+        mongoTemplate.upsert(new Query(where("_id").is(event.getBookingId().toString())), update,
+                BookingFact.class, target.of(mongoTemplate, BookingFact.class));
+    }
+
+    private void markConfirmed(UUID bookingId, MetricCollections target) {
+        mongoTemplate.upsert(new Query(where("_id").is(bookingId.toString())),
+                new Update().set("confirmed", true)
+                        .setOnInsert("counted", false)
+                        .setOnInsert("cancelled", false),
+                BookingFact.class, target.of(mongoTemplate, BookingFact.class));
+    }
+
+    private void countIfConfirmed(UUID bookingId, MetricCollections target) {
+        List<String> owed = Increment.owed(Increment.CONFIRMED, 1);
+        BookingFact fact = transition(where("_id").is(bookingId.toString())
+                        .and("confirmed").is(true)
+                        .and("counted").ne(true)
+                        .and("cancelled").ne(true)
+                        .and("date").ne(null)
+                        .and("startTime").ne(null),
+                new Update().set("counted", true), owed, target);
+        if (fact != null) {
+            applyOwed(fact, owed, target);
+            log.debug("Confirmed booking counted: bookingId={}", bookingId);
+        }
+    }
+
+    /**
+     * Makes a fact transition and records the increments it owes in the same update.
+     *
+     * @return the fact after the transition, or null when {@code criteria} no longer matches
+     */
+    private BookingFact transition(Criteria criteria, Update update, List<String> owed, MetricCollections target) {
+        return mongoTemplate.findAndModify(new Query(criteria),
+                update.push("pending").each(owed.toArray()).set("pendingSince", Instant.now()),
+                FindAndModifyOptions.options().returnNew(true),
+                BookingFact.class, target.of(mongoTemplate, BookingFact.class));
+    }
+
+    /**
+     * Takes over the owed increments of the booking's fact if they have outlasted the grace period,
+     * so a redelivery after a failure finishes what the failed attempt started.
+     */
+    private void resumeOwed(UUID bookingId, MetricCollections target) {
+        BookingFact fact = claimOwed(bookingId.toString(), target);
+        if (fact != null) {
+            log.warn("Resuming owed booking increments: bookingId={}, owed={}", bookingId, fact.getPending());
+            applyOwed(fact, fact.getPending(), target);
+        }
+    }
+
+    /**
+     * Restarts the grace period of one fact, the given booking's or any, whose increments have been
+     * owed for longer, so no other resumer takes it over while this one applies them.
+     */
+    private BookingFact claimOwed(String bookingId, MetricCollections target) {
+        Instant now = Instant.now();
+        Query query = new Query(where("pendingSince").lte(now.minus(pendingGrace)));
+        if (bookingId != null) {
+            query.addCriteria(where("_id").is(bookingId));
+        }
+        return mongoTemplate.findAndModify(query,
+                new Update().set("pendingSince", now),
+                FindAndModifyOptions.options().returnNew(true),
+                BookingFact.class, target.of(mongoTemplate, BookingFact.class));
+    }
+
+    /**
+     * Applies the given owed increments of the fact in order, removing each one once it is written,
+     * and clears {@code pendingSince} once nothing else is owed. A transition applies only the
+     * increments it recorded itself; any others are left to a resumer.
+     */
+    private void applyOwed(BookingFact fact, List<String> increments, MetricCollections target) {
+        String collection = target.of(mongoTemplate, BookingFact.class);
+        Query byId = new Query(where("_id").is(fact.getId()));
+        boolean userChanged = false;
+        for (String owed : increments != null ? increments : List.<String>of()) {
+            Increment increment = Increment.valueOf(owed.substring(0, owed.length() - 2));
+            int delta = owed.endsWith("-1") ? -1 : 1;
+            userChanged |= apply(increment, fact, delta, target);
+            mongoTemplate.updateFirst(byId, new Update().pull("pending", owed), BookingFact.class, collection);
+        }
+        mongoTemplate.updateFirst(new Query(where("_id").is(fact.getId()).and("pending").size(0)),
+                new Update().unset("pendingSince"), BookingFact.class, collection);
+
+        if (target.isLive()) {
+            if (userChanged) {
+                refreshStudentRanking(target);
+            }
+            dashboardSnapshotService.markStale();
+        }
+    }
+
+    /**
+     * @return whether a user's confirmed booking count changed
+     */
+    private boolean apply(Increment increment, BookingFact fact, int delta, MetricCollections target) {
+        switch (increment) {
+            case OCCUPANCY -> mongoTemplate.upsert(
+                    new Query(where("date").is(fact.getDate()).and("courtId").is(fact.getCourtId())),
+                    new Update()
+                            .inc("occupiedSlots", delta)
+                            .inc("occupancyRate", (double) delta / DataSyncService.TOTAL_SLOTS_PER_DAY)
+                            .inc("hourlyOccupancy." + String.format("%02d:00", fact.getStartTime().getHour()), delta)
+                            .setOnInsert("totalSlots", DataSyncService.TOTAL_SLOTS_PER_DAY),
+                    OccupancyMetric.class, target.of(mongoTemplate, OccupancyMetric.class));
+            case PEAK_HOUR -> incrementPeakHour(fact.getDate().getDayOfWeek().ordinal(), fact.getStartTime().getHour(),
+                    delta, target);
+            case COMPLETED_HISTORY -> incrementHistory(fact.getDate(), "completedCount", delta, target);
+            case COMPLETED_ROLLUP -> bookingRollupService.increment(fact.getDate(), fact.getStartTime(),
+                    fact.getCourtId(), delta, 0, target);
+            case USER_ACTIVITY -> {
+                if (fact.getUserId() == null) {
+                    return false;
+                }
+                mongoTemplate.upsert(new Query(where("_id").is(fact.getUserId())),
+                        new Update().inc("confirmedBookings", delta),
+                        UserActivity.class, target.of(mongoTemplate, UserActivity.class));
+                return true;
+            }
+            case FACULTY_USAGE -> {
+                UserActivity user = fact.getUserId() != null
+                        ? mongoTemplate.findById(fact.getUserId(), UserActivity.class, target.of(mongoTemplate, UserActivity.class))
+                        : null;
+                if (user != null && user.getFaculty() != null) {
+                    incrementFacultyUsage(user.getFaculty(), delta, target);
+                    if (delta > 0) {
+                        activeUserSketchService.record(user.getFaculty(), fact.getDate(), fact.getUserId(), target);
+                    }
+                }
+            }
+            case CANCELLED_HISTORY -> incrementHistory(fact.getDate(), "cancelledCount", 1, target);
+            case CANCELLED_ROLLUP -> bookingRollupService.increment(fact.getDate(), fact.getStartTime(),
+                    fact.getCourtId(), 0, 1, target);
+        }
+        return false;
+    }
+
+    /**
+     * The matrix slot can only be incremented once the document holds the full matrix (an upsert
+     * would create {@code bookings} as nested objects), so a missing document is first created with
+     * zeros, which concurrent writers may all attempt harmlessly, and the increment retried.
+     */
+    private void incrementPeakHour(int dayOfWeek, int hour, int delta, MetricCollections target) {
+        String collection = target.of(mongoTemplate, PeakHoursMetric.class);
+        Query week = new Query(where("_id").is(PeakHoursMetric.WEEK_ID));
+        Update increment = new Update().inc("bookings." + dayOfWeek + "." + hour, delta);
+        if (mongoTemplate.updateFirst(week, increment, PeakHoursMetric.class, collection).getMatchedCount() == 0) {
+            mongoTemplate.upsert(week, new Update().setOnInsert("bookings", PeakHoursMetric.emptyMatrix()),
+                    PeakHoursMetric.class, collection);
+            mongoTemplate.updateFirst(week, increment, PeakHoursMetric.class, collection);
+        }
+    }
+
+    private void incrementHistory(LocalDate date, String field, int delta, MetricCollections target) {
+        if (date == null) {
+            return;
+        }
+        YearMonth yearMonth = YearMonth.from(date);
+        String month = yearMonth.getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH);
+        mongoTemplate.upsert(
+                new Query(where("year").is(yearMonth.getYear()).and("month").is(month)),
+                new Update().inc(field, delta),
+                ReservationHistory.class, target.of(mongoTemplate, ReservationHistory.class));
+    }
+
+    /**
+     * Faculty usage documents hold running totals under the date of the sync that wrote them, so
+     * the first event of a day seeds today's document from the faculty's latest one. Seeding and
+     * incrementing are one pipeline upsert that adds the delta to the stored count, or to the seed
+     * when the document is still missing, so concurrent first events and a sync writing the same
+     * document (unique on faculty and date) each apply their change exactly once.
+     */
+    private void incrementFacultyUsage(String faculty, int delta, MetricCollections target) {
+        String collection = target.of(mongoTemplate, FacultyUsageMetric.class);
+        LocalDate today = LocalDate.now();
+        Query query = new Query(where("date").is(today).and("faculty").is(faculty));
+        Update increment = new Update()
+                .inc("bookingCount", delta)
+                .inc("averageOccupancyRate", delta / 100.0);
+        if (mongoTemplate.updateFirst(query, increment, FacultyUsageMetric.class, collection).getMatchedCount() > 0) {
+            return;
+        }
+
+        FacultyUsageMetric latest = mongoTemplate.findOne(
+                new Query(where("faculty").is(faculty)).with(Sort.by(Sort.Direction.DESC, "date")),
+                FacultyUsageMetric.class, collection);
+        int base = latest != null ? latest.getBookingCount() : 0;
+        mongoTemplate.upsert(query,
+                AggregationUpdate.update()
+                        .set("bookingCount").toValue(ArithmeticOperators.valueOf(
+                                ConditionalOperators.ifNull("bookingCount").then(base)).add(delta))
+                        .set("averageOccupancyRate").toValue(ArithmeticOperators.valueOf(
+                                ConditionalOperators.ifNull("averageOccupancyRate").then(base / 100.0)).add(delta / 100.0))
+                        .set("color").toValue(ConditionalOperators.ifNull("color").then(DataSyncService.facultyColor(faculty))),
+                FacultyUsageMetric.class, collection);
+    }
+}
@@ -0,0 +1,20 @@
+package com.courthub.analytics.service;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * The set of metric collections incremental updates write to: the live collections, or the shadow
+ * copies a {@link MetricsRebuildService} replay fills before swapping them in.
+ */
+public record MetricCollections(String suffix) {
+
+    public static final MetricCollections LIVE = new MetricCollections("");
+
+    public boolean isLive() {
+        return suffix.isEmpty();
+    }
+
+    public String of(MongoTemplate mongoTemplate, Class<?> type) {
+        return mongoTemplate.getCollectionName(type) + suffix;
+    }
+}
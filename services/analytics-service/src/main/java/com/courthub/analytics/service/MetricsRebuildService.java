@@ -0,0 +1,499 @@
+package com.courthub.analytics.service;
+
+import com.courthub.analytics.domain.BookingFact;
+import com.courthub.analytics.domain.BookingRollup;
+import com.courthub.analytics.domain.FacultyActiveUsers;
+import com.courthub.analytics.domain.FacultyUsageMetric;
+import com.courthub.analytics.domain.OccupancyMetric;
+import com.courthub.analytics.domain.PeakHoursMetric;
+import com.courthub.analytics.domain.ReservationHistory;
+import com.courthub.analytics.domain.SyncRun;
+import com.courthub.analytics.domain.UserActivity;
+import com.courthub.analytics.dto.RebuildStatusResponse;
+import com.courthub.analytics.event.BookingEventPayload;
+import com.courthub.analytics.repository.SyncRunRepository;
+import com.courthub.common.dto.PaymentEventPayload;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.RenameCollectionOptions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Rebuilds the incrementally maintained metrics from scratch by replaying the booking and payment
+ * topics from their earliest retained offsets, so a fix to the incremental logic also corrects the
+ * history written before it.
+ * <p>
+ * The replay runs one consumer per partition on virtual threads, without a consumer group, and
+ * applies every event through {@link IncrementalAnalyticsService} to {@code <collection>_rebuild}
+ * shadow collections while the live ones keep serving. Because the incremental logic only moves
+ * the aggregates on {@link BookingFact} state transitions, the result does not depend on how the
+ * partitions interleave. Once the offsets captured at the start are reached, the partitions are
+ * caught up once more to the then-current end offsets, which keeps the final window short.
+ * <p>
+ * The swap itself runs with the {@link MetricsSwapGate} closed: listeners on every replica wait
+ * before applying their next event to the live collections, and the local containers are paused.
+ * After {@code analytics.rebuild.swap-settle}, so events that passed the gate just before it closed
+ * finish writing, the partitions are caught up to their final end offsets and each shadow is renamed
+ * over its live collection. Every event consumed before the swap has an offset below those end
+ * offsets and so is in the rebuilt collections. Once the gate opens, listeners carry on from where
+ * they stopped; events they see again are no-ops on the rebuilt facts. The swap is abandoned if it
+ * outlasts the gate's TTL ({@code analytics.rebuild.swap-timeout}), since the gate has then reopened.
+ * <p>
+ * The swap replaces the live collections wholesale, so a rebuild only runs while the topics still
+ * hold their whole history: if any partition's beginning offset is past 0, retention has deleted
+ * events whose facts and aggregates the swap would drop, and the rebuild ends as
+ * {@code HISTORY_TRUNCATED} without touching the live collections.
+ * <p>
+ * The rebuild holds the sync lease throughout, so no replica runs a {@link DataSyncService} sync
+ * whose writes the swap would discard. Progress is published as {@code analytics.rebuild.events
+ * {topic}}, {@code analytics.rebuild.remaining.offsets} and {@code analytics.rebuild.running}.
+ */
+@Slf4j
+@Service
+public class MetricsRebuildService {
+
+    static final List<String> TOPICS = List.of("booking.created", "booking.cancelled", "payment.confirmed");
+
+    private static final MetricCollections SHADOW = new MetricCollections("_rebuild");
+    private static final List<Class<?>> REBUILT = List.of(
+            BookingFact.class, OccupancyMetric.class, PeakHoursMetric.class, ReservationHistory.class,
+            UserActivity.class, FacultyUsageMetric.class, BookingRollup.class, FacultyActiveUsers.class);
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final IncrementalAnalyticsService incrementalAnalyticsService;
+    private final SyncLeaseService syncLeaseService;
+    private final SyncRunRepository syncRunRepository;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final MetricsSwapGate swapGate;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong remainingOffsets = new AtomicLong();
+    private final AtomicLong eventsApplied = new AtomicLong();
+    private final Map<String, Counter> eventCounters = new HashMap<>();
+    private volatile RebuildStatusResponse status = RebuildStatusResponse.idle();
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${analytics.sync.lease-ttl:15m}")
+    private Duration leaseTtl;
+
+    @Value("${analytics.rebuild.pause-timeout:30s}")
+    private Duration pauseTimeout;
+
+    @Value("${analytics.rebuild.swap-settle:2s}")
+    private Duration swapSettle;
+
+    public MetricsRebuildService(MongoTemplate mongoTemplate,
+                                 IncrementalAnalyticsService incrementalAnalyticsService,
+                                 SyncLeaseService syncLeaseService,
+                                 SyncRunRepository syncRunRepository,
+                                 DashboardSnapshotService dashboardSnapshotService,
+                                 MetricsSwapGate swapGate,
+                                 KafkaListenerEndpointRegistry listenerRegistry,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.incrementalAnalyticsService = incrementalAnalyticsService;
+        this.syncLeaseService = syncLeaseService;
+        this.syncRunRepository = syncRunRepository;
+        this.dashboardSnapshotService = dashboardSnapshotService;
+        this.swapGate = swapGate;
+        this.listenerRegistry = listenerRegistry;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+
+        for (String topic : TOPICS) {
+            eventCounters.put(topic, Counter.builder("analytics.rebuild.events").tag("topic", topic).register(meterRegistry));
+        }
+        Gauge.builder("analytics.rebuild.remaining.offsets", remainingOffsets, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("analytics.rebuild.running", running, flag -> flag.get() ? 1 : 0).register(meterRegistry);
+    }
+
+    public RebuildStatusResponse getStatus() {
+        RebuildStatusResponse current = status;
+        if (!"RUNNING".equals(current.state())) {
+            return current;
+        }
+        return new RebuildStatusResponse(current.state(), current.startedAt(), null, current.partitions(),
+                eventsApplied.get(), remainingOffsets.get(), null);
+    }
+
+    /**
+     * Starts a rebuild in the background if none is running here and this replica takes the sync
+     * lease.
+     *
+     * @return the status of the started rebuild, or empty when a rebuild or sync is already running
+     */
+    public Optional<RebuildStatusResponse> start() {
+        if (!running.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+        Optional<SyncLeaseService.Lease> acquired = syncLeaseService.tryAcquire(DataSyncService.SYNC_LEASE, leaseTtl);
+        if (acquired.isEmpty()) {
+            running.set(false);
+            log.info("Skipping metrics rebuild: sync lease held by another instance");
+            return Optional.empty();
+        }
+
+        eventsApplied.set(0);
+        remainingOffsets.set(0);
+        status = new RebuildStatusResponse("RUNNING", Instant.now(), null, 0, 0, 0, null);
+        Thread.ofVirtual().name("analytics-rebuild").start(() -> rebuild(acquired.get()));
+        return Optional.of(status);
+    }
+
+    private void rebuild(SyncLeaseService.Lease lease) {
+        Instant startedAt = status.startedAt();
+        SyncRun run = syncRunRepository.save(new SyncRun(null, lease.token(), lease.owner(), "rebuild",
+                startedAt, null, 0, "RUNNING", null));
+        int partitions = 0;
+        boolean swapped = false;
+        try {
+            log.info("Starting metrics rebuild: token={}", lease.token());
+            Map<TopicPartition, Long> snapshot = endOffsets();
+            Map<TopicPartition, Long> beginning = fullHistory(snapshot.keySet());
+            partitions = snapshot.size();
+            status = new RebuildStatusResponse("RUNNING", startedAt, null, partitions, 0, 0, null);
+            prepareShadows();
+            seedUsers();
+
+            lease = replay(beginning, snapshot, lease);
+            log.info("Metrics rebuild replayed to snapshot: partitions={}, events={}", partitions, eventsApplied.get());
+            Map<TopicPartition, Long> caughtUp = endOffsets();
+            lease = replay(continueFrom(snapshot, caughtUp), caughtUp, lease);
+
+            SyncLeaseService.Lease gate = swapGate.close()
+                    .orElseThrow(() -> new IllegalStateException("Another metrics swap is in progress"));
+            try {
+                pauseListeners();
+                Thread.sleep(swapSettle.toMillis());
+                Map<TopicPartition, Long> end = endOffsets();
+                lease = replay(continueFrom(caughtUp, end), end, lease);
+                syncLeaseService.renew(lease, leaseTtl);
+                if (!Instant.now().isBefore(gate.expiresAt())) {
+                    throw new IllegalStateException("Metrics swap outlasted the swap gate, live events may have been applied");
+                }
+                swap();
+                swapped = true;
+                incrementalAnalyticsService.refreshStudentRanking(MetricCollections.LIVE);
+                dashboardSnapshotService.refresh();
+            } finally {
+                swapGate.open(gate);
+                resumeListeners();
+            }
+            run.setOutcome("SUCCESS");
+        } catch (SyncLeaseService.LeaseLostException e) {
+            log.warn("Metrics rebuild aborted: {}", e.getMessage());
+            run.setOutcome("LEASE_LOST");
+            run.setError(e.getMessage());
+        } catch (HistoryTruncatedException e) {
+            log.warn("Metrics rebuild refused: {}", e.getMessage());
+            run.setOutcome("HISTORY_TRUNCATED");
+            run.setError(e.getMessage());
+        } catch (Exception e) {
+            log.error("Error during metrics rebuild", e);
+            run.setOutcome("FAILED");
+            run.setError(e.getMessage());
+        } finally {
+            if (!swapped) {
+                dropShadows();
+            }
+            syncLeaseService.release(lease);
+            running.set(false);
+        }
+
+        Instant finishedAt = Instant.now();
+        run.setFinishedAt(finishedAt);
+        run.setDurationMs(Duration.between(startedAt, finishedAt).toMillis());
+        syncRunRepository.save(run);
+        status = new RebuildStatusResponse(run.getOutcome(), startedAt, finishedAt, partitions,
+                eventsApplied.get(), remainingOffsets.get(), run.getError());
+        Counter.builder("analytics.rebuild.runs").tag("outcome", run.getOutcome().toLowerCase(Locale.ROOT))
+                .register(meterRegistry).increment();
+        log.info("Metrics rebuild finished: outcome={}, events={}, durationMs={}",
+                run.getOutcome(), eventsApplied.get(), run.getDurationMs());
+    }
+
+    /**
+     * Start offsets for replaying up to {@code end}: where the previous replay stopped, or the
+     * beginning for partitions added since.
+     */
+    private Map<TopicPartition, Long> continueFrom(Map<TopicPartition, Long> replayed, Map<TopicPartition, Long> end) {
+        Map<TopicPartition, Long> from = new HashMap<>(fullHistory(end.keySet()));
+        from.putAll(replayed);
+        return from;
+    }
+
+    /**
+     * Replays every partition from its {@code from} offset up to its {@code to} offset, one worker
+     * per partition, renewing the lease while it waits.
+     */
+    private SyncLeaseService.Lease replay(Map<TopicPartition, Long> from, Map<TopicPartition, Long> to,
+                                          SyncLeaseService.Lease lease) throws Exception {
+        to.forEach((partition, end) -> remainingOffsets.addAndGet(Math.max(0, end - from.getOrDefault(partition, 0L))));
+        long renewEveryMs = Math.max(1000, leaseTtl.toMillis() / 3);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            to.forEach((partition, end) ->
+                    futures.add(workers.submit(() -> replayPartition(partition, from.getOrDefault(partition, 0L), end))));
+            try {
+                for (Future<?> future : futures) {
+                    while (true) {
+                        try {
+                            future.get(renewEveryMs, TimeUnit.MILLISECONDS);
+                            break;
+                        } catch (TimeoutException e) {
+                            lease = syncLeaseService.renew(lease, leaseTtl);
+                        }
+                    }
+                }
+            } catch (ExecutionException e) {
+                futures.forEach(future -> future.cancel(true));
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            } catch (Exception e) {
+                futures.forEach(future -> future.cancel(true));
+                throw e;
+            }
+        }
+        return lease;
+    }
+
+    private Void replayPartition(TopicPartition partition, long from, long to) {
+        if (from >= to) {
+            return null;
+        }
+        Counter counter = eventCounters.get(partition.topic());
+        try (Consumer<String, String> consumer = newConsumer("analytics-rebuild-" + partition)) {
+            consumer.assign(List.of(partition));
+            consumer.seek(partition, from);
+            long position = from;
+            while (position < to) {
+                for (ConsumerRecord<String, String> record : consumer.poll(POLL_TIMEOUT)) {
+                    if (record.offset() >= to) {
+                        break;
+                    }
+                    apply(partition.topic(), record);
+                    counter.increment();
+                    eventsApplied.incrementAndGet();
+                }
+                // Offsets, not records, so compacted gaps and transaction markers still count down
+                long next = Math.min(consumer.position(partition), to);
+                remainingOffsets.addAndGet(position - next);
+                position = next;
+            }
+        }
+        log.debug("Partition replayed: partition={}, from={}, to={}", partition, from, to);
+        return null;
+    }
+
+    private void apply(String topic, ConsumerRecord<String, String> record) {
+        if (record.value() == null) {
+            return;
+        }
+        try {
+            switch (topic) {
+                case "booking.created" -> {
+                    BookingEventPayload event = objectMapper.readValue(record.value(), BookingEventPayload.class);
+                    if (event.getBookingId() != null) {
+                        incrementalAnalyticsService.onBookingCreated(event, SHADOW);
+                    }
+                }
+                case "booking.cancelled" -> {
+                    BookingEventPayload event = objectMapper.readValue(record.value(), BookingEventPayload.class);
+                    if (event.getBookingId() != null) {
+                        incrementalAnalyticsService.onBookingCancelled(event, SHADOW);
+                    }
+                }
+                case "payment.confirmed" -> {
+                    PaymentEventPayload event = objectMapper.readValue(record.value(), PaymentEventPayload.class);
+                    if (event.bookingId() != null) {
+                        incrementalAnalyticsService.onPaymentConfirmed(event.bookingId(), SHADOW);
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unexpected topic: " + topic);
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping unreadable event: topic={}, partition={}, offset={}, error={}",
+                    topic, record.partition(), record.offset(), e.getOriginalMessage());
+        }
+    }
+
+    private void prepareShadows() {
+        dropShadows();
+        MongoPersistentEntityIndexResolver indexResolver =
+                new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        for (Class<?> type : REBUILT) {
+            String shadow = SHADOW.of(mongoTemplate, type);
+            mongoTemplate.createCollection(shadow);
+            for (IndexDefinition index : indexResolver.resolveIndexFor(type)) {
+                mongoTemplate.indexOps(shadow).ensureIndex(index);
+            }
+        }
+    }
+
+    private void dropShadows() {
+        for (Class<?> type : REBUILT) {
+            mongoTemplate.dropCollection(SHADOW.of(mongoTemplate, type));
+        }
+    }
+
+    /**
+     * Names and faculties only reach {@code user_activity} through the sync, so the shadow starts
+     * from the live users with their counts zeroed for the replay to fill in.
+     */
+    private void seedUsers() {
+        String shadow = SHADOW.of(mongoTemplate, UserActivity.class);
+        List<UserActivity> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        try (Stream<UserActivity> users = mongoTemplate.stream(new Query(), UserActivity.class)) {
+            users.forEach(user -> {
+                batch.add(new UserActivity(user.getId(), user.getName(), user.getFaculty(), 0));
+                if (batch.size() == SEED_BATCH_SIZE) {
+                    insertBatch(shadow, batch);
+                }
+            });
+        }
+        insertBatch(shadow, batch);
+    }
+
+    private void insertBatch(String collection, List<UserActivity> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UserActivity.class, collection)
+                .insert(batch)
+                .execute();
+        batch.clear();
+    }
+
+    /**
+     * Renames every shadow over its live collection. Each rename is atomic, and with the swap gate
+     * closed no replica writes to the live collections in between.
+     */
+    private void swap() {
+        String database = mongoTemplate.getDb().getName();
+        for (Class<?> type : REBUILT) {
+            String live = mongoTemplate.getCollectionName(type);
+            mongoTemplate.getCollection(SHADOW.of(mongoTemplate, type))
+                    .renameCollection(new MongoNamespace(database, live), new RenameCollectionOptions().dropTarget(true));
+            log.debug("Rebuilt collection swapped in: collection={}", live);
+        }
+    }
+
+    private void pauseListeners() throws InterruptedException {
+        Collection<MessageListenerContainer> containers = listenerRegistry.getListenerContainers();
+        containers.forEach(MessageListenerContainer::pause);
+        long deadline = System.nanoTime() + pauseTimeout.toNanos();
+        while (!containers.stream().filter(MessageListenerContainer::isRunning).allMatch(MessageListenerContainer::isContainerPaused)) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Kafka listeners did not pause within " + pauseTimeout);
+            }
+            Thread.sleep(100);
+        }
+        log.info("Kafka listeners paused for metrics swap: containers={}", containers.size());
+    }
+
+    private void resumeListeners() {
+        listenerRegistry.getListenerContainers().forEach(MessageListenerContainer::resume);
+        log.info("Kafka listeners resumed");
+    }
+
+    private Map<TopicPartition, Long> endOffsets() {
+        try (Consumer<String, String> consumer = newConsumer("analytics-rebuild-offsets")) {
+            return consumer.endOffsets(partitionsOf(consumer));
+        }
+    }
+
+    /**
+     * Beginning offsets of the given partitions, which must all still start at offset 0.
+     *
+     * @throws HistoryTruncatedException when retention has deleted the start of any partition
+     */
+    private Map<TopicPartition, Long> fullHistory(Collection<TopicPartition> partitions) {
+        Map<TopicPartition, Long> beginning;
+        try (Consumer<String, String> consumer = newConsumer("analytics-rebuild-offsets")) {
+            beginning = consumer.beginningOffsets(partitions);
+        }
+        Map<TopicPartition, Long> truncated = new HashMap<>();
+        beginning.forEach((partition, offset) -> {
+            if (offset > 0) {
+                truncated.put(partition, offset);
+            }
+        });
+        if (!truncated.isEmpty()) {
+            throw new HistoryTruncatedException(truncated);
+        }
+        return beginning;
+    }
+
+    private static List<TopicPartition> partitionsOf(Consumer<String, String> consumer) {
+        List<TopicPartition> partitions = new ArrayList<>();
+        for (String topic : TOPICS) {
+            List<PartitionInfo> infos = consumer.partitionsFor(topic);
+            if (infos != null) {
+                infos.forEach(info -> partitions.add(new TopicPartition(topic, info.partition())));
+            }
+        }
+        return partitions;
+    }
+
+    Consumer<String, String> newConsumer(String clientId) {
+        Properties props = new Properties();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.CLIENT_ID_CONFIG, clientId);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        return new KafkaConsumer<>(props, new StringDeserializer(), new StringDeserializer());
+    }
+
+    static class HistoryTruncatedException extends RuntimeException {
+        HistoryTruncatedException(Map<TopicPartition, Long> beginning) {
+            super("Topic retention has deleted events the rebuild would drop: first retained offsets " + beginning);
+        }
+    }
+}
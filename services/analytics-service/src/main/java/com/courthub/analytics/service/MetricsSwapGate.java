@@ -0,0 +1,84 @@
+package com.courthub.analytics.service;
+
+import com.courthub.analytics.domain.SyncLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Cluster-wide barrier that holds back live incremental updates while a {@link MetricsRebuildService}
+ * swaps its shadow collections in.
+ * <p>
+ * The gate is a lease in {@code sync_leases}: closing it acquires the lease, opening it releases
+ * it, and a rebuilder that dies mid-swap leaves it to expire, so the gate can never stay closed
+ * for longer than its TTL. Every replica checks it before applying an event to the live
+ * collections and waits while it is closed, which blocks that listener thread and therefore the
+ * offsets it would commit.
+ */
+@Slf4j
+@Service
+public class MetricsSwapGate {
+
+    static final String SWAP_LEASE = "analytics-metrics-swap";
+
+    private static final long POLL_INTERVAL_MS = 200;
+
+    private final MongoTemplate mongoTemplate;
+    private final SyncLeaseService syncLeaseService;
+
+    @Value("${analytics.rebuild.swap-timeout:60s}")
+    private Duration swapTimeout;
+
+    public MetricsSwapGate(MongoTemplate mongoTemplate, SyncLeaseService syncLeaseService) {
+        this.mongoTemplate = mongoTemplate;
+        this.syncLeaseService = syncLeaseService;
+    }
+
+    /**
+     * @return the gate's lease, which expires after {@code analytics.rebuild.swap-timeout}, or empty
+     * when another swap holds it
+     */
+    public Optional<SyncLeaseService.Lease> close() {
+        Optional<SyncLeaseService.Lease> lease = syncLeaseService.tryAcquire(SWAP_LEASE, swapTimeout);
+        lease.ifPresent(held -> log.info("Metrics swap gate closed: token={}, expiresAt={}", held.token(), held.expiresAt()));
+        return lease;
+    }
+
+    public void open(SyncLeaseService.Lease lease) {
+        syncLeaseService.release(lease);
+        log.info("Metrics swap gate opened: token={}", lease.token());
+    }
+
+    public boolean isClosed() {
+        return mongoTemplate.exists(
+                new Query(where("_id").is(SWAP_LEASE).and("expiresAt").gt(Instant.now())), SyncLease.class);
+    }
+
+    /**
+     * Blocks while the gate is closed.
+     *
+     * @throws IllegalStateException if interrupted while waiting, so the event is redelivered
+     */
+    public void awaitOpen() {
+        if (!isClosed()) {
+            return;
+        }
+        log.info("Waiting for metrics swap to finish");
+        try {
+            do {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } while (isClosed());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for metrics swap", e);
+        }
+    }
+}
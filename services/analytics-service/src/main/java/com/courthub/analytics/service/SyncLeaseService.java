@@ -0,0 +1,99 @@
+package com.courthub.analytics.service;
+
+import com.courthub.analytics.domain.SyncLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Mongo-backed leases that let exactly one replica run a cluster-wide job at a time.
+ * <p>
+ * A lease is taken with one atomic {@code findAndModify} that only matches an expired lease (or
+ * inserts the first one; a concurrent insert loses on the {@code _id} key), and it increments the
+ * lease's token. Renewal and release are conditional on that token, so a replica that stalled past
+ * its expiry cannot extend or drop the lease of the one that took over. The token is also a
+ * fencing token: writers stamp it on the documents they write so a stale holder's late writes are
+ * rejected, see {@link DataSyncService}.
+ */
+@Slf4j
+@Service
+public class SyncLeaseService {
+
+    public record Lease(String name, String owner, long token, Instant expiresAt) {
+    }
+
+    public static class LeaseLostException extends RuntimeException {
+        public LeaseLostException(Lease lease) {
+            super("Lease " + lease.name() + " lost: token=" + lease.token());
+        }
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final String owner;
+
+    public SyncLeaseService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public Optional<Lease> tryAcquire(String name, Duration ttl) {
+        Instant now = Instant.now();
+        try {
+            SyncLease lease = mongoTemplate.findAndModify(
+                    new Query(where("_id").is(name).and("expiresAt").lte(now)),
+                    new Update()
+                            .set("owner", owner)
+                            .set("acquiredAt", now)
+                            .set("expiresAt", now.plus(ttl))
+                            .inc("token", 1),
+                    FindAndModifyOptions.options().returnNew(true).upsert(true),
+                    SyncLease.class);
+            if (lease == null) {
+                return Optional.empty();
+            }
+            log.debug("Lease acquired: name={}, owner={}, token={}", name, owner, lease.getToken());
+            return Optional.of(new Lease(name, owner, lease.getToken(), lease.getExpiresAt()));
+        } catch (DuplicateKeyException e) {
+            // The lease exists and has not expired, so the upsert tried to insert a second one
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Extends the lease if it is still held with the same token.
+     *
+     * @throws LeaseLostException if another replica took the lease over
+     */
+    public Lease renew(Lease lease, Duration ttl) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        long updated = mongoTemplate.updateFirst(
+                new Query(where("_id").is(lease.name()).and("token").is(lease.token())),
+                new Update().set("expiresAt", expiresAt),
+                SyncLease.class).getMatchedCount();
+        if (updated == 0) {
+            throw new LeaseLostException(lease);
+        }
+        return new Lease(lease.name(), lease.owner(), lease.token(), expiresAt);
+    }
+
+    public void release(Lease lease) {
+        // Expire rather than delete, so the token keeps growing across holders
+        mongoTemplate.updateFirst(
+                new Query(where("_id").is(lease.name()).and("token").is(lease.token())),
+                new Update().set("expiresAt", Instant.now()),
+                SyncLease.class);
+        log.debug("Lease released: name={}, token={}", lease.name(), lease.token());
+    }
+}
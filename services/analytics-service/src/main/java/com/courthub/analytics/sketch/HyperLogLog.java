@@ -0,0 +1,148 @@
+package com.courthub.analytics.sketch;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * HyperLogLog distinct-count sketch with {@code 2^precision} one-byte registers.
+ * <p>
+ * Memory is fixed by the precision whatever the number of items. The relative standard error of
+ * {@link #estimate()} is about {@code 1.04 / sqrt(2^precision)}: 1.6% at the default precision of
+ * 12 (4096 registers), so 95% of estimates fall within 3.3% of the true count. Below
+ * {@code 2.5 * 2^precision} distinct items linear counting is used, which is close to exact for
+ * the small counts of a faculty and day.
+ * <p>
+ * Adding an item only ever raises one register to a maximum, so sketches of the same precision are
+ * merged by taking the register-wise maximum: the merge of two days or two replicas is the sketch
+ * of the union of their items, and applying the same item twice changes nothing. That is also what
+ * lets a sketch live in Mongo as a register map updated with {@code $max}, see {@link #observe}.
+ */
+public final class HyperLogLog {
+
+    public static final int DEFAULT_PRECISION = 12;
+
+    /**
+     * The register an item lands in and the rank it raises that register to.
+     */
+    public record Observation(int register, int rank) {
+    }
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("precision must be between 4 and 18: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * Rebuilds a sketch from a sparse register map as stored in Mongo (register index to rank).
+     */
+    public static HyperLogLog fromRegisters(int precision, Map<String, Integer> registers) {
+        HyperLogLog sketch = new HyperLogLog(precision);
+        if (registers != null) {
+            registers.forEach((index, rank) -> sketch.raise(Integer.parseInt(index), rank));
+        }
+        return sketch;
+    }
+
+    public static Observation observe(String item, int precision) {
+        long hash = hash(item);
+        int register = (int) (hash >>> (64 - precision));
+        int rank = Math.min(Long.numberOfLeadingZeros(hash << precision), 64 - precision) + 1;
+        return new Observation(register, rank);
+    }
+
+    public void add(String item) {
+        Observation observation = observe(item, precision);
+        raise(observation.register(), observation.rank());
+    }
+
+    public HyperLogLog merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge sketches of precision " + precision + " and " + other.precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        return this;
+    }
+
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public boolean isEmpty() {
+        for (byte register : registers) {
+            if (register != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof HyperLogLog other && precision == other.precision && Arrays.equals(registers, other.registers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(registers);
+    }
+
+    private void raise(int register, int rank) {
+        if (rank > registers[register]) {
+            registers[register] = (byte) rank;
+        }
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 code units, finished with the MurmurHash3 avalanche step so
+     * that ids differing in a few characters spread over all registers.
+     */
+    static long hash(String item) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < item.length(); i++) {
+            h ^= item.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
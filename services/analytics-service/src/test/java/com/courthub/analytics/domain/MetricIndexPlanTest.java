@@ -0,0 +1,134 @@
+package com.courthub.analytics.domain;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Runs {@code explain()} for the service's metric queries against a real MongoDB and asserts the
+ * winning plan is an index scan. Skipped where Docker is not available; {@link MetricIndexesTest}
+ * checks the same queries against the declared indexes without a server.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Metric collection query plan Integration Tests")
+public class MetricIndexPlanTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient client;
+    private static MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        client = MongoClients.create(MONGO.getConnectionString());
+        mongoTemplate = new MongoTemplate(client, "analytics");
+        MongoPersistentEntityIndexResolver resolver =
+                new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        for (Class<?> type : List.of(OccupancyMetric.class, FacultyUsageMetric.class, ReservationHistory.class,
+                StudentRanking.class, UserActivity.class, BookingRollup.class, FacultyActiveUsers.class)) {
+            for (IndexDefinition index : resolver.resolveIndexFor(type)) {
+                mongoTemplate.indexOps(type).ensureIndex(index);
+            }
+        }
+
+        LocalDate first = LocalDate.of(2026, 1, 1);
+        List<Document> occupancy = new ArrayList<>();
+        List<Document> users = new ArrayList<>();
+        List<Document> rankings = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            occupancy.add(new Document("date", first.plusDays(i % 100)).append("courtId", "court-" + i / 100));
+            users.add(new Document("_id", "user-" + i).append("confirmedBookings", i % 37));
+            if (i < 100) {
+                rankings.add(new Document("_id", first.plusDays(i).toString()).append("date", first.plusDays(i)));
+            }
+        }
+        mongoTemplate.insert(occupancy, mongoTemplate.getCollectionName(OccupancyMetric.class));
+        mongoTemplate.insert(users, mongoTemplate.getCollectionName(UserActivity.class));
+        mongoTemplate.insert(rankings, mongoTemplate.getCollectionName(StudentRanking.class));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer the fenced sync upserts' match with an index scan")
+    void testSyncUpsertMatchesUseIndexes() {
+        Criteria fence = new Criteria().orOperator(where("syncToken").exists(false), where("syncToken").lte(7L));
+        assertIndexScan(OccupancyMetric.class, new Query(where("date").is(LocalDate.of(2026, 1, 5))
+                .and("courtId").is("court-1")).addCriteria(fence));
+        assertIndexScan(FacultyUsageMetric.class, new Query(where("date").is(LocalDate.of(2026, 1, 5))
+                .and("faculty").is("ARTES")).addCriteria(fence));
+        assertIndexScan(ReservationHistory.class, new Query(where("year").is(2026).and("month").is("Jan")));
+        assertIndexScan(BookingRollup.class, new Query(where("granularity").is("DAY")
+                .and("bucketStart").in(LocalDateTime.of(2026, 1, 5, 0, 0), LocalDateTime.of(2026, 1, 6, 0, 0))));
+        assertIndexScan(FacultyActiveUsers.class, new Query(where("date").is(LocalDate.of(2026, 1, 5))
+                .and("faculty").is("ARTES")));
+    }
+
+    @Test
+    @DisplayName("Should answer the dashboard reads with an index scan")
+    void testDashboardReadsUseIndexes() {
+        assertIndexScan(OccupancyMetric.class, new Query(where("date").is(LocalDate.of(2026, 1, 5))));
+        assertIndexScan(FacultyUsageMetric.class, new Query(where("date").is(LocalDate.of(2026, 1, 5))));
+        assertIndexScan(FacultyUsageMetric.class, new Query(where("faculty").is("ARTES"))
+                .with(Sort.by(Sort.Direction.DESC, "date")).limit(1));
+        assertIndexScan(ReservationHistory.class, new Query(where("year").in(2025, 2026)));
+        assertIndexScan(StudentRanking.class, new Query().with(Sort.by(Sort.Direction.DESC, "date")).limit(1));
+        assertIndexScan(UserActivity.class, new Query(where("confirmedBookings").gt(0))
+                .with(Sort.by(Sort.Direction.DESC, "confirmedBookings")).limit(5));
+        assertIndexScan(FacultyActiveUsers.class, new Query(where("date").is(LocalDate.of(2026, 1, 5))));
+    }
+
+    private static void assertIndexScan(Class<?> type, Query query) {
+        QueryMapper mapper = new QueryMapper(mongoTemplate.getConverter());
+        var entity = mongoTemplate.getConverter().getMappingContext().getPersistentEntity(type);
+        Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(type))
+                .find(mapper.getMappedObject(query.getQueryObject(), entity))
+                .sort(mapper.getMappedSort(query.getSortObject(), entity))
+                .limit(query.getLimit())
+                .explain();
+        Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+
+        List<String> stages = new ArrayList<>();
+        collectStages(winningPlan, stages);
+        assertThat(stages).as("%s plan for %s", type.getSimpleName(), query).contains("IXSCAN").doesNotContain("COLLSCAN");
+    }
+
+    private static void collectStages(Object node, List<String> stages) {
+        if (node instanceof Document document) {
+            if (document.get("stage") instanceof String stage) {
+                stages.add(stage);
+            }
+            document.values().forEach(value -> collectStages(value, stages));
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> collectStages(value, stages));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.courthub.analytics.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Checks that every query the service runs on a metric collection starts with the keys of one of
+ * the indexes the entity declares, in order, so the planner can answer it with an index scan.
+ * {@code MetricIndexPlanTest} confirms the plans against a real server where Docker is available.
+ */
+@DisplayName("Metric collection index Unit Tests")
+public class MetricIndexesTest {
+
+    private MongoPersistentEntityIndexResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        // As configured by Spring Boot, so java.time values are stored as simple types
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+    }
+
+    @Test
+    @DisplayName("Should index the keys every sync and event upsert matches on, uniquely")
+    void testUpsertKeysAreUniquelyIndexed() {
+        assertUniqueIndex(OccupancyMetric.class, "date", "courtId");
+        assertUniqueIndex(FacultyUsageMetric.class, "faculty", "date");
+        assertUniqueIndex(ReservationHistory.class, "year", "month");
+        assertUniqueIndex(MaintenanceMetric.class, "date");
+        assertUniqueIndex(BookingRollup.class, "granularity", "bucketStart");
+        assertUniqueIndex(FacultyActiveUsers.class, "date", "faculty");
+    }
+
+    @Test
+    @DisplayName("Should index the leading keys of every dashboard read")
+    void testDashboardReadsAreIndexed() {
+        assertIndexed(OccupancyMetric.class, "date");                // findByDate
+        assertIndexed(FacultyUsageMetric.class, "date");             // findByDate
+        assertIndexed(FacultyUsageMetric.class, "faculty", "date");  // latest per faculty, date descending
+        assertIndexed(ReservationHistory.class, "year");             // findByYearIn
+        assertIndexed(StudentRanking.class, "date");                 // findTopByOrderByDateDesc
+        assertIndexed(UserActivity.class, "confirmedBookings");      // top five by confirmed bookings
+        assertIndexed(FacultyActiveUsers.class, "date");             // every faculty sketch of a day
+    }
+
+    private void assertUniqueIndex(Class<?> type, String... keys) {
+        assertThat(indexes(type))
+                .as("%s unique index on %s", type.getSimpleName(), List.of(keys))
+                .anySatisfy(index -> {
+                    assertThat(new ArrayList<>(index.getIndexKeys().keySet())).containsExactly(keys);
+                    assertThat(index.getIndexOptions().getBoolean("unique", false)).isTrue();
+                });
+    }
+
+    private void assertIndexed(Class<?> type, String... keys) {
+        assertThat(indexes(type))
+                .as("%s index starting with %s", type.getSimpleName(), List.of(keys))
+                .anySatisfy(index -> assertThat(new ArrayList<>(index.getIndexKeys().keySet())).startsWith(keys));
+    }
+
+    private List<IndexDefinition> indexes(Class<?> type) {
+        List<IndexDefinition> indexes = new ArrayList<>();
+        resolver.resolveIndexFor(type).forEach(indexes::add);
+        return indexes;
+    }
+}
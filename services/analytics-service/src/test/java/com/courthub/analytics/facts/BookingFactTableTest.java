@@ -0,0 +1,178 @@
+package com.courthub.analytics.facts;
+
+import com.courthub.analytics.facts.BookingFactTable.Dimension;
+import com.courthub.common.dto.analytics.BookingInternalDTO;
+import com.courthub.common.dto.analytics.UserInternalDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BookingFactTable Unit Tests")
+public class BookingFactTableTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    private BookingFactTable table;
+
+    @BeforeEach
+    void setUp() {
+        BookingFactTable.Builder builder = new BookingFactTable.Builder();
+        builder.accept(booking("court-a", MONDAY, 9, "CONFIRMED", "user-1"));
+        builder.accept(booking("court-a", MONDAY, 10, "CONFIRMED", "user-2"));
+        builder.accept(booking("court-b", MONDAY, 10, "CANCELLED", "user-1"));
+        builder.accept(booking("court-b", MONDAY.plusDays(1), 10, "CONFIRMED", "user-3"));
+        builder.accept(booking("court-c", MONDAY.plusDays(1), 11, "CONFIRMED", "user-2"));
+        builder.accept(booking("court-a", MONDAY.plusDays(31), 9, "CANCELLED", "user-4"));
+        builder.accept(new BookingInternalDTO(null, "court-a", MONDAY.plusDays(2), null, "PENDING", null));
+        builder.accept(new BookingInternalDTO(null, "court-a", null, LocalTime.of(9, 0), "CONFIRMED", "user-1"));
+        table = builder.build(List.of(
+                new UserInternalDTO("user-1", "Ana", "ARTES"),
+                new UserInternalDTO("user-2", "Luis", "CIENCIAS"),
+                new UserInternalDTO("user-3", "Eva", "ARTES")));
+    }
+
+    @Test
+    @DisplayName("Should OR values within a bitmap filter and AND across bitmap filters")
+    void testBitmapFilters() {
+        // Act
+        BookingFactTable.Result result = table.query(query(List.of(Dimension.COURT),
+                Map.of(Dimension.STATUS, Set.of("CONFIRMED"), Dimension.FACULTY, Set.of("ARTES", "CIENCIAS"))));
+
+        // Assert
+        assertThat(result.groups()).containsExactly(
+                new BookingFactTable.Group(List.of("court-a"), 2),
+                new BookingFactTable.Group(List.of("court-b"), 1),
+                new BookingFactTable.Group(List.of("court-c"), 1));
+        assertThat(result.matchedRows()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should combine bitmap candidates with scanned filters and an inclusive date range")
+    void testScannedFiltersAndDateRange() {
+        // Act
+        BookingFactTable.Result tenOClock = table.query(query(List.of(Dimension.DAY_OF_WEEK),
+                Map.of(Dimension.COURT, Set.of("court-b"), Dimension.HOUR, Set.of("10:00"))));
+        BookingFactTable.Result firstTwoDays = table.query(
+                new BookingFactTable.Query(List.of(Dimension.STATUS), Map.of(), MONDAY, MONDAY.plusDays(1)));
+
+        // Assert
+        assertThat(tenOClock.groups()).containsExactlyInAnyOrder(
+                new BookingFactTable.Group(List.of("MONDAY"), 1),
+                new BookingFactTable.Group(List.of("TUESDAY"), 1));
+        assertThat(firstTwoDays.groups()).containsExactly(
+                new BookingFactTable.Group(List.of("CONFIRMED"), 4),
+                new BookingFactTable.Group(List.of("CANCELLED"), 1));
+    }
+
+    @Test
+    @DisplayName("Should label users without a known faculty as Unknown and bookings without a start as none")
+    void testUnknownFacultyAndMissingHour() {
+        // Act
+        BookingFactTable.Result byFaculty = table.query(query(List.of(Dimension.FACULTY, Dimension.MONTH), Map.of()));
+        BookingFactTable.Result pending = table.query(query(List.of(Dimension.HOUR), Map.of(Dimension.STATUS, Set.of("PENDING"))));
+
+        // Assert
+        assertThat(table.size()).isEqualTo(7);
+        assertThat(byFaculty.groups()).containsExactlyInAnyOrder(
+                new BookingFactTable.Group(List.of("ARTES", "2026-03"), 3),
+                new BookingFactTable.Group(List.of("CIENCIAS", "2026-03"), 2),
+                new BookingFactTable.Group(List.of("Unknown", "2026-03"), 1),
+                new BookingFactTable.Group(List.of("Unknown", "2026-04"), 1));
+        assertThat(pending.groups()).containsExactly(new BookingFactTable.Group(List.of("none"), 1));
+    }
+
+    @Test
+    @DisplayName("Should reject group-bys above the group limit and unknown dimensions")
+    void testGroupLimit() {
+        // Arrange
+        BookingFactTable.Builder builder = new BookingFactTable.Builder();
+        builder.accept(booking("court-a", MONDAY, 9, "CONFIRMED", "user-1"));
+        builder.accept(booking("court-a", MONDAY.plusDays(3000), 9, "CONFIRMED", "user-1"));
+        BookingFactTable wide = builder.build(List.of());
+
+        // Act & Assert
+        assertThat(wide.query(query(List.of(Dimension.DATE), Map.of())).groups()).hasSize(2);
+        assertThatThrownBy(() -> wide.query(query(List.of(Dimension.DATE, Dimension.HOUR), Map.of())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(Integer.toString(BookingFactTable.MAX_GROUPS));
+        assertThatThrownBy(() -> Dimension.fromKey("surface"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should sum counts across parallel segments")
+    void testParallelSegments() {
+        // Arrange
+        BookingFactTable.Builder builder = new BookingFactTable.Builder();
+        int rows = 300_000;
+        for (int i = 0; i < rows; i++) {
+            builder.accept(booking("court-" + i % 7, MONDAY.plusDays(i % 90), 8 + i % 8,
+                    i % 4 == 0 ? "CANCELLED" : "CONFIRMED", "user-" + i % 1000));
+        }
+        BookingFactTable large = builder.build(List.of());
+
+        // Act
+        BookingFactTable.Result result = large.query(query(List.of(Dimension.COURT),
+                Map.of(Dimension.STATUS, Set.of("CANCELLED"), Dimension.HOUR, Set.of("08:00", "12:00"))));
+
+        // Assert
+        assertThat(result.segments()).isGreaterThan(1);
+        // i % 4 == 0 and i % 8 in {0, 4}: every fourth row
+        assertThat(result.matchedRows()).isEqualTo(rows / 4);
+        assertThat(result.groups()).hasSize(7);
+        assertThat(result.groups().stream().mapToLong(BookingFactTable.Group::count).sum()).isEqualTo(rows / 4);
+    }
+
+    @Test
+    @DisplayName("Should answer every query the same after a write and read round trip")
+    void testRoundTrip() throws IOException {
+        // Arrange
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        table.writeTo(bytes);
+
+        // Act
+        BookingFactTable loaded = BookingFactTable.readFrom(new ByteArrayInputStream(bytes.toByteArray()));
+
+        // Assert
+        assertThat(loaded.size()).isEqualTo(table.size());
+        for (Dimension dimension : Dimension.values()) {
+            assertThat(loaded.query(query(List.of(dimension), Map.of())))
+                    .isEqualTo(table.query(query(List.of(dimension), Map.of())));
+        }
+        Map<Dimension, Collection<String>> filters = Map.of(Dimension.STATUS, Set.of("CONFIRMED"), Dimension.FACULTY, Set.of("ARTES"));
+        assertThat(loaded.query(query(List.of(Dimension.COURT, Dimension.HOUR), filters)))
+                .isEqualTo(table.query(query(List.of(Dimension.COURT, Dimension.HOUR), filters)));
+    }
+
+    @Test
+    @DisplayName("Should answer an empty table with no groups")
+    void testEmptyTable() {
+        // Act
+        BookingFactTable.Result result = BookingFactTable.empty().query(query(List.of(Dimension.STATUS, Dimension.DATE), Map.of()));
+
+        // Assert
+        assertThat(result.groups()).isEmpty();
+        assertThat(result.matchedRows()).isZero();
+    }
+
+    private static BookingFactTable.Query query(List<Dimension> groupBy,
+                                                Map<Dimension, Collection<String>> filters) {
+        return new BookingFactTable.Query(groupBy, filters, null, null);
+    }
+
+    private static BookingInternalDTO booking(String courtId, LocalDate date, int hour, String status, String userId) {
+        return new BookingInternalDTO(null, courtId, date, LocalTime.of(hour, 0), status, userId);
+    }
+}
@@ -0,0 +1,143 @@
+package com.courthub.analytics.service;
+
+import com.courthub.common.dto.analytics.BookingInternalDTO;
+import com.courthub.common.dto.analytics.UserInternalDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BookingAggregator Unit Tests")
+public class BookingAggregatorTest {
+
+    private BookingAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new BookingAggregator();
+    }
+
+    @Test
+    @DisplayName("Should grow the day and month arrays backwards for bookings older than the first one seen")
+    void testGrowsBackwardsForEarlierDates() {
+        // Arrange
+        LocalDate march = LocalDate.of(2026, 3, 10);
+        LocalDate january = LocalDate.of(2026, 1, 5);
+        LocalDate december = LocalDate.of(2025, 12, 31);
+
+        // Act
+        aggregator.accept(booking("court-a", march, 9, "CONFIRMED", "user-1"));
+        aggregator.accept(booking("court-a", january, 10, "CONFIRMED", "user-1"));
+        aggregator.accept(booking("court-b", december, 11, "CANCELLED", "user-2"));
+        aggregator.accept(booking("court-a", march, 12, "CONFIRMED", "user-2"));
+
+        // Assert
+        assertThat(aggregator.occupancy())
+                .extracting(BookingAggregator.OccupancyCell::date, BookingAggregator.OccupancyCell::courtId,
+                        BookingAggregator.OccupancyCell::occupiedSlots)
+                .containsExactly(
+                        tuple(december, "court-b", 0),
+                        tuple(january, "court-a", 1),
+                        tuple(march, "court-a", 2));
+        assertThat(aggregator.reservationHistory()).containsExactly(
+                new BookingAggregator.MonthCounts(YearMonth.of(2025, 12), 0, 1),
+                new BookingAggregator.MonthCounts(YearMonth.of(2026, 1), 1, 0),
+                new BookingAggregator.MonthCounts(YearMonth.of(2026, 3), 2, 0));
+        assertThat(aggregator.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should keep a day's counts when a new court is seen after the day's cells were sized")
+    void testGrowsCourtsWithinADay() {
+        // Arrange
+        LocalDate day = LocalDate.of(2026, 3, 10);
+
+        // Act
+        aggregator.accept(booking("court-a", day, 9, "CONFIRMED", "user-1"));
+        aggregator.accept(booking("court-b", LocalDate.of(2026, 3, 11), 9, "CONFIRMED", "user-1"));
+        aggregator.accept(booking("court-c", day, 9, "CONFIRMED", "user-1"));
+        aggregator.accept(booking("court-a", day, 10, "CANCELLED", "user-1"));
+
+        // Assert
+        assertThat(aggregator.occupancy())
+                .extracting(BookingAggregator.OccupancyCell::courtId, BookingAggregator.OccupancyCell::occupiedSlots)
+                .containsExactly(tuple("court-a", 1), tuple("court-c", 1), tuple("court-b", 1));
+        assertThat(aggregator.occupancy().get(0).hourlyOccupancy()).isEqualTo(Map.of("09:00", 1));
+        assertThat(aggregator.hourCounts()).contains(
+                new BookingAggregator.HourCount(day.atTime(10, 0), "court-a", 0, 1));
+    }
+
+    @Test
+    @DisplayName("Should count only confirmed bookings in the peak hours matrix and return a copy")
+    void testPeakHours() {
+        // Arrange
+        LocalDate wednesday = LocalDate.of(2026, 3, 11);
+        aggregator.accept(booking("court-a", wednesday, 10, "CONFIRMED", "user-1"));
+        aggregator.accept(booking("court-a", wednesday, 10, "CONFIRMED", "user-2"));
+        aggregator.accept(booking("court-a", wednesday, 10, "CANCELLED", "user-3"));
+
+        // Act
+        int[][] matrix = aggregator.peakHours();
+        matrix[2][10] = 0;
+
+        // Assert
+        assertThat(aggregator.peakHours()[2][10]).isEqualTo(2);
+        assertThat(aggregator.peakHours()[3][10]).isZero();
+    }
+
+    @Test
+    @DisplayName("Should select the top users by confirmed bookings, most first, skipping users without any")
+    void testTopUsers() {
+        // Arrange
+        int[] confirmed = {3, 7, 1, 5, 0, 9, 2};
+        for (int user = 0; user < confirmed.length; user++) {
+            for (int i = 0; i < confirmed[user]; i++) {
+                aggregator.accept(booking("court-a", LocalDate.of(2026, 3, 10), 9, "CONFIRMED", "user-" + user));
+            }
+            aggregator.accept(booking("court-a", LocalDate.of(2026, 3, 10), 9, "CANCELLED", "user-" + user));
+        }
+
+        // Act
+        List<BookingAggregator.UserCount> top = aggregator.topUsers(3);
+
+        // Assert
+        assertThat(top).containsExactly(
+                new BookingAggregator.UserCount("user-5", 9),
+                new BookingAggregator.UserCount("user-1", 7),
+                new BookingAggregator.UserCount("user-3", 5));
+        assertThat(aggregator.topUsers(10)).hasSize(6);
+        assertThat(aggregator.topUsers(0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep per-user counts while the user array grows")
+    void testUserCountsSurviveGrowth() {
+        // Arrange
+        for (int user = 0; user < 40; user++) {
+            for (int i = 0; i <= user % 3; i++) {
+                aggregator.accept(booking("court-a", LocalDate.of(2026, 3, 10), 9, "CONFIRMED", "user-" + user));
+            }
+        }
+
+        // Act & Assert
+        assertThat(aggregator.confirmedBookings("user-0")).isEqualTo(1);
+        assertThat(aggregator.confirmedBookings("user-17")).isEqualTo(3);
+        assertThat(aggregator.confirmedBookings("user-39")).isEqualTo(1);
+        assertThat(aggregator.confirmedBookings("unknown")).isZero();
+        assertThat(aggregator.facultyUsage(List.of(
+                new UserInternalDTO("user-17", "Ana", "ARTES"),
+                new UserInternalDTO("user-18", "Luis", "ARTES"))))
+                .isEqualTo(Map.of("ARTES", 4));
+    }
+
+    private static BookingInternalDTO booking(String courtId, LocalDate date, int hour, String status, String userId) {
+        return new BookingInternalDTO(null, courtId, date, LocalTime.of(hour, 0), status, userId);
+    }
+}
@@ -0,0 +1,129 @@
+package com.courthub.analytics.service;
+
+import com.courthub.analytics.dto.FactQueryRequest;
+import com.courthub.analytics.dto.FactQueryResponse;
+import com.courthub.analytics.facts.BookingFactTable;
+import com.courthub.common.dto.analytics.BookingInternalDTO;
+import com.courthub.common.dto.analytics.UserInternalDTO;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.gridfs.GridFsOperations;
+import org.springframework.data.mongodb.gridfs.GridFsResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Two service instances sharing one GridFS bucket: the sync lease holder, which builds and
+ * publishes the table, and a replica that never holds the lease.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingFactTableService Unit Tests")
+public class BookingFactTableServiceTest {
+
+    @Mock
+    private GridFsOperations gridFsOperations;
+
+    private BookingFactTableService holder;
+    private BookingFactTableService replica;
+
+    private final List<GridFSFile> files = new ArrayList<>();
+    private final List<byte[]> contents = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        holder = new BookingFactTableService(gridFsOperations);
+        replica = new BookingFactTableService(gridFsOperations);
+        ReflectionTestUtils.setField(holder, "enabled", true);
+        ReflectionTestUtils.setField(replica, "enabled", true);
+
+        lenient().when(gridFsOperations.store(any(InputStream.class), eq(BookingFactTableService.FILE_NAME), anyString(),
+                        any(Document.class)))
+                .thenAnswer(invocation -> {
+                    byte[] bytes = ((InputStream) invocation.getArgument(0)).readAllBytes();
+                    BsonObjectId id = new BsonObjectId();
+                    files.add(new GridFSFile(id, invocation.getArgument(1), bytes.length, 255 * 1024, new Date(),
+                            invocation.getArgument(3)));
+                    contents.add(bytes);
+                    return id.getValue();
+                });
+        lenient().when(gridFsOperations.findOne(any(Query.class)))
+                .thenAnswer(invocation -> files.isEmpty() ? null : files.get(files.size() - 1));
+        lenient().when(gridFsOperations.getResource(any(GridFSFile.class)))
+                .thenAnswer(invocation -> new GridFsResource(invocation.getArgument(0),
+                        new ByteArrayInputStream(contents.get(files.indexOf((GridFSFile) invocation.getArgument(0))))));
+    }
+
+    @Test
+    @DisplayName("Should answer queries on a replica that never holds the sync lease")
+    void testReplicaWithoutLeaseLoadsPublishedTable() {
+        // Arrange
+        FactQueryRequest request = new FactQueryRequest(List.of("court"), Map.of("status", List.of("CONFIRMED")),
+                null, null, null);
+        replica.refreshFromPersisted();
+        assertThat(replica.query(request)).isEmpty();
+
+        // Act
+        holder.publish(table(3));
+        replica.refreshFromPersisted();
+
+        // Assert
+        Optional<FactQueryResponse> fromHolder = holder.query(request);
+        Optional<FactQueryResponse> fromReplica = replica.query(request);
+        assertThat(fromReplica).isPresent();
+        assertThat(fromReplica.get().rows()).isEqualTo(fromHolder.get().rows());
+        assertThat(fromReplica.get().builtAt()).isEqualTo(fromHolder.get().builtAt());
+        verify(gridFsOperations, times(1)).delete(any(Query.class));
+    }
+
+    @Test
+    @DisplayName("Should load only stored tables newer than the one a replica holds")
+    void testReplicaReloadsOnlyNewerTables() throws InterruptedException {
+        // Arrange
+        holder.publish(table(2));
+        replica.refreshFromPersisted();
+        replica.refreshFromPersisted();
+        verify(gridFsOperations, times(1)).getResource(any(GridFSFile.class));
+
+        // Act
+        Thread.sleep(5); // stored build times have millisecond precision
+        holder.publish(table(5));
+        replica.refreshFromPersisted();
+
+        // Assert
+        verify(gridFsOperations, times(2)).getResource(any(GridFSFile.class));
+        assertThat(replica.query(new FactQueryRequest(List.of(), Map.of(), null, null, null)))
+                .get().extracting(FactQueryResponse::tableRows).isEqualTo(5);
+    }
+
+    private static BookingFactTable table(int bookings) {
+        BookingFactTable.Builder builder = new BookingFactTable.Builder();
+        for (int i = 0; i < bookings; i++) {
+            builder.accept(new BookingInternalDTO(null, "court-" + (i % 2), LocalDate.of(2026, 3, 2).plusDays(i),
+                    LocalTime.of(9, 0), "CONFIRMED", "user-1"));
+        }
+        return builder.build(List.of(new UserInternalDTO("user-1", "Ana", "ARTES")));
+    }
+}
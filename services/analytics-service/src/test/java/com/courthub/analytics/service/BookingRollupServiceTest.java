@@ -0,0 +1,107 @@
+package com.courthub.analytics.service;
+
+import com.courthub.analytics.domain.RollupGranularity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BookingRollupService Unit Tests")
+public class BookingRollupServiceTest {
+
+    @Test
+    @DisplayName("Should cover a whole calendar month with one month bucket")
+    void testCoverWholeMonth() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2026, 3, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 4, 1, 0, 0);
+
+        // Act
+        Map<RollupGranularity, List<LocalDateTime>> buckets = BookingRollupService.cover(from, to);
+
+        // Assert
+        assertThat(buckets).containsExactly(entry(RollupGranularity.MONTH, List.of(from)));
+    }
+
+    @Test
+    @DisplayName("Should tile up to a month start in days rather than a week that would straddle it")
+    void testCoverAcrossMonthEdges() {
+        // Arrange: Friday 05:00 before a month that fits whole, ending two days into the next one
+        LocalDateTime from = LocalDateTime.of(2026, 2, 20, 5, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 4, 3, 0, 0);
+
+        // Act
+        Map<RollupGranularity, List<LocalDateTime>> buckets = BookingRollupService.cover(from, to);
+
+        // Assert
+        assertTiles(buckets, from, to);
+        assertThat(buckets.get(RollupGranularity.HOUR)).hasSize(19);
+        assertThat(buckets.get(RollupGranularity.DAY)).extracting(LocalDateTime::toLocalDate).containsExactly(
+                LocalDate.of(2026, 2, 21), LocalDate.of(2026, 2, 22), LocalDate.of(2026, 2, 23),
+                LocalDate.of(2026, 2, 24), LocalDate.of(2026, 2, 25), LocalDate.of(2026, 2, 26),
+                LocalDate.of(2026, 2, 27), LocalDate.of(2026, 2, 28),
+                LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 2));
+        assertThat(buckets).doesNotContainKey(RollupGranularity.WEEK);
+        assertThat(buckets.get(RollupGranularity.MONTH)).containsExactly(LocalDateTime.of(2026, 3, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Should use Monday-aligned weeks, letting one straddle a month start when no whole month fits")
+    void testCoverWeekEdges() {
+        // Arrange
+        LocalDateTime within = LocalDateTime.of(2026, 3, 2, 0, 0);
+        LocalDateTime straddling = LocalDateTime.of(2026, 3, 23, 0, 0);
+
+        // Act
+        Map<RollupGranularity, List<LocalDateTime>> weeks = BookingRollupService.cover(within, within.plusWeeks(3));
+        Map<RollupGranularity, List<LocalDateTime>> acrossMonth =
+                BookingRollupService.cover(straddling, LocalDateTime.of(2026, 4, 13, 0, 0));
+
+        // Assert
+        assertThat(weeks).containsExactly(entry(RollupGranularity.WEEK,
+                List.of(within, within.plusWeeks(1), within.plusWeeks(2))));
+        assertThat(acrossMonth).containsExactly(entry(RollupGranularity.WEEK, List.of(
+                straddling, LocalDateTime.of(2026, 3, 30, 0, 0), LocalDateTime.of(2026, 4, 6, 0, 0))));
+    }
+
+    @Test
+    @DisplayName("Should truncate both ends to the hour and return nothing for an empty range")
+    void testCoverTruncatesToHours() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2026, 3, 4, 10, 30);
+        LocalDateTime to = LocalDateTime.of(2026, 3, 4, 12, 15);
+
+        // Act
+        Map<RollupGranularity, List<LocalDateTime>> buckets = BookingRollupService.cover(from, to);
+
+        // Assert
+        assertThat(buckets).containsExactly(entry(RollupGranularity.HOUR,
+                List.of(LocalDateTime.of(2026, 3, 4, 10, 0), LocalDateTime.of(2026, 3, 4, 11, 0))));
+        assertThat(BookingRollupService.cover(to, to)).isEmpty();
+        assertThat(BookingRollupService.cover(to, from)).isEmpty();
+    }
+
+    private static void assertTiles(Map<RollupGranularity, List<LocalDateTime>> buckets,
+                                    LocalDateTime from, LocalDateTime to) {
+        record Bucket(RollupGranularity granularity, LocalDateTime start) {
+        }
+        List<Bucket> all = new ArrayList<>();
+        buckets.forEach((granularity, starts) -> starts.forEach(start -> all.add(new Bucket(granularity, start))));
+        all.sort(Comparator.comparing(Bucket::start));
+
+        LocalDateTime cursor = from;
+        for (Bucket bucket : all) {
+            assertThat(bucket.start()).isEqualTo(cursor);
+            assertThat(bucket.granularity().bucketStart(bucket.start())).isEqualTo(bucket.start());
+            cursor = bucket.granularity().next(bucket.start());
+        }
+        assertThat(cursor).isEqualTo(to);
+    }
+}
@@ -0,0 +1,326 @@
+package com.courthub.analytics.service;
+
+import com.courthub.analytics.domain.BookingFact;
+import com.courthub.analytics.domain.OccupancyMetric;
+import com.courthub.analytics.domain.PeakHoursMetric;
+import com.courthub.analytics.domain.UserActivity;
+import com.courthub.analytics.event.BookingEventPayload;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the service against an in-memory {@code booking_facts} collection, so the state
+ * transitions that make events idempotent and order-independent are exercised for real.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IncrementalAnalyticsService Unit Tests")
+public class IncrementalAnalyticsServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    @Mock
+    private BookingRollupService bookingRollupService;
+
+    @Mock
+    private ActiveUserSketchService activeUserSketchService;
+
+    @Mock
+    private MetricsSwapGate swapGate;
+
+    @InjectMocks
+    private IncrementalAnalyticsService service;
+
+    private final Map<String, Document> facts = new HashMap<>();
+
+    private UUID bookingId;
+    private LocalDate date;
+    private LocalTime startTime;
+    private String courtId;
+
+    @BeforeEach
+    void setUp() {
+        bookingId = UUID.randomUUID();
+        date = LocalDate.of(2026, 3, 4);
+        startTime = LocalTime.of(10, 0);
+        courtId = UUID.randomUUID().toString();
+
+        lenient().when(mongoTemplate.upsert(any(Query.class), any(UpdateDefinition.class), eq(BookingFact.class), any()))
+                .thenAnswer(invocation -> {
+                    upsertFact(invocation.getArgument(0), invocation.getArgument(1));
+                    return UpdateResult.acknowledged(1, 1L, null);
+                });
+        lenient().when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class),
+                        any(FindAndModifyOptions.class), eq(BookingFact.class), any()))
+                .thenAnswer(invocation -> findAndModifyFact(invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2)));
+        lenient().when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class),
+                        any(FindAndModifyOptions.class), eq(UserActivity.class), any()))
+                .thenReturn(new UserActivity("user-1", "Ana", null, 1));
+        lenient().when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class),
+                        eq(PeakHoursMetric.class), any()))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        lenient().when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class),
+                        eq(BookingFact.class), anyString()))
+                .thenAnswer(invocation -> updateFact(invocation.getArgument(0), invocation.getArgument(1)));
+        ReflectionTestUtils.setField(service, "pendingGrace", Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Should count a confirmed booking once when booking.created is redelivered")
+    void testRedeliveredCreatedCountsOnce() {
+        // Arrange
+        BookingEventPayload created = event("CONFIRMED");
+
+        // Act
+        service.onBookingCreated(created);
+        service.onBookingCreated(created);
+
+        // Assert
+        verify(bookingRollupService, times(1)).increment(date, startTime, courtId, 1, 0, MetricCollections.LIVE);
+        verify(dashboardSnapshotService, times(1)).markStale();
+        verify(swapGate, times(2)).awaitOpen();
+    }
+
+    @Test
+    @DisplayName("Should count a booking whose payment confirmation arrives before its creation")
+    void testPaymentBeforeCreated() {
+        // Act
+        service.onPaymentConfirmed(bookingId);
+
+        // Assert
+        verify(bookingRollupService, never()).increment(any(), any(), any(), anyInt(), anyInt(), any());
+
+        // Act
+        service.onBookingCreated(event("PENDING"));
+        service.onPaymentConfirmed(bookingId);
+
+        // Assert
+        verify(bookingRollupService, times(1)).increment(date, startTime, courtId, 1, 0, MetricCollections.LIVE);
+    }
+
+    @Test
+    @DisplayName("Should never count a booking whose cancellation arrives before its creation")
+    void testCancelBeforeCreated() {
+        // Act
+        service.onBookingCancelled(event("CANCELLED"));
+        service.onBookingCreated(event("CONFIRMED"));
+        service.onPaymentConfirmed(bookingId);
+
+        // Assert
+        verify(bookingRollupService, times(1)).increment(date, startTime, courtId, 0, 1, MetricCollections.LIVE);
+        verify(bookingRollupService, never()).increment(date, startTime, courtId, 1, 0, MetricCollections.LIVE);
+    }
+
+    @Test
+    @DisplayName("Should reverse a counted booking once when booking.cancelled is redelivered")
+    void testRedeliveredCancelReversesOnce() {
+        // Arrange
+        service.onBookingCreated(event("CONFIRMED"));
+
+        // Act
+        service.onBookingCancelled(event("CANCELLED"));
+        service.onBookingCancelled(event("CANCELLED"));
+
+        // Assert
+        verify(bookingRollupService, times(1)).increment(date, startTime, courtId, -1, 0, MetricCollections.LIVE);
+        verify(bookingRollupService, times(1)).increment(date, startTime, courtId, 0, 1, MetricCollections.LIVE);
+    }
+
+    @Test
+    @DisplayName("Should leave the ranking, dashboard and swap gate alone when replaying into shadows")
+    void testShadowReplaySkipsLiveSideEffects() {
+        // Arrange
+        MetricCollections shadow = new MetricCollections("_rebuild");
+
+        // Act
+        service.onBookingCreated(event("CONFIRMED"), shadow);
+
+        // Assert
+        verify(bookingRollupService, times(1)).increment(date, startTime, courtId, 1, 0, shadow);
+        verify(dashboardSnapshotService, never()).markStale();
+        verify(swapGate, never()).awaitOpen();
+        verify(mongoTemplate, never()).find(any(Query.class), eq(UserActivity.class), anyString());
+    }
+
+    @Test
+    @DisplayName("Should apply the increments a failed delivery still owed when the event is redelivered")
+    void testRedeliveryAfterFailureAppliesOwedIncrements() {
+        // Arrange
+        BookingEventPayload created = event("CONFIRMED");
+        doThrow(new IllegalStateException("Mongo unavailable")).doNothing()
+                .when(bookingRollupService).increment(date, startTime, courtId, 1, 0, MetricCollections.LIVE);
+        assertThatThrownBy(() -> service.onBookingCreated(created)).isInstanceOf(IllegalStateException.class);
+        assertThat(facts.get(bookingId.toString()).getList("pending", String.class))
+                .containsExactly("COMPLETED_ROLLUP+1", "USER_ACTIVITY+1", "FACULTY_USAGE+1");
+
+        // Act
+        service.onBookingCreated(created);
+
+        // Assert
+        assertThat(facts.get(bookingId.toString()).getList("pending", String.class)).containsExactly(
+                "COMPLETED_ROLLUP+1", "USER_ACTIVITY+1", "FACULTY_USAGE+1");
+
+        // Act
+        ReflectionTestUtils.setField(service, "pendingGrace", Duration.ZERO);
+        service.onBookingCreated(created);
+        service.onBookingCreated(created);
+
+        // Assert
+        verify(bookingRollupService, times(2)).increment(date, startTime, courtId, 1, 0, MetricCollections.LIVE);
+        verify(mongoTemplate, times(1)).upsert(any(Query.class), any(UpdateDefinition.class), eq(OccupancyMetric.class), any());
+        verify(mongoTemplate, times(1)).upsert(any(Query.class), any(UpdateDefinition.class), eq(UserActivity.class), any());
+        assertThat(facts.get(bookingId.toString()).getList("pending", String.class)).isEmpty();
+        assertThat(facts.get(bookingId.toString())).doesNotContainKey("pendingSince");
+    }
+
+    @Test
+    @DisplayName("Should let the sweep apply increments owed by a booking that gets no further event")
+    void testSweepAppliesOwedIncrements() {
+        // Arrange
+        service.onBookingCreated(event("CONFIRMED"));
+        lenient().doThrow(new IllegalStateException("Mongo unavailable"))
+                .when(bookingRollupService).increment(date, startTime, courtId, 0, 1, MetricCollections.LIVE);
+        assertThatThrownBy(() -> service.onBookingCancelled(event("CANCELLED"))).isInstanceOf(IllegalStateException.class);
+        lenient().doNothing().when(bookingRollupService).increment(date, startTime, courtId, 0, 1, MetricCollections.LIVE);
+
+        // Act
+        service.resumeStaleIncrements();
+
+        // Assert
+        verify(bookingRollupService, times(1)).increment(date, startTime, courtId, 0, 1, MetricCollections.LIVE);
+
+        // Act
+        ReflectionTestUtils.setField(service, "pendingGrace", Duration.ZERO);
+        service.resumeStaleIncrements();
+        service.resumeStaleIncrements();
+
+        // Assert
+        verify(bookingRollupService, times(2)).increment(date, startTime, courtId, 0, 1, MetricCollections.LIVE);
+        verify(bookingRollupService, times(1)).increment(date, startTime, courtId, -1, 0, MetricCollections.LIVE);
+        assertThat(facts.get(bookingId.toString()).getList("pending", String.class)).isEmpty();
+    }
+
+    private BookingEventPayload event(String status) {
+        return new BookingEventPayload(bookingId, UUID.fromString(courtId), UUID.randomUUID(), date, startTime, status);
+    }
+
+    private void upsertFact(Query query, UpdateDefinition update) {
+        String id = (String) query.getQueryObject().get("_id");
+        Document fact = facts.get(id);
+        if (fact == null) {
+            fact = new Document("_id", id);
+            fact.putAll(part(update, "$setOnInsert"));
+            facts.put(id, fact);
+        }
+        fact.putAll(part(update, "$set"));
+    }
+
+    private BookingFact findAndModifyFact(Query query, UpdateDefinition update, FindAndModifyOptions options) {
+        Document fact = facts.values().stream()
+                .filter(candidate -> matches(candidate, query.getQueryObject()))
+                .findFirst().orElse(null);
+        if (fact == null) {
+            return null;
+        }
+        BookingFact previous = toFact(fact);
+        apply(fact, update);
+        return options.isReturnNew() ? toFact(fact) : previous;
+    }
+
+    private UpdateResult updateFact(Query query, UpdateDefinition update) {
+        Document fact = facts.get((String) query.getQueryObject().get("_id"));
+        if (fact == null || !matches(fact, query.getQueryObject())) {
+            return UpdateResult.acknowledged(0, 0L, null);
+        }
+        apply(fact, update);
+        return UpdateResult.acknowledged(1, 1L, null);
+    }
+
+    private static void apply(Document fact, UpdateDefinition update) {
+        fact.putAll(part(update, "$set"));
+        part(update, "$push").forEach((field, value) -> {
+            List<Object> values = new ArrayList<>(fact.getList(field, Object.class, List.of()));
+            for (Update.Modifier modifier : ((Update.Modifiers) value).getModifiers()) {
+                values.addAll(Arrays.asList((Object[]) modifier.getValue()));
+            }
+            fact.put(field, values);
+        });
+        part(update, "$pull").forEach((field, value) -> {
+            List<Object> values = new ArrayList<>(fact.getList(field, Object.class, List.of()));
+            values.removeIf(element -> Objects.equals(element, value));
+            fact.put(field, values);
+        });
+        part(update, "$unset").keySet().forEach(fact::remove);
+    }
+
+    private static boolean matches(Document fact, Document criteria) {
+        for (Map.Entry<String, Object> criterion : criteria.entrySet()) {
+            Object actual = fact.get(criterion.getKey());
+            if (criterion.getValue() instanceof Document operator) {
+                if (operator.containsKey("$ne") && Objects.equals(actual, operator.get("$ne"))) {
+                    return false;
+                }
+                if (operator.containsKey("$lte")
+                        && !(actual instanceof Instant instant && !instant.isAfter((Instant) operator.get("$lte")))) {
+                    return false;
+                }
+                if (operator.containsKey("$size")
+                        && ((List<?>) Objects.requireNonNullElse(actual, List.of())).size() != (int) operator.get("$size")) {
+                    return false;
+                }
+            } else if (!Objects.equals(actual, criterion.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Document part(UpdateDefinition update, String operator) {
+        Object part = update.getUpdateObject().get(operator);
+        return part instanceof Document document ? document : new Document();
+    }
+
+    private static BookingFact toFact(Document fact) {
+        return new BookingFact(fact.getString("_id"), fact.getString("courtId"), fact.getString("userId"),
+                (LocalDate) fact.get("date"), (LocalTime) fact.get("startTime"),
+                Boolean.TRUE.equals(fact.get("confirmed")), Boolean.TRUE.equals(fact.get("counted")),
+                Boolean.TRUE.equals(fact.get("cancelled")), fact.getList("pending", String.class),
+                (Instant) fact.get("pendingSince"));
+    }
+}
@@ -0,0 +1,172 @@
+package com.courthub.analytics.service;
+
+import com.courthub.analytics.domain.SyncRun;
+import com.courthub.analytics.domain.UserActivity;
+import com.courthub.analytics.dto.RebuildStatusResponse;
+import com.courthub.analytics.repository.SyncRunRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.RenameCollectionOptions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Drives the rebuild against {@link MockConsumer}s whose beginning offsets sit on either side of
+ * the retention boundary.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MetricsRebuildService Unit Tests")
+public class MetricsRebuildServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IncrementalAnalyticsService incrementalAnalyticsService;
+
+    @Mock
+    private SyncLeaseService syncLeaseService;
+
+    @Mock
+    private SyncRunRepository syncRunRepository;
+
+    @Mock
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    @Mock
+    private MetricsSwapGate swapGate;
+
+    @Mock
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    private MetricsRebuildService service;
+
+    private final Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+    private final Map<TopicPartition, Long> endOffsets = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        service = new MetricsRebuildService(mongoTemplate, incrementalAnalyticsService, syncLeaseService,
+                syncRunRepository, dashboardSnapshotService, swapGate, listenerRegistry, new ObjectMapper(),
+                new SimpleMeterRegistry()) {
+            @Override
+            Consumer<String, String> newConsumer(String clientId) {
+                MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+                for (String topic : TOPICS) {
+                    consumer.updatePartitions(topic, List.of(new PartitionInfo(topic, 0, null, null, null)));
+                }
+                consumer.updateBeginningOffsets(beginningOffsets);
+                consumer.updateEndOffsets(endOffsets);
+                return consumer;
+            }
+        };
+        ReflectionTestUtils.setField(service, "leaseTtl", Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(service, "pauseTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(service, "swapSettle", Duration.ZERO);
+        for (String topic : MetricsRebuildService.TOPICS) {
+            beginningOffsets.put(new TopicPartition(topic, 0), 0L);
+            endOffsets.put(new TopicPartition(topic, 0), 0L);
+        }
+
+        SyncLeaseService.Lease lease = new SyncLeaseService.Lease(DataSyncService.SYNC_LEASE, "replica-1", 1L,
+                Instant.now().plus(Duration.ofMinutes(15)));
+        when(syncLeaseService.tryAcquire(eq(DataSyncService.SYNC_LEASE), any(Duration.class))).thenReturn(Optional.of(lease));
+        when(syncRunRepository.save(any(SyncRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Should refuse to rebuild once retention has deleted the start of a partition")
+    void testTruncatedHistoryIsRefused() throws InterruptedException {
+        // Arrange
+        beginningOffsets.put(new TopicPartition("booking.created", 0), 1L);
+        endOffsets.put(new TopicPartition("booking.created", 0), 5L);
+
+        // Act
+        RebuildStatusResponse status = runRebuild();
+
+        // Assert
+        assertThat(status.state()).isEqualTo("HISTORY_TRUNCATED");
+        assertThat(status.error()).contains("booking.created-0=1");
+        verify(mongoTemplate, never()).createCollection(anyString());
+        verify(mongoTemplate, never()).getCollection(anyString());
+        verifyNoInteractions(swapGate, incrementalAnalyticsService);
+        verify(syncLeaseService, times(1)).release(any());
+    }
+
+    @Test
+    @DisplayName("Should rebuild and swap when every partition still starts at offset 0")
+    @SuppressWarnings("unchecked")
+    void testFullHistoryIsSwapped() throws InterruptedException {
+        // Arrange
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        when(mongoTemplate.getConverter()).thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+        when(mongoTemplate.getCollectionName(any(Class.class)))
+                .thenAnswer(invocation -> ((Class<?>) invocation.getArgument(0)).getSimpleName());
+        when(mongoTemplate.indexOps(anyString())).thenReturn(mock(IndexOperations.class));
+        when(mongoTemplate.stream(any(Query.class), eq(UserActivity.class))).thenReturn(Stream.empty());
+        MongoDatabase database = mock(MongoDatabase.class);
+        when(database.getName()).thenReturn("analytics");
+        when(mongoTemplate.getDb()).thenReturn(database);
+        MongoCollection<Document> shadow = mock(MongoCollection.class);
+        when(mongoTemplate.getCollection(anyString())).thenReturn(shadow);
+        SyncLeaseService.Lease gate = new SyncLeaseService.Lease(MetricsSwapGate.SWAP_LEASE, "replica-1", 2L,
+                Instant.now().plus(Duration.ofMinutes(1)));
+        when(swapGate.close()).thenReturn(Optional.of(gate));
+        when(listenerRegistry.getListenerContainers()).thenReturn(List.of());
+
+        // Act
+        RebuildStatusResponse status = runRebuild();
+
+        // Assert
+        assertThat(status.state()).isEqualTo("SUCCESS");
+        verify(shadow, times(8)).renameCollection(any(MongoNamespace.class), any(RenameCollectionOptions.class));
+        verify(swapGate, times(1)).open(gate);
+        verify(dashboardSnapshotService, times(1)).refresh();
+    }
+
+    private RebuildStatusResponse runRebuild() throws InterruptedException {
+        assertThat(service.start()).isPresent();
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while ("RUNNING".equals(service.getStatus().state()) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        return service.getStatus();
+    }
+}
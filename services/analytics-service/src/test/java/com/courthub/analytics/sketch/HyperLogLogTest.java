@@ -0,0 +1,127 @@
+package com.courthub.analytics.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HyperLogLog Unit Tests")
+public class HyperLogLogTest {
+
+    // Three standard errors at the default precision (1.04 / sqrt(4096) = 1.6%)
+    private static final double TOLERANCE = 0.05;
+
+    @Test
+    @DisplayName("Should estimate distinct counts within three standard errors")
+    void testEstimateError() {
+        for (int distinct : new int[]{1_000, 10_000, 100_000, 1_000_000}) {
+            // Arrange
+            HyperLogLog sketch = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+
+            // Act
+            for (int i = 0; i < distinct; i++) {
+                sketch.add(userId(i));
+            }
+
+            // Assert
+            assertThat((double) sketch.estimate()).as("estimate of %d distinct", distinct)
+                    .isCloseTo(distinct, withinPercentage(TOLERANCE * 100));
+        }
+    }
+
+    @Test
+    @DisplayName("Should count small sets almost exactly with linear counting")
+    void testSmallCountsAreNearExact() {
+        // Arrange
+        HyperLogLog sketch = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            sketch.add(userId(i));
+        }
+
+        // Assert
+        assertThat(sketch.estimate()).isBetween(49L, 51L);
+        assertThat(new HyperLogLog(HyperLogLog.DEFAULT_PRECISION).estimate()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should ignore repeated items")
+    void testDuplicatesDoNotCount() {
+        // Arrange
+        HyperLogLog once = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        HyperLogLog twice = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+
+        // Act
+        for (int i = 0; i < 5_000; i++) {
+            once.add(userId(i));
+            twice.add(userId(i));
+            twice.add(userId(i));
+        }
+
+        // Assert
+        assertThat(twice).isEqualTo(once);
+    }
+
+    @Test
+    @DisplayName("Should merge overlapping sketches into the sketch of their union")
+    void testMergeIsUnion() {
+        // Arrange
+        HyperLogLog first = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        HyperLogLog second = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        HyperLogLog union = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        for (int i = 0; i < 60_000; i++) {
+            first.add(userId(i));
+            union.add(userId(i));
+        }
+        for (int i = 40_000; i < 100_000; i++) {
+            second.add(userId(i));
+            union.add(userId(i));
+        }
+
+        // Act
+        HyperLogLog merged = first.merge(second);
+
+        // Assert
+        assertThat(merged).isEqualTo(union);
+        assertThat((double) merged.estimate()).isCloseTo(100_000, withinPercentage(TOLERANCE * 100));
+        assertThat(merged.merge(second)).isEqualTo(union);
+    }
+
+    @Test
+    @DisplayName("Should reject merging sketches of different precision")
+    void testMergeRejectsPrecisionMismatch() {
+        // Act & Assert
+        assertThatThrownBy(() -> new HyperLogLog(12).merge(new HyperLogLog(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HyperLogLog(3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the same sketch from stored register maxima")
+    void testFromRegistersRoundTrip() {
+        // Arrange
+        HyperLogLog sketch = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        Map<String, Integer> stored = new HashMap<>();
+        for (int i = 0; i < 2_000; i++) {
+            sketch.add(userId(i));
+            HyperLogLog.Observation observation = HyperLogLog.observe(userId(i), HyperLogLog.DEFAULT_PRECISION);
+            stored.merge(Integer.toString(observation.register()), observation.rank(), Math::max);
+        }
+
+        // Act
+        HyperLogLog rebuilt = HyperLogLog.fromRegisters(HyperLogLog.DEFAULT_PRECISION, stored);
+
+        // Assert
+        assertThat(rebuilt).isEqualTo(sketch);
+        assertThat(HyperLogLog.fromRegisters(HyperLogLog.DEFAULT_PRECISION, null).isEmpty()).isTrue();
+    }
+
+    private static String userId(int i) {
+        return new UUID(0x5eed, i).toString();
+    }
+}
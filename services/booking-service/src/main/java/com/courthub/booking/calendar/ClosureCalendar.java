@@ -0,0 +1,74 @@
+package com.courthub.booking.calendar;
+
+import com.courthub.booking.domain.CourtClosure;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-court closure lookup built from one batch of {@link CourtClosure} rows. Closures are mapped
+ * onto a minute timeline (full-day ranges as one interval, daily time windows as one interval per
+ * day) and indexed in an {@link IntervalTree}, so each slot check is logarithmic in the number of
+ * closures instead of a scan over all of them.
+ */
+public final class ClosureCalendar {
+
+    private static final long MINUTES_PER_DAY = 24L * 60;
+    private static final ClosureCalendar EMPTY = new ClosureCalendar(Map.of());
+
+    private final Map<UUID, IntervalTree<CourtClosure>> treesByCourt;
+
+    private ClosureCalendar(Map<UUID, IntervalTree<CourtClosure>> treesByCourt) {
+        this.treesByCourt = treesByCourt;
+    }
+
+    public static ClosureCalendar of(List<CourtClosure> closures) {
+        if (closures.isEmpty()) {
+            return EMPTY;
+        }
+        Map<UUID, List<IntervalTree.Interval<CourtClosure>>> intervalsByCourt = new HashMap<>();
+        for (CourtClosure closure : closures) {
+            List<IntervalTree.Interval<CourtClosure>> intervals =
+                    intervalsByCourt.computeIfAbsent(closure.getCourtId(), id -> new ArrayList<>());
+            if (closure.isFullDay()) {
+                intervals.add(new IntervalTree.Interval<>(minuteOf(closure.getStartDate(), LocalTime.MIDNIGHT),
+                        minuteOf(closure.getEndDate().plusDays(1), LocalTime.MIDNIGHT), closure));
+            } else if (closure.getStartTime().isBefore(closure.getEndTime())) {
+                for (LocalDate date = closure.getStartDate(); !date.isAfter(closure.getEndDate()); date = date.plusDays(1)) {
+                    intervals.add(new IntervalTree.Interval<>(minuteOf(date, closure.getStartTime()),
+                            minuteOf(date, closure.getEndTime()), closure));
+                }
+            }
+        }
+        Map<UUID, IntervalTree<CourtClosure>> treesByCourt = new HashMap<>();
+        intervalsByCourt.forEach((courtId, intervals) -> treesByCourt.put(courtId, IntervalTree.of(intervals)));
+        return new ClosureCalendar(treesByCourt);
+    }
+
+    public boolean isEmpty() {
+        return treesByCourt.isEmpty();
+    }
+
+    /**
+     * @return whether any closure of the court overlaps {@code [start, end)} on {@code date};
+     *         an end at or before the start is read as running past midnight
+     */
+    public boolean blocks(UUID courtId, LocalDate date, LocalTime start, LocalTime end) {
+        IntervalTree<CourtClosure> tree = treesByCourt.get(courtId);
+        if (tree == null) {
+            return false;
+        }
+        long from = minuteOf(date, start);
+        long to = end.isAfter(start) ? minuteOf(date, end) : minuteOf(date.plusDays(1), end);
+        return tree.overlapsAny(from, to);
+    }
+
+    private static long minuteOf(LocalDate date, LocalTime time) {
+        return date.toEpochDay() * MINUTES_PER_DAY + time.getHour() * 60L + time.getMinute();
+    }
+}
@@ -0,0 +1,122 @@
+package com.courthub.booking.calendar;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable augmented interval tree over half-open {@code [start, end)} ranges.
+ * <p>
+ * Intervals are sorted by start once and laid out as an implicit balanced BST (the middle of
+ * every index range is its root); each node keeps the largest end of its subtree, so a query
+ * prunes subtrees that end before it and, by the start ordering, everything right of a node that
+ * starts after it. Queries cost O(log n + k) for k matches.
+ */
+public final class IntervalTree<T> {
+
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+    private final Object[] values;
+
+    private IntervalTree(List<Interval<T>> intervals) {
+        List<Interval<T>> sorted = new ArrayList<>(intervals);
+        sorted.sort(Comparator.comparingLong(Interval::start));
+        int size = sorted.size();
+        this.starts = new long[size];
+        this.ends = new long[size];
+        this.maxEnds = new long[size];
+        this.values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            Interval<T> interval = sorted.get(i);
+            starts[i] = interval.start();
+            ends[i] = interval.end();
+            values[i] = interval.value();
+        }
+        augment(0, size);
+    }
+
+    public static <T> IntervalTree<T> of(List<Interval<T>> intervals) {
+        for (Interval<T> interval : intervals) {
+            if (interval.end() <= interval.start()) {
+                throw new IllegalArgumentException("Interval end must be after its start: " + interval);
+            }
+        }
+        return new IntervalTree<>(intervals);
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * @return whether any interval overlaps {@code [start, end)}
+     */
+    public boolean overlapsAny(long start, long end) {
+        return start < end && findFirst(0, starts.length, start, end) >= 0;
+    }
+
+    /**
+     * @return values of every interval overlapping {@code [start, end)}, in start order
+     */
+    public List<T> overlapping(long start, long end) {
+        List<T> matches = new ArrayList<>();
+        if (start < end) {
+            collect(0, starts.length, start, end, matches);
+        }
+        return matches;
+    }
+
+    private long augment(int lo, int hi) {
+        if (lo >= hi) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(ends[mid], Math.max(augment(lo, mid), augment(mid + 1, hi)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    private int findFirst(int lo, int hi, long start, long end) {
+        if (lo >= hi) {
+            return -1;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnds[mid] <= start) {
+            return -1;
+        }
+        int left = findFirst(lo, mid, start, end);
+        if (left >= 0) {
+            return left;
+        }
+        if (starts[mid] >= end) {
+            return -1;
+        }
+        if (ends[mid] > start) {
+            return mid;
+        }
+        return findFirst(mid + 1, hi, start, end);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void collect(int lo, int hi, long start, long end, List<T> matches) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnds[mid] <= start) {
+            return;
+        }
+        collect(lo, mid, start, end, matches);
+        if (starts[mid] >= end) {
+            return;
+        }
+        if (ends[mid] > start) {
+            matches.add((T) values[mid]);
+        }
+        collect(mid + 1, hi, start, end, matches);
+    }
+
+    public record Interval<T>(long start, long end, T value) {
+    }
+}
@@ -2,6 +2,8 @@ package com.courthub.booking.config;
 
 import com.courthub.booking.event.CourtEventPayload;
 import com.courthub.booking.event.CourtScheduleEventPayload;
+import com.courthub.booking.event.CourtScheduleExceptionPayload;
+import com.courthub.booking.event.CourtScheduleWeekEventPayload;
 
 import com.courthub.common.dto.PaymentEventPayload;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -35,6 +37,21 @@ public class KafkaConfig {
         factory.setConsumerFactory(courtScheduleConsumerFactory());
         return factory;
     }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, CourtScheduleWeekEventPayload> courtScheduleWeekKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, CourtScheduleWeekEventPayload> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(courtScheduleWeekConsumerFactory());
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, CourtScheduleExceptionPayload> courtScheduleExceptionKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, CourtScheduleExceptionPayload> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(courtScheduleExceptionConsumerFactory());
+        return factory;
+    }
+
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, PaymentEventPayload> paymentEventKafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, PaymentEventPayload> factory = new ConcurrentKafkaListenerContainerFactory<>();
@@ -61,6 +78,27 @@ public class KafkaConfig {
 
         return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), deserializer);
     }
+
+    private DefaultKafkaConsumerFactory<String, CourtScheduleWeekEventPayload> courtScheduleWeekConsumerFactory() {
+        JsonDeserializer<CourtScheduleWeekEventPayload> deserializer = new JsonDeserializer<>(CourtScheduleWeekEventPayload.class);
+        deserializer.addTrustedPackages("*");
+        deserializer.setUseTypeMapperForKey(false);
+
+        Map<String, Object> props = baseConsumerProps();
+
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), deserializer);
+    }
+
+    private DefaultKafkaConsumerFactory<String, CourtScheduleExceptionPayload> courtScheduleExceptionConsumerFactory() {
+        JsonDeserializer<CourtScheduleExceptionPayload> deserializer = new JsonDeserializer<>(CourtScheduleExceptionPayload.class);
+        deserializer.addTrustedPackages("*");
+        deserializer.setUseTypeMapperForKey(false);
+
+        Map<String, Object> props = baseConsumerProps();
+
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), deserializer);
+    }
+
     private DefaultKafkaConsumerFactory<String, PaymentEventPayload>
     paymentEventConsumerFactory() {
 
@@ -102,6 +102,21 @@ public class BookingController {
         return ResponseEntity.ok(bookings);
     }
 
+    @GetMapping("/internal/bookings/page")
+    @Operation(summary = "Get bookings page (internal)", description = "Retrieve bookings in id order, one keyset page at a time, for analytics extraction - Internal endpoint")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bookings page returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    public ResponseEntity<com.courthub.common.dto.analytics.BookingInternalPage> getBookingsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "1000") int size) {
+        log.info("Get bookings page (internal) request received: size={}", size);
+        com.courthub.common.dto.analytics.BookingInternalPage page = bookingService.getBookingsForAnalyticsPage(cursor, size);
+        log.info("Bookings page returned (internal): count={}, hasMore={}", page.items().size(), page.hasMore());
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/user/{userId}")
     @Operation(summary = "Get user bookings", description = "Retrieves all bookings for a specific user")
     @ApiResponses(value = {
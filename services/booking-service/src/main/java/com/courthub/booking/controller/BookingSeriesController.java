@@ -0,0 +1,90 @@
+package com.courthub.booking.controller;
+
+import com.courthub.booking.config.JwtAuthenticationToken;
+import com.courthub.booking.dto.BookingSeriesResponse;
+import com.courthub.booking.dto.CreateBookingSeriesRequest;
+import com.courthub.booking.service.BookingSeriesService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/bookings/series")
+@Tag(name = "Booking Series", description = "Recurring weekly bookings")
+public class BookingSeriesController {
+
+    private final BookingSeriesService bookingSeriesService;
+
+    public BookingSeriesController(BookingSeriesService bookingSeriesService) {
+        this.bookingSeriesService = bookingSeriesService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Create booking series",
+            description = "Creates a weekly recurring reservation. Occurrences are booked as their slots are generated; conflicts are reported in bulk per run.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Series created"),
+            @ApiResponse(responseCode = "400", description = "Invalid series definition"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<BookingSeriesResponse> createSeries(@Valid @RequestBody CreateBookingSeriesRequest request) {
+        UUID userId = extractUserId();
+        log.info("Create booking series request received: userId={}, courtId={}, dayOfWeek={}",
+                userId, request.getCourtId(), request.getDayOfWeek());
+        BookingSeriesResponse series = bookingSeriesService.createSeries(userId, request);
+        log.info("Booking series created successfully: seriesId={}, userId={}", series.getId(), userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(series);
+    }
+
+    @GetMapping("/user/{userId}")
+    @Operation(summary = "Get user booking series", description = "Retrieves all recurring booking series for a user")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "User booking series returned")
+    })
+    public ResponseEntity<List<BookingSeriesResponse>> getUserSeries(@PathVariable UUID userId) {
+        log.info("Get user booking series request received: userId={}", userId);
+        List<BookingSeriesResponse> series = bookingSeriesService.getSeriesByUserId(userId);
+        log.info("User booking series returned: userId={}, count={}", userId, series.size());
+        return ResponseEntity.ok(series);
+    }
+
+    @PatchMapping("/{id}/cancel")
+    @Operation(summary = "Cancel booking series",
+            description = "Stops claiming future occurrences. Bookings already created stay as individual bookings.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Series cancelled"),
+            @ApiResponse(responseCode = "400", description = "Series is not active"),
+            @ApiResponse(responseCode = "403", description = "Series belongs to another user"),
+            @ApiResponse(responseCode = "404", description = "Series not found")
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<BookingSeriesResponse> cancelSeries(@PathVariable UUID id) {
+        UUID userId = extractUserId();
+        log.info("Cancel booking series request received: seriesId={}, userId={}", id, userId);
+        BookingSeriesResponse series = bookingSeriesService.cancelSeries(id, userId);
+        log.info("Booking series cancelled successfully: seriesId={}", id);
+        return ResponseEntity.ok(series);
+    }
+
+    private UUID extractUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication instanceof JwtAuthenticationToken)) {
+            throw new com.courthub.common.exception.UnauthorizedException("User not authenticated");
+        }
+        return ((JwtAuthenticationToken) authentication).getUserId();
+    }
+}
@@ -29,6 +29,9 @@ public class Booking {
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
+    @Column(name = "series_id")
+    private UUID seriesId;
+
     @PrePersist
     public void prePersist() {
         if (status == null) {
@@ -97,4 +100,12 @@ public class Booking {
     public void setCreatedAt(Instant createdAt) {
         this.createdAt = createdAt;
     }
+
+    public UUID getSeriesId() {
+        return seriesId;
+    }
+
+    public void setSeriesId(UUID seriesId) {
+        this.seriesId = seriesId;
+    }
 }
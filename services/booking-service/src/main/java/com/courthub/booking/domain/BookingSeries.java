@@ -0,0 +1,158 @@
+package com.courthub.booking.domain;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Weekly recurring reservation stored as a single row. Occurrences are turned into
+ * regular {@link Booking}s lazily, as the slot generation horizon reaches them;
+ * {@code materializedUntil} marks the last date already processed.
+ */
+@Entity
+@Table(name = "booking_series",
+        indexes = {@Index(name = "idx_booking_series_status_materialized", columnList = "status,materialized_until")})
+public class BookingSeries {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "court_id", nullable = false)
+    private UUID courtId;
+
+    @Column(name = "day_of_week", nullable = false)
+    private int dayOfWeek;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "interval_weeks", nullable = false)
+    private int intervalWeeks;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "materialized_until", nullable = false)
+    private LocalDate materializedUntil;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BookingSeriesStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (status == null) {
+            status = BookingSeriesStatus.ACTIVE;
+        }
+        if (intervalWeeks <= 0) {
+            intervalWeeks = 1;
+        }
+        if (materializedUntil == null) {
+            materializedUntil = startDate.minusDays(1);
+        }
+        if (createdAt == null) {
+            createdAt = Instant.now();
+        }
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UUID getCourtId() {
+        return courtId;
+    }
+
+    public void setCourtId(UUID courtId) {
+        this.courtId = courtId;
+    }
+
+    public int getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    public void setDayOfWeek(int dayOfWeek) {
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public int getIntervalWeeks() {
+        return intervalWeeks;
+    }
+
+    public void setIntervalWeeks(int intervalWeeks) {
+        this.intervalWeeks = intervalWeeks;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public LocalDate getMaterializedUntil() {
+        return materializedUntil;
+    }
+
+    public void setMaterializedUntil(LocalDate materializedUntil) {
+        this.materializedUntil = materializedUntil;
+    }
+
+    public BookingSeriesStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BookingSeriesStatus status) {
+        this.status = status;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,7 @@
+package com.courthub.booking.domain;
+
+public enum BookingSeriesStatus {
+    ACTIVE,
+    COMPLETED,
+    CANCELLED
+}
@@ -0,0 +1,119 @@
+package com.courthub.booking.dto;
+
+import com.courthub.booking.domain.BookingSeriesStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public class BookingSeriesResponse {
+
+    private UUID id;
+    private UUID courtId;
+    private UUID userId;
+    private int dayOfWeek;
+    private LocalTime startTime;
+    private int intervalWeeks;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDate materializedUntil;
+    private BookingSeriesStatus status;
+
+    public BookingSeriesResponse() {
+    }
+
+    public BookingSeriesResponse(UUID id, UUID courtId, UUID userId, int dayOfWeek, LocalTime startTime,
+                                 int intervalWeeks, LocalDate startDate, LocalDate endDate,
+                                 LocalDate materializedUntil, BookingSeriesStatus status) {
+        this.id = id;
+        this.courtId = courtId;
+        this.userId = userId;
+        this.dayOfWeek = dayOfWeek;
+        this.startTime = startTime;
+        this.intervalWeeks = intervalWeeks;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.materializedUntil = materializedUntil;
+        this.status = status;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getCourtId() {
+        return courtId;
+    }
+
+    public void setCourtId(UUID courtId) {
+        this.courtId = courtId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public int getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    public void setDayOfWeek(int dayOfWeek) {
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public int getIntervalWeeks() {
+        return intervalWeeks;
+    }
+
+    public void setIntervalWeeks(int intervalWeeks) {
+        this.intervalWeeks = intervalWeeks;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public LocalDate getMaterializedUntil() {
+        return materializedUntil;
+    }
+
+    public void setMaterializedUntil(LocalDate materializedUntil) {
+        this.materializedUntil = materializedUntil;
+    }
+
+    public BookingSeriesStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BookingSeriesStatus status) {
+        this.status = status;
+    }
+}
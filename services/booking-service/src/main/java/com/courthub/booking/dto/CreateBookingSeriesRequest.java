@@ -0,0 +1,82 @@
+package com.courthub.booking.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public class CreateBookingSeriesRequest {
+
+    @NotNull
+    private UUID courtId;
+
+    @Min(1)
+    @Max(7)
+    @Schema(description = "Day of week (1=Monday, 7=Sunday)", example = "2")
+    private int dayOfWeek;
+
+    @NotNull
+    private LocalTime startTime;
+
+    @NotNull
+    private LocalDate startDate;
+
+    @NotNull
+    private LocalDate endDate;
+
+    @Min(1)
+    @Schema(description = "Repeat every N weeks (defaults to 1)", example = "1")
+    private Integer intervalWeeks;
+
+    public UUID getCourtId() {
+        return courtId;
+    }
+
+    public void setCourtId(UUID courtId) {
+        this.courtId = courtId;
+    }
+
+    public int getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    public void setDayOfWeek(int dayOfWeek) {
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public Integer getIntervalWeeks() {
+        return intervalWeeks;
+    }
+
+    public void setIntervalWeeks(Integer intervalWeeks) {
+        this.intervalWeeks = intervalWeeks;
+    }
+}
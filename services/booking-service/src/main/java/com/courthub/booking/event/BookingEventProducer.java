@@ -21,6 +21,9 @@ public class BookingEventProducer {
     @Value("${kafka.topics.booking-cancelled:booking.cancelled}")
     private String bookingCancelledTopic;
 
+    @Value("${kafka.topics.booking-series-conflicts:booking.series.conflicts}")
+    private String bookingSeriesConflictsTopic;
+
     public BookingEventProducer(KafkaTemplate<String, Object> kafkaTemplate) {
         this.kafkaTemplate = kafkaTemplate;
     }
@@ -37,6 +40,12 @@ public class BookingEventProducer {
         publishAfterCommit(bookingCancelledTopic, mapBookingEvent(booking, timeSlot));
     }
 
+    public void sendSeriesConflicts(BookingSeriesConflictPayload payload) {
+        log.info("Publishing booking.series.conflicts event: seriesId={}, unavailable={}, closed={}",
+                payload.getSeriesId(), payload.getUnavailableDates().size(), payload.getClosedDates().size());
+        publishAfterCommit(bookingSeriesConflictsTopic, payload);
+    }
+
     private BookingEventPayload mapBookingEvent(Booking booking, TimeSlot timeSlot) {
         return new BookingEventPayload(
                 booking.getId(),
@@ -0,0 +1,80 @@
+package com.courthub.booking.event;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+public class BookingSeriesConflictPayload {
+
+    private UUID seriesId;
+    private UUID userId;
+    private UUID courtId;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm:ss")
+    private LocalTime startTime;
+    private List<LocalDate> unavailableDates;
+    private List<LocalDate> closedDates;
+
+    public BookingSeriesConflictPayload() {
+    }
+
+    public BookingSeriesConflictPayload(UUID seriesId, UUID userId, UUID courtId, LocalTime startTime,
+                                        List<LocalDate> unavailableDates, List<LocalDate> closedDates) {
+        this.seriesId = seriesId;
+        this.userId = userId;
+        this.courtId = courtId;
+        this.startTime = startTime;
+        this.unavailableDates = unavailableDates;
+        this.closedDates = closedDates;
+    }
+
+    public UUID getSeriesId() {
+        return seriesId;
+    }
+
+    public void setSeriesId(UUID seriesId) {
+        this.seriesId = seriesId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UUID getCourtId() {
+        return courtId;
+    }
+
+    public void setCourtId(UUID courtId) {
+        this.courtId = courtId;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public List<LocalDate> getUnavailableDates() {
+        return unavailableDates;
+    }
+
+    public void setUnavailableDates(List<LocalDate> unavailableDates) {
+        this.unavailableDates = unavailableDates;
+    }
+
+    public List<LocalDate> getClosedDates() {
+        return closedDates;
+    }
+
+    public void setClosedDates(List<LocalDate> closedDates) {
+        this.closedDates = closedDates;
+    }
+}
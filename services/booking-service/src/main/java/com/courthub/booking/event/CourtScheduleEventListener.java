@@ -1,31 +1,27 @@
 package com.courthub.booking.event;
 
-import com.courthub.booking.repository.TimeSlotRepository;
-import com.courthub.booking.domain.TimeSlot;
-import com.courthub.common.dto.enums.TimeSlotStatus;
+import com.courthub.booking.service.BookingSeriesService;
+import com.courthub.booking.service.TimeSlotGenerationService;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
 public class CourtScheduleEventListener {
 
-    private final TimeSlotRepository timeSlotRepository;
+    private final TimeSlotGenerationService timeSlotGenerationService;
+    private final BookingSeriesService bookingSeriesService;
 
-    @Value("${booking.slot-duration-minutes:60}")
-    private int slotDurationMinutes;
-
-    @Value("${booking.slot-generation-days-forward:7}")
-    private int daysForward;
-
-    public CourtScheduleEventListener(TimeSlotRepository timeSlotRepository) {
-        this.timeSlotRepository = timeSlotRepository;
+    public CourtScheduleEventListener(TimeSlotGenerationService timeSlotGenerationService,
+                                      BookingSeriesService bookingSeriesService) {
+        this.timeSlotGenerationService = timeSlotGenerationService;
+        this.bookingSeriesService = bookingSeriesService;
     }
 
     @KafkaListener(topics = "court.schedule.updated",
@@ -33,48 +29,33 @@ public class CourtScheduleEventListener {
                    containerFactory = "courtScheduleKafkaListenerContainerFactory")
     @Transactional
     public void onScheduleUpdated(CourtScheduleEventPayload event) {
-        log.info("Received court.schedule.updated event: courtId={}, dayOfWeek={}, daysForward={}",
-                event.getCourtId(), event.getDayOfWeek(), daysForward);
-        // Generate time slots based on schedule
-        LocalTime startTime = event.getOpenTime();
-        LocalTime endTime = event.getCloseTime();
-
-        // Generate slots for next N days matching this day of week
-        LocalDate today = LocalDate.now();
-        int totalCreated = 0;
-        for (int i = 0; i < daysForward; i++) {
-            LocalDate slotDate = today.plusDays(i);
-            if (slotDate.getDayOfWeek().getValue() == event.getDayOfWeek()) {
-                totalCreated += generateSlotsForDate(event.getCourtId(), slotDate, startTime, endTime);
-            }
-        }
-        log.info("Court schedule processed: courtId={}, slotsCreated={}", event.getCourtId(), totalCreated);
+        log.info("Received court.schedule.updated event: courtId={}, dayOfWeek={}",
+                event.getCourtId(), event.getDayOfWeek());
+        Map<Integer, CourtScheduleWeekEventPayload.DayWindow> windows = Map.of(event.getDayOfWeek(),
+                new CourtScheduleWeekEventPayload.DayWindow(event.getDayOfWeek(), event.getOpenTime(), event.getCloseTime()));
+
+        int totalCreated = timeSlotGenerationService.generateSlots(event.getCourtId(), windows);
+        int seriesBookings = bookingSeriesService.materializeForCourt(event.getCourtId());
+        log.info("Court schedule processed: courtId={}, slotsCreated={}, seriesBookingsCreated={}",
+                event.getCourtId(), totalCreated, seriesBookings);
     }
 
-    private int generateSlotsForDate(java.util.UUID courtId, LocalDate date, LocalTime startTime, LocalTime endTime) {
-        LocalTime current = startTime;
-        int created = 0;
-        while (current.isBefore(endTime)) {
-            LocalTime slotEnd = current.plusMinutes(slotDurationMinutes);
-            if (slotEnd.isAfter(endTime)) {
-                break;
-            }
-
-            // Check if slot already exists before creating
-            if (!timeSlotRepository.existsByCourtIdAndDateAndStartTime(courtId, date, current)) {
-                TimeSlot slot = new TimeSlot();
-                slot.setCourtId(courtId);
-                slot.setDate(date);
-                slot.setStartTime(current);
-                slot.setEndTime(slotEnd);
-                slot.setStatus(TimeSlotStatus.AVAILABLE);
-                timeSlotRepository.save(slot);
-                created++;
-            }
-
-            current = slotEnd;
+    @KafkaListener(topics = "court.schedule.week",
+                   groupId = "booking-service-schedule-events",
+                   containerFactory = "courtScheduleWeekKafkaListenerContainerFactory")
+    @Transactional
+    public void onScheduleWeek(CourtScheduleWeekEventPayload event) {
+        List<CourtScheduleWeekEventPayload.DayWindow> days = event.getDays() != null ? event.getDays() : List.of();
+        log.info("Received court.schedule.week event: courtId={}, days={}",
+                event.getCourtId(), days.size());
+        Map<Integer, CourtScheduleWeekEventPayload.DayWindow> windows = new HashMap<>();
+        for (CourtScheduleWeekEventPayload.DayWindow day : days) {
+            windows.put(day.getDayOfWeek(), day);
         }
-        log.debug("Generated slots for courtId={}, date={}, created={}", courtId, date, created);
-        return created;
+
+        int totalCreated = timeSlotGenerationService.generateSlots(event.getCourtId(), windows);
+        int seriesBookings = bookingSeriesService.materializeForCourt(event.getCourtId());
+        log.info("Court schedule week processed: courtId={}, slotsCreated={}, seriesBookingsCreated={}",
+                event.getCourtId(), totalCreated, seriesBookings);
     }
 }
@@ -0,0 +1,152 @@
+package com.courthub.booking.event;
+
+import com.courthub.booking.calendar.ClosureCalendar;
+import com.courthub.booking.domain.CourtClosure;
+import com.courthub.booking.domain.TimeSlot;
+import com.courthub.booking.repository.CourtClosureRepository;
+import com.courthub.booking.repository.TimeSlotRepository;
+import com.courthub.booking.service.BookingSeriesService;
+import com.courthub.booking.service.TimeSlotGenerationService;
+import com.courthub.common.dto.enums.TimeSlotStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class CourtScheduleExceptionListener {
+
+    private final CourtClosureRepository closureRepository;
+    private final TimeSlotRepository timeSlotRepository;
+    private final TimeSlotGenerationService timeSlotGenerationService;
+    private final BookingSeriesService bookingSeriesService;
+
+    public CourtScheduleExceptionListener(CourtClosureRepository closureRepository,
+                                          TimeSlotRepository timeSlotRepository,
+                                          TimeSlotGenerationService timeSlotGenerationService,
+                                          BookingSeriesService bookingSeriesService) {
+        this.closureRepository = closureRepository;
+        this.timeSlotRepository = timeSlotRepository;
+        this.timeSlotGenerationService = timeSlotGenerationService;
+        this.bookingSeriesService = bookingSeriesService;
+    }
+
+    @KafkaListener(topics = "court.schedule.exception",
+                   groupId = "booking-service-schedule-events",
+                   containerFactory = "courtScheduleExceptionKafkaListenerContainerFactory")
+    @Transactional
+    public void onScheduleException(CourtScheduleExceptionPayload event) {
+        log.info("Received court.schedule.exception event: courtId={}, exceptionId={}, action={}, startDate={}, endDate={}",
+                event.getCourtId(), event.getExceptionId(), event.getAction(), event.getStartDate(), event.getEndDate());
+        if (CourtScheduleExceptionPayload.DELETED.equals(event.getAction())) {
+            reopen(event);
+        } else if (CourtScheduleExceptionPayload.CREATED.equals(event.getAction())) {
+            close(event);
+        } else {
+            log.warn("Ignoring court.schedule.exception event with unknown action: exceptionId={}, action={}",
+                    event.getExceptionId(), event.getAction());
+        }
+    }
+
+    /**
+     * Stores the closure and blocks the already generated slots it covers. Booked slots keep
+     * their booking; they are only reported.
+     */
+    private void close(CourtScheduleExceptionPayload event) {
+        CourtClosure closure = closureRepository.findById(event.getExceptionId()).orElseGet(CourtClosure::new);
+        closure.setId(event.getExceptionId());
+        closure.setCourtId(event.getCourtId());
+        closure.setStartDate(event.getStartDate());
+        closure.setEndDate(event.getEndDate());
+        closure.setStartTime(event.getStartTime());
+        closure.setEndTime(event.getEndTime());
+        closure.setReason(event.getReason());
+        closure.setUpdatedAt(Instant.now());
+        closureRepository.save(closure);
+
+        ClosureCalendar calendar = ClosureCalendar.of(List.of(closure));
+        List<TimeSlot> blocked = new ArrayList<>();
+        int booked = 0;
+        for (TimeSlot slot : slotsInWindow(event)) {
+            if (!calendar.blocks(slot.getCourtId(), slot.getDate(), slot.getStartTime(), slot.getEndTime())) {
+                continue;
+            }
+            if (slot.getStatus() == TimeSlotStatus.AVAILABLE) {
+                slot.setStatus(TimeSlotStatus.BLOCKED);
+                blocked.add(slot);
+            } else if (slot.getStatus() == TimeSlotStatus.BOOKED) {
+                booked++;
+            }
+        }
+        if (!blocked.isEmpty()) {
+            timeSlotRepository.saveAll(blocked);
+        }
+        if (booked > 0) {
+            log.warn("Court closure overlaps booked slots: courtId={}, exceptionId={}, bookedSlots={}",
+                    event.getCourtId(), event.getExceptionId(), booked);
+        }
+        log.info("Court closure applied: courtId={}, exceptionId={}, slotsBlocked={}",
+                event.getCourtId(), event.getExceptionId(), blocked.size());
+    }
+
+    /**
+     * Drops the closure and releases the slots it blocked, unless another closure still covers them,
+     * then generates the slots that were skipped while it was in place from the week the event
+     * carries. The court's week events on {@code court.schedule.week} may be handled before or after
+     * this one, so the freed window cannot rely on them.
+     */
+    private void reopen(CourtScheduleExceptionPayload event) {
+        closureRepository.deleteById(event.getExceptionId());
+        closureRepository.flush();
+
+        LocalDate from = windowStart(event);
+        ClosureCalendar remaining = ClosureCalendar.of(
+                closureRepository.findOverlapping(List.of(event.getCourtId()), from, event.getEndDate()));
+
+        List<TimeSlot> released = new ArrayList<>();
+        for (TimeSlot slot : slotsInWindow(event)) {
+            if (slot.getStatus() == TimeSlotStatus.BLOCKED
+                    && !remaining.blocks(slot.getCourtId(), slot.getDate(), slot.getStartTime(), slot.getEndTime())) {
+                slot.setStatus(TimeSlotStatus.AVAILABLE);
+                released.add(slot);
+            }
+        }
+        if (!released.isEmpty()) {
+            timeSlotRepository.saveAll(released);
+        }
+
+        int created = 0;
+        int seriesBookings = 0;
+        if (event.getDays() != null && !event.getDays().isEmpty()) {
+            Map<Integer, CourtScheduleWeekEventPayload.DayWindow> windows = new HashMap<>();
+            for (CourtScheduleWeekEventPayload.DayWindow day : event.getDays()) {
+                windows.put(day.getDayOfWeek(), day);
+            }
+            created = timeSlotGenerationService.generateSlots(event.getCourtId(), windows);
+            seriesBookings = bookingSeriesService.materializeForCourt(event.getCourtId());
+        }
+        log.info("Court closure removed: courtId={}, exceptionId={}, slotsReleased={}, slotsCreated={}, seriesBookingsCreated={}",
+                event.getCourtId(), event.getExceptionId(), released.size(), created, seriesBookings);
+    }
+
+    private List<TimeSlot> slotsInWindow(CourtScheduleExceptionPayload event) {
+        LocalDate from = windowStart(event);
+        if (event.getEndDate().isBefore(from)) {
+            return List.of();
+        }
+        return timeSlotRepository.findByCourtIdInAndDateBetween(List.of(event.getCourtId()), from, event.getEndDate());
+    }
+
+    private LocalDate windowStart(CourtScheduleExceptionPayload event) {
+        LocalDate today = LocalDate.now();
+        return event.getStartDate().isBefore(today) ? today : event.getStartDate();
+    }
+}
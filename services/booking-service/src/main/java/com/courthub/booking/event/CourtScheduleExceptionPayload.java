@@ -0,0 +1,98 @@
+package com.courthub.booking.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Consumed from {@code court.schedule.exception}: a holiday or maintenance closure that was
+ * created or deleted in court-service. A deletion carries the court's week in {@code days}.
+ */
+public class CourtScheduleExceptionPayload {
+
+    public static final String CREATED = "CREATED";
+    public static final String DELETED = "DELETED";
+
+    private UUID exceptionId;
+    private UUID courtId;
+    private String action;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private String reason;
+    private List<CourtScheduleWeekEventPayload.DayWindow> days;
+
+    public UUID getExceptionId() {
+        return exceptionId;
+    }
+
+    public void setExceptionId(UUID exceptionId) {
+        this.exceptionId = exceptionId;
+    }
+
+    public UUID getCourtId() {
+        return courtId;
+    }
+
+    public void setCourtId(UUID courtId) {
+        this.courtId = courtId;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public List<CourtScheduleWeekEventPayload.DayWindow> getDays() {
+        return days;
+    }
+
+    public void setDays(List<CourtScheduleWeekEventPayload.DayWindow> days) {
+        this.days = days;
+    }
+}
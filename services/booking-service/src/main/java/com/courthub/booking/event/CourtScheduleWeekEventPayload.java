@@ -0,0 +1,108 @@
+package com.courthub.booking.event;
+
+import com.courthub.booking.domain.CourtStatus;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Consumed from {@code court.schedule.week}: every day window of one court in a single message.
+ */
+public class CourtScheduleWeekEventPayload {
+
+    private UUID courtId;
+    private String sportType;
+    private String surfaceType;
+    private int capacity;
+    private CourtStatus status;
+    private List<DayWindow> days;
+
+    public UUID getCourtId() {
+        return courtId;
+    }
+
+    public void setCourtId(UUID courtId) {
+        this.courtId = courtId;
+    }
+
+    public String getSportType() {
+        return sportType;
+    }
+
+    public void setSportType(String sportType) {
+        this.sportType = sportType;
+    }
+
+    public String getSurfaceType() {
+        return surfaceType;
+    }
+
+    public void setSurfaceType(String surfaceType) {
+        this.surfaceType = surfaceType;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public CourtStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(CourtStatus status) {
+        this.status = status;
+    }
+
+    public List<DayWindow> getDays() {
+        return days;
+    }
+
+    public void setDays(List<DayWindow> days) {
+        this.days = days;
+    }
+
+    public static class DayWindow {
+
+        private int dayOfWeek;
+        private LocalTime openTime;
+        private LocalTime closeTime;
+
+        public DayWindow() {
+        }
+
+        public DayWindow(int dayOfWeek, LocalTime openTime, LocalTime closeTime) {
+            this.dayOfWeek = dayOfWeek;
+            this.openTime = openTime;
+            this.closeTime = closeTime;
+        }
+
+        public int getDayOfWeek() {
+            return dayOfWeek;
+        }
+
+        public void setDayOfWeek(int dayOfWeek) {
+            this.dayOfWeek = dayOfWeek;
+        }
+
+        public LocalTime getOpenTime() {
+            return openTime;
+        }
+
+        public void setOpenTime(LocalTime openTime) {
+            this.openTime = openTime;
+        }
+
+        public LocalTime getCloseTime() {
+            return closeTime;
+        }
+
+        public void setCloseTime(LocalTime closeTime) {
+            this.closeTime = closeTime;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.courthub.booking.repository;
 import com.courthub.booking.domain.Booking;
 import com.courthub.booking.domain.BookingStatus;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
@@ -18,6 +19,10 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
 
     List<Booking> findByUserId(UUID userId);
 
+    List<Booking> findAllByOrderByIdAsc(Limit limit);
+
+    List<Booking> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
    // @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<Booking> findById(UUID id);
 }
@@ -0,0 +1,25 @@
+package com.courthub.booking.repository;
+
+import com.courthub.booking.domain.BookingSeries;
+import com.courthub.booking.domain.BookingSeriesStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BookingSeriesRepository extends JpaRepository<BookingSeries, UUID> {
+
+    List<BookingSeries> findByUserIdOrderByCreatedAtDesc(UUID userId);
+
+    @Query("select s from BookingSeries s where s.status = :status " +
+           "and s.materializedUntil < :horizonEnd and s.startDate <= :horizonEnd")
+    List<BookingSeries> findDueForMaterialization(BookingSeriesStatus status, LocalDate horizonEnd);
+
+    @Query("select s from BookingSeries s where s.courtId = :courtId and s.status = :status " +
+           "and s.materializedUntil < :horizonEnd and s.startDate <= :horizonEnd")
+    List<BookingSeries> findDueForMaterializationByCourtId(UUID courtId, BookingSeriesStatus status, LocalDate horizonEnd);
+}
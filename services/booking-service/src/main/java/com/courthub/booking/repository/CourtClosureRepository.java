@@ -0,0 +1,18 @@
+package com.courthub.booking.repository;
+
+import com.courthub.booking.domain.CourtClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CourtClosureRepository extends JpaRepository<CourtClosure, UUID> {
+
+    @Query("select c from CourtClosure c where c.courtId in :courtIds and c.startDate <= :to and c.endDate >= :from")
+    List<CourtClosure> findOverlapping(Collection<UUID> courtIds, LocalDate from, LocalDate to);
+}
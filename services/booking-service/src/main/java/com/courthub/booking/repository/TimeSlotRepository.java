@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,6 +35,25 @@ public interface TimeSlotRepository extends JpaRepository<TimeSlot, UUID> {
 
     List<TimeSlot> findByDate(LocalDate date);
 
+    List<TimeSlot> findByCourtIdInAndDateBetween(Collection<UUID> courtIds, LocalDate from, LocalDate to);
+
+    boolean existsByCourtId(UUID courtId);
+
+    boolean existsByCourtIdAndStartTime(UUID courtId, LocalTime startTime);
+
+    /**
+     * The last date each court has slots generated for; dates up to it have been through generation.
+     */
+    @Query("select ts.courtId as courtId, max(ts.date) as latestDate from TimeSlot ts " +
+           "where ts.courtId in :courtIds group by ts.courtId")
+    List<GeneratedHorizon> findGeneratedHorizons(Collection<UUID> courtIds);
+
+    interface GeneratedHorizon {
+        UUID getCourtId();
+
+        LocalDate getLatestDate();
+    }
+
     @Modifying
     @Query("delete from TimeSlot ts where ts.date < :currentDate and ts.status = :status " +
            "and not exists (select 1 from Booking b where b.timeSlotId = ts.id)")
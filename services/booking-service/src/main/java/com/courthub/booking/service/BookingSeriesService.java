@@ -0,0 +1,348 @@
+package com.courthub.booking.service;
+
+import com.courthub.booking.calendar.ClosureCalendar;
+import com.courthub.booking.domain.Booking;
+import com.courthub.booking.domain.BookingSeries;
+import com.courthub.booking.domain.BookingSeriesStatus;
+import com.courthub.booking.domain.BookingStatus;
+import com.courthub.booking.domain.TimeSlot;
+import com.courthub.booking.dto.BookingSeriesResponse;
+import com.courthub.booking.dto.CreateBookingSeriesRequest;
+import com.courthub.booking.event.BookingEventProducer;
+import com.courthub.booking.event.BookingSeriesConflictPayload;
+import com.courthub.booking.repository.BookingRepository;
+import com.courthub.booking.repository.BookingSeriesRepository;
+import com.courthub.booking.repository.CourtClosureRepository;
+import com.courthub.booking.repository.TimeSlotRepository;
+import com.courthub.common.dto.enums.TimeSlotStatus;
+import com.courthub.common.exception.BusinessException;
+import com.courthub.common.exception.ForbiddenException;
+import com.courthub.common.exception.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class BookingSeriesService {
+
+    private final BookingSeriesRepository seriesRepository;
+    private final BookingRepository bookingRepository;
+    private final TimeSlotRepository timeSlotRepository;
+    private final BookingEventProducer bookingEventProducer;
+    private final CourtClosureRepository closureRepository;
+
+    @Value("${booking.slot-generation-days-forward:7}")
+    private int daysForward;
+
+    @Value("${booking.series-max-weeks:26}")
+    private int maxWeeks;
+
+    public BookingSeriesService(BookingSeriesRepository seriesRepository,
+                                BookingRepository bookingRepository,
+                                TimeSlotRepository timeSlotRepository,
+                                BookingEventProducer bookingEventProducer,
+                                CourtClosureRepository closureRepository) {
+        this.seriesRepository = seriesRepository;
+        this.bookingRepository = bookingRepository;
+        this.timeSlotRepository = timeSlotRepository;
+        this.bookingEventProducer = bookingEventProducer;
+        this.closureRepository = closureRepository;
+    }
+
+    @Transactional
+    public BookingSeriesResponse createSeries(UUID userId, CreateBookingSeriesRequest request) {
+        log.info("Creating booking series: userId={}, courtId={}, dayOfWeek={}, startTime={}, from={}, to={}",
+                userId, request.getCourtId(), request.getDayOfWeek(), request.getStartTime(),
+                request.getStartDate(), request.getEndDate());
+        validateSeries(request);
+
+        BookingSeries series = new BookingSeries();
+        series.setUserId(userId);
+        series.setCourtId(request.getCourtId());
+        series.setDayOfWeek(request.getDayOfWeek());
+        series.setStartTime(request.getStartTime());
+        series.setIntervalWeeks(request.getIntervalWeeks() != null ? request.getIntervalWeeks() : 1);
+        series.setStartDate(request.getStartDate());
+        series.setEndDate(request.getEndDate());
+        series.setMaterializedUntil(request.getStartDate().minusDays(1));
+        series.setStatus(BookingSeriesStatus.ACTIVE);
+
+        BookingSeries saved = seriesRepository.save(series);
+
+        // Occurrences already inside the slot horizon are claimed right away
+        materialize(List.of(saved), horizonEnd());
+
+        log.info("Booking series created successfully: seriesId={}, materializedUntil={}",
+                saved.getId(), saved.getMaterializedUntil());
+        return toSeriesResponse(saved);
+    }
+
+    public List<BookingSeriesResponse> getSeriesByUserId(UUID userId) {
+        log.debug("Fetching booking series by userId={}", userId);
+        return seriesRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                .map(this::toSeriesResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public BookingSeriesResponse cancelSeries(UUID seriesId, UUID userId) {
+        log.info("Cancelling booking series: seriesId={}, userId={}", seriesId, userId);
+        BookingSeries series = seriesRepository.findById(seriesId)
+                .orElseThrow(() -> new NotFoundException("BookingSeries", seriesId));
+
+        if (!series.getUserId().equals(userId)) {
+            throw new ForbiddenException("Booking series belongs to another user");
+        }
+        if (series.getStatus() != BookingSeriesStatus.ACTIVE) {
+            throw new BusinessException("Booking series is not active");
+        }
+
+        series.setStatus(BookingSeriesStatus.CANCELLED);
+        BookingSeries saved = seriesRepository.save(series);
+
+        log.info("Booking series cancelled successfully: seriesId={}", seriesId);
+        return toSeriesResponse(saved);
+    }
+
+    /**
+     * Cron Job 00:15 to claim the occurrences that entered the slot horizon overnight.
+     */
+    @Scheduled(cron = "0 15 0 * * *")
+    @Transactional
+    public void materializeDueSeries() {
+        long start = System.currentTimeMillis();
+        LocalDate horizonEnd = horizonEnd();
+        log.info("Starting booking series materialization: horizonEnd={}", horizonEnd);
+        try {
+            List<BookingSeries> due = seriesRepository.findDueForMaterialization(BookingSeriesStatus.ACTIVE, horizonEnd);
+            int created = materialize(due, horizonEnd);
+            long durationMs = System.currentTimeMillis() - start;
+            log.info("Booking series materialization completed: series={}, bookingsCreated={}, durationMs={}",
+                    due.size(), created, durationMs);
+        } catch (Exception e) {
+            log.error("Error during booking series materialization", e);
+            throw e;
+        }
+    }
+
+    @Transactional
+    public int materializeForCourt(UUID courtId) {
+        LocalDate horizonEnd = horizonEnd();
+        List<BookingSeries> due = seriesRepository.findDueForMaterializationByCourtId(
+                courtId, BookingSeriesStatus.ACTIVE, horizonEnd);
+        return materialize(due, horizonEnd);
+    }
+
+    /**
+     * Claims every pending occurrence of the given series up to {@code horizonEnd} in one pass:
+     * a single slot lookup for all courts and dates involved, batched inserts, and one conflict
+     * report per series. Occurrences on a court closure are reported as closed, and so are dates
+     * without slots up to the last date the court has slots for: generation has passed them, so
+     * the court is not scheduled then. A series stops at the first date past that point, so it
+     * picks up from there once the court's slots are generated further.
+     */
+    private int materialize(List<BookingSeries> seriesList, LocalDate horizonEnd) {
+        if (seriesList.isEmpty()) {
+            return 0;
+        }
+
+        LocalDate today = LocalDate.now();
+        Map<BookingSeries, List<LocalDate>> occurrencesBySeries = new HashMap<>();
+        Set<UUID> courtIds = new HashSet<>();
+        LocalDate minDate = null;
+        LocalDate maxDate = null;
+
+        for (BookingSeries series : seriesList) {
+            LocalDate from = series.getMaterializedUntil().plusDays(1);
+            if (from.isBefore(today)) {
+                from = today;
+            }
+            LocalDate to = series.getEndDate().isBefore(horizonEnd) ? series.getEndDate() : horizonEnd;
+
+            List<LocalDate> occurrences = occurrencesBetween(series, from, to);
+            occurrencesBySeries.put(series, occurrences);
+            if (occurrences.isEmpty()) {
+                continue;
+            }
+            courtIds.add(series.getCourtId());
+            LocalDate first = occurrences.get(0);
+            LocalDate last = occurrences.get(occurrences.size() - 1);
+            minDate = minDate == null || first.isBefore(minDate) ? first : minDate;
+            maxDate = maxDate == null || last.isAfter(maxDate) ? last : maxDate;
+        }
+
+        Map<SlotKey, TimeSlot> slotIndex = new HashMap<>();
+        Set<CourtDay> generatedDays = new HashSet<>();
+        Map<UUID, LocalDate> generatedUntil = new HashMap<>();
+        ClosureCalendar closures = ClosureCalendar.of(List.of());
+        if (!courtIds.isEmpty()) {
+            for (TimeSlot slot : timeSlotRepository.findByCourtIdInAndDateBetween(courtIds, minDate, maxDate)) {
+                slotIndex.put(new SlotKey(slot.getCourtId(), slot.getDate(), slot.getStartTime()), slot);
+                generatedDays.add(new CourtDay(slot.getCourtId(), slot.getDate()));
+            }
+            for (TimeSlotRepository.GeneratedHorizon horizon : timeSlotRepository.findGeneratedHorizons(courtIds)) {
+                generatedUntil.put(horizon.getCourtId(), horizon.getLatestDate());
+            }
+            closures = ClosureCalendar.of(closureRepository.findOverlapping(courtIds, minDate, maxDate));
+        }
+
+        List<Booking> newBookings = new ArrayList<>();
+        List<TimeSlot> claimedSlots = new ArrayList<>();
+        List<BookingSeriesConflictPayload> conflicts = new ArrayList<>();
+
+        for (BookingSeries series : seriesList) {
+            LocalDate processedUntil = series.getMaterializedUntil();
+            List<LocalDate> unavailable = new ArrayList<>();
+            List<LocalDate> closed = new ArrayList<>();
+            boolean reachedUngenerated = false;
+
+            for (LocalDate date : occurrencesBySeries.get(series)) {
+                // Closed days may have no slots at all, so check them before the generation cut-off
+                if (closures.blocks(series.getCourtId(), date, series.getStartTime(), series.getStartTime().plusMinutes(1))) {
+                    closed.add(date);
+                    processedUntil = date;
+                    continue;
+                }
+                if (!generatedDays.contains(new CourtDay(series.getCourtId(), date))) {
+                    LocalDate courtGeneratedUntil = generatedUntil.get(series.getCourtId());
+                    if (courtGeneratedUntil == null || date.isAfter(courtGeneratedUntil)) {
+                        reachedUngenerated = true;
+                        break;
+                    }
+                    // Generated past this date without a slot on it: the court does not open that day
+                    closed.add(date);
+                    processedUntil = date;
+                    continue;
+                }
+
+                TimeSlot slot = slotIndex.get(new SlotKey(series.getCourtId(), date, series.getStartTime()));
+                if (slot == null || slot.getStatus() == TimeSlotStatus.BLOCKED) {
+                    closed.add(date);
+                } else if (slot.getStatus() != TimeSlotStatus.AVAILABLE) {
+                    unavailable.add(date);
+                } else {
+                    slot.setStatus(TimeSlotStatus.BOOKED);
+                    claimedSlots.add(slot);
+                    newBookings.add(newSeriesBooking(series, slot));
+                }
+                processedUntil = date;
+            }
+
+            if (!reachedUngenerated) {
+                LocalDate windowEnd = series.getEndDate().isBefore(horizonEnd) ? series.getEndDate() : horizonEnd;
+                processedUntil = windowEnd.isAfter(processedUntil) ? windowEnd : processedUntil;
+            }
+            series.setMaterializedUntil(processedUntil);
+            if (!processedUntil.isBefore(series.getEndDate())) {
+                series.setStatus(BookingSeriesStatus.COMPLETED);
+            }
+
+            if (!unavailable.isEmpty() || !closed.isEmpty()) {
+                conflicts.add(new BookingSeriesConflictPayload(series.getId(), series.getUserId(),
+                        series.getCourtId(), series.getStartTime(), unavailable, closed));
+            }
+        }
+
+        List<Booking> savedBookings = bookingRepository.saveAll(newBookings);
+        timeSlotRepository.saveAll(claimedSlots);
+        seriesRepository.saveAll(seriesList);
+
+        Map<UUID, TimeSlot> slotsById = claimedSlots.stream()
+                .collect(Collectors.toMap(TimeSlot::getId, slot -> slot));
+        for (Booking booking : savedBookings) {
+            bookingEventProducer.sendBookingCreated(booking, slotsById.get(booking.getTimeSlotId()));
+        }
+        conflicts.forEach(bookingEventProducer::sendSeriesConflicts);
+
+        log.info("Booking series materialized: series={}, bookingsCreated={}, seriesWithConflicts={}",
+                seriesList.size(), savedBookings.size(), conflicts.size());
+        return savedBookings.size();
+    }
+
+    private List<LocalDate> occurrencesBetween(BookingSeries series, LocalDate from, LocalDate to) {
+        List<LocalDate> occurrences = new ArrayList<>();
+        LocalDate anchor = series.getStartDate()
+                .with(TemporalAdjusters.nextOrSame(DayOfWeek.of(series.getDayOfWeek())));
+        long periodDays = 7L * series.getIntervalWeeks();
+
+        LocalDate current = anchor;
+        if (from.isAfter(anchor)) {
+            long periods = (ChronoUnit.DAYS.between(anchor, from) + periodDays - 1) / periodDays;
+            current = anchor.plusDays(periods * periodDays);
+        }
+        while (!current.isAfter(to)) {
+            occurrences.add(current);
+            current = current.plusDays(periodDays);
+        }
+        return occurrences;
+    }
+
+    private Booking newSeriesBooking(BookingSeries series, TimeSlot slot) {
+        Booking booking = new Booking();
+        booking.setTimeSlotId(slot.getId());
+        booking.setCourtId(series.getCourtId());
+        booking.setUserId(series.getUserId());
+        booking.setSeriesId(series.getId());
+        booking.setStatus(BookingStatus.PENDING_PAYMENT);
+        return booking;
+    }
+
+    private void validateSeries(CreateBookingSeriesRequest request) {
+        if (request.getStartDate().isBefore(LocalDate.now())) {
+            throw new BusinessException("Cannot create booking series starting in the past");
+        }
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new BusinessException("Series end date must not be before its start date");
+        }
+        if (request.getStartDate().plusWeeks(maxWeeks).isBefore(request.getEndDate())) {
+            throw new BusinessException("Booking series cannot span more than " + maxWeeks + " weeks");
+        }
+        // Slots are generated on the court's grid, so a series off it would only ever find closed dates
+        if (timeSlotRepository.existsByCourtId(request.getCourtId())
+                && !timeSlotRepository.existsByCourtIdAndStartTime(request.getCourtId(), request.getStartTime())) {
+            throw new BusinessException("Series start time " + request.getStartTime() + " is not a slot start time of the court");
+        }
+    }
+
+    private LocalDate horizonEnd() {
+        return LocalDate.now().plusDays(daysForward - 1L);
+    }
+
+    private BookingSeriesResponse toSeriesResponse(BookingSeries series) {
+        return new BookingSeriesResponse(
+                series.getId(),
+                series.getCourtId(),
+                series.getUserId(),
+                series.getDayOfWeek(),
+                series.getStartTime(),
+                series.getIntervalWeeks(),
+                series.getStartDate(),
+                series.getEndDate(),
+                series.getMaterializedUntil(),
+                series.getStatus()
+        );
+    }
+
+    private record SlotKey(UUID courtId, LocalDate date, LocalTime startTime) {
+    }
+
+    private record CourtDay(UUID courtId, LocalDate date) {
+    }
+}
@@ -6,6 +6,7 @@ import com.courthub.booking.domain.ConflictException;
 import com.courthub.booking.domain.TimeSlot;
 import com.courthub.common.dto.enums.TimeSlotStatus;
 import com.courthub.common.dto.AvailabilitySlotResponse;
+import com.courthub.common.dto.analytics.BookingInternalPage;
 import com.courthub.booking.dto.BookingResponse;
 import com.courthub.booking.dto.CreateBookingRequest;
 import com.courthub.booking.event.BookingEventProducer;
@@ -14,12 +15,16 @@ import com.courthub.booking.repository.TimeSlotRepository;
 import com.courthub.common.exception.BusinessException;
 import com.courthub.common.exception.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,6 +32,8 @@ import java.util.stream.Collectors;
 @Service
 public class BookingService {
 
+    static final int MAX_ANALYTICS_PAGE_SIZE = 5000;
+
     private final BookingRepository bookingRepository;
     private final TimeSlotRepository timeSlotRepository;
     private final BookingEventProducer bookingEventProducer;
@@ -218,10 +225,60 @@ public class BookingService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Keyset page of bookings in id order for analytics extraction, with the page's time slots
+     * loaded in one query instead of one lookup per booking.
+     */
+    @Transactional(readOnly = true)
+    public BookingInternalPage getBookingsForAnalyticsPage(String cursor, int size) {
+        log.debug("Fetching bookings page for analytics: cursor={}, size={}", cursor, size);
+        if (size <= 0 || size > MAX_ANALYTICS_PAGE_SIZE) {
+            throw new BusinessException("Page size must be between 1 and " + MAX_ANALYTICS_PAGE_SIZE);
+        }
+
+        List<Booking> rows;
+        if (cursor != null && !cursor.isBlank()) {
+            rows = bookingRepository.findByIdGreaterThanOrderByIdAsc(parseCursor(cursor), Limit.of(size + 1));
+        } else {
+            rows = bookingRepository.findAllByOrderByIdAsc(Limit.of(size + 1));
+        }
+        boolean hasMore = rows.size() > size;
+        List<Booking> page = hasMore ? rows.subList(0, size) : rows;
+
+        Map<UUID, TimeSlot> timeSlots = new HashMap<>();
+        for (TimeSlot timeSlot : timeSlotRepository.findAllById(
+                page.stream().map(Booking::getTimeSlotId).collect(Collectors.toSet()))) {
+            timeSlots.put(timeSlot.getId(), timeSlot);
+        }
+
+        List<com.courthub.common.dto.analytics.BookingInternalDTO> items = new ArrayList<>(page.size());
+        for (Booking booking : page) {
+            TimeSlot timeSlot = timeSlots.get(booking.getTimeSlotId());
+            if (timeSlot == null) {
+                throw new NotFoundException("TimeSlot", booking.getTimeSlotId().toString());
+            }
+            items.add(toBookingInternalDTO(booking, timeSlot));
+        }
+
+        String nextCursor = hasMore ? page.get(page.size() - 1).getId().toString() : null;
+        return new BookingInternalPage(items, nextCursor, hasMore);
+    }
+
+    private UUID parseCursor(String cursor) {
+        try {
+            return UUID.fromString(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid cursor");
+        }
+    }
+
     private com.courthub.common.dto.analytics.BookingInternalDTO toBookingInternalDTO(Booking booking) {
         TimeSlot timeSlot = timeSlotRepository.findById(booking.getTimeSlotId())
             .orElseThrow(() -> new NotFoundException("TimeSlot", booking.getTimeSlotId().toString()));
-        
+        return toBookingInternalDTO(booking, timeSlot);
+    }
+
+    private com.courthub.common.dto.analytics.BookingInternalDTO toBookingInternalDTO(Booking booking, TimeSlot timeSlot) {
         return new com.courthub.common.dto.analytics.BookingInternalDTO(
             booking.getId().toString(),
             booking.getCourtId().toString(),
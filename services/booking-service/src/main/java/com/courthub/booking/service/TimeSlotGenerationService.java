@@ -0,0 +1,100 @@
+package com.courthub.booking.service;
+
+import com.courthub.booking.calendar.ClosureCalendar;
+import com.courthub.booking.domain.TimeSlot;
+import com.courthub.booking.event.CourtScheduleWeekEventPayload;
+import com.courthub.booking.repository.CourtClosureRepository;
+import com.courthub.booking.repository.TimeSlotRepository;
+import com.courthub.common.dto.enums.TimeSlotStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class TimeSlotGenerationService {
+
+    private final TimeSlotRepository timeSlotRepository;
+    private final CourtClosureRepository closureRepository;
+
+    @Value("${booking.slot-duration-minutes:60}")
+    private int slotDurationMinutes;
+
+    @Value("${booking.slot-generation-days-forward:7}")
+    private int daysForward;
+
+    public TimeSlotGenerationService(TimeSlotRepository timeSlotRepository,
+                                     CourtClosureRepository closureRepository) {
+        this.timeSlotRepository = timeSlotRepository;
+        this.closureRepository = closureRepository;
+    }
+
+    /**
+     * Generates the missing slots of every horizon date whose day of week has a window,
+     * with one lookup of the court's existing slots, one of its closures and one batched insert.
+     * Slots overlapping a closure are not generated.
+     */
+    @Transactional
+    public int generateSlots(UUID courtId, Map<Integer, CourtScheduleWeekEventPayload.DayWindow> windows) {
+        if (windows.isEmpty() || daysForward <= 0) {
+            return 0;
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate horizonEnd = today.plusDays(daysForward - 1L);
+
+        Set<String> existing = new HashSet<>();
+        for (TimeSlot slot : timeSlotRepository.findByCourtIdInAndDateBetween(List.of(courtId), today, horizonEnd)) {
+            existing.add(slotKey(slot.getDate(), slot.getStartTime()));
+        }
+        ClosureCalendar closures = ClosureCalendar.of(
+                closureRepository.findOverlapping(List.of(courtId), today, horizonEnd));
+
+        List<TimeSlot> newSlots = new ArrayList<>();
+        for (LocalDate date = today; !date.isAfter(horizonEnd); date = date.plusDays(1)) {
+            CourtScheduleWeekEventPayload.DayWindow window = windows.get(date.getDayOfWeek().getValue());
+            if (window == null || window.getOpenTime() == null || window.getCloseTime() == null) {
+                continue;
+            }
+            int created = 0;
+            LocalTime current = window.getOpenTime();
+            while (current.isBefore(window.getCloseTime())) {
+                LocalTime slotEnd = current.plusMinutes(slotDurationMinutes);
+                if (slotEnd.isAfter(window.getCloseTime()) || !slotEnd.isAfter(current)) {
+                    break;
+                }
+                if (!existing.contains(slotKey(date, current))
+                        && !closures.blocks(courtId, date, current, slotEnd)) {
+                    TimeSlot slot = new TimeSlot();
+                    slot.setCourtId(courtId);
+                    slot.setDate(date);
+                    slot.setStartTime(current);
+                    slot.setEndTime(slotEnd);
+                    slot.setStatus(TimeSlotStatus.AVAILABLE);
+                    newSlots.add(slot);
+                    created++;
+                }
+                current = slotEnd;
+            }
+            log.debug("Generated slots for courtId={}, date={}, created={}", courtId, date, created);
+        }
+
+        if (!newSlots.isEmpty()) {
+            timeSlotRepository.saveAll(newSlots);
+        }
+        return newSlots.size();
+    }
+
+    private String slotKey(LocalDate date, LocalTime startTime) {
+        return date + "T" + startTime;
+    }
+}
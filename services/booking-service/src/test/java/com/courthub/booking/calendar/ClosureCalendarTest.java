@@ -0,0 +1,84 @@
+package com.courthub.booking.calendar;
+
+import com.courthub.booking.domain.CourtClosure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ClosureCalendar Unit Tests")
+public class ClosureCalendarTest {
+
+    private final UUID courtId = UUID.randomUUID();
+    private final LocalDate monday = LocalDate.of(2025, 1, 6);
+
+    @Test
+    @DisplayName("Should block every slot of a full-day closure range")
+    void testFullDayClosure() {
+        // Arrange
+        ClosureCalendar calendar = ClosureCalendar.of(List.of(closure(monday, monday.plusDays(1), null, null)));
+
+        // Act & Assert
+        assertThat(calendar.blocks(courtId, monday, LocalTime.of(0, 0), LocalTime.of(1, 0))).isTrue();
+        assertThat(calendar.blocks(courtId, monday.plusDays(1), LocalTime.of(23, 0), LocalTime.MIDNIGHT)).isTrue();
+        assertThat(calendar.blocks(courtId, monday.plusDays(2), LocalTime.of(0, 0), LocalTime.of(1, 0))).isFalse();
+        assertThat(calendar.blocks(UUID.randomUUID(), monday, LocalTime.of(8, 0), LocalTime.of(9, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should block only the daily window of a partial closure, with half-open bounds")
+    void testDailyWindowClosure() {
+        // Arrange
+        ClosureCalendar calendar = ClosureCalendar.of(List.of(
+                closure(monday, monday.plusDays(2), LocalTime.of(12, 0), LocalTime.of(14, 0))));
+
+        // Act & Assert
+        assertThat(calendar.blocks(courtId, monday.plusDays(1), LocalTime.of(13, 0), LocalTime.of(14, 0))).isTrue();
+        assertThat(calendar.blocks(courtId, monday.plusDays(1), LocalTime.of(11, 0), LocalTime.of(12, 0))).isFalse();
+        assertThat(calendar.blocks(courtId, monday.plusDays(1), LocalTime.of(14, 0), LocalTime.of(15, 0))).isFalse();
+        assertThat(calendar.blocks(courtId, monday.plusDays(3), LocalTime.of(13, 0), LocalTime.of(14, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should answer like a linear scan over many overlapping closures")
+    void testMatchesLinearScan() {
+        // Arrange
+        Random random = new Random(42);
+        List<IntervalTree.Interval<Integer>> intervals = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            long start = random.nextInt(10_000);
+            intervals.add(new IntervalTree.Interval<>(start, start + 1 + random.nextInt(300), i));
+        }
+        IntervalTree<Integer> tree = IntervalTree.of(intervals);
+
+        // Act & Assert
+        for (int i = 0; i < 1_000; i++) {
+            long start = random.nextInt(10_500);
+            long end = start + 1 + random.nextInt(120);
+            List<Integer> expected = intervals.stream()
+                    .filter(interval -> interval.start() < end && interval.end() > start)
+                    .map(IntervalTree.Interval::value)
+                    .toList();
+            assertThat(tree.overlapping(start, end)).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(tree.overlapsAny(start, end)).isEqualTo(!expected.isEmpty());
+        }
+    }
+
+    private CourtClosure closure(LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime) {
+        CourtClosure closure = new CourtClosure();
+        closure.setId(UUID.randomUUID());
+        closure.setCourtId(courtId);
+        closure.setStartDate(startDate);
+        closure.setEndDate(endDate);
+        closure.setStartTime(startTime);
+        closure.setEndTime(endTime);
+        return closure;
+    }
+}
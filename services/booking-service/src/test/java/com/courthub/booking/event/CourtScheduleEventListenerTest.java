@@ -0,0 +1,148 @@
+package com.courthub.booking.event;
+
+import com.courthub.booking.domain.CourtClosure;
+import com.courthub.booking.domain.TimeSlot;
+import com.courthub.booking.repository.CourtClosureRepository;
+import com.courthub.booking.repository.TimeSlotRepository;
+import com.courthub.booking.service.BookingSeriesService;
+import com.courthub.booking.service.TimeSlotGenerationService;
+import com.courthub.common.dto.enums.TimeSlotStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CourtScheduleEventListener Unit Tests")
+public class CourtScheduleEventListenerTest {
+
+    @Mock
+    private TimeSlotRepository timeSlotRepository;
+
+    @Mock
+    private BookingSeriesService bookingSeriesService;
+
+    @Mock
+    private CourtClosureRepository closureRepository;
+
+    private CourtScheduleEventListener listener;
+
+    private UUID courtId;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        TimeSlotGenerationService generationService = new TimeSlotGenerationService(timeSlotRepository, closureRepository);
+        ReflectionTestUtils.setField(generationService, "slotDurationMinutes", 60);
+        ReflectionTestUtils.setField(generationService, "daysForward", 7);
+        listener = new CourtScheduleEventListener(generationService, bookingSeriesService);
+        courtId = UUID.randomUUID();
+        today = LocalDate.now();
+    }
+
+    @Test
+    @DisplayName("Should generate the whole horizon from a week event with one lookup and one insert")
+    @SuppressWarnings("unchecked")
+    void testWeekEventGeneratesHorizonInBulk() {
+        // Arrange
+        CourtScheduleWeekEventPayload event = new CourtScheduleWeekEventPayload();
+        event.setCourtId(courtId);
+        List<CourtScheduleWeekEventPayload.DayWindow> days = new ArrayList<>();
+        for (int dayOfWeek = 1; dayOfWeek <= 7; dayOfWeek++) {
+            days.add(new CourtScheduleWeekEventPayload.DayWindow(dayOfWeek, LocalTime.of(8, 0), LocalTime.of(10, 0)));
+        }
+        event.setDays(days);
+
+        TimeSlot existing = new TimeSlot();
+        existing.setCourtId(courtId);
+        existing.setDate(today);
+        existing.setStartTime(LocalTime.of(8, 0));
+        existing.setStatus(TimeSlotStatus.BOOKED);
+        when(timeSlotRepository.findByCourtIdInAndDateBetween(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(existing));
+
+        // Act
+        listener.onScheduleWeek(event);
+
+        // Assert
+        ArgumentCaptor<List<TimeSlot>> saved = ArgumentCaptor.forClass(List.class);
+        verify(timeSlotRepository, times(1)).saveAll(saved.capture());
+        assertThat(saved.getValue()).hasSize(13);
+        assertThat(saved.getValue()).allMatch(slot -> slot.getStatus() == TimeSlotStatus.AVAILABLE);
+        verify(timeSlotRepository, times(1))
+                .findByCourtIdInAndDateBetween(List.of(courtId), today, today.plusDays(6));
+        verify(timeSlotRepository, never()).existsByCourtIdAndDateAndStartTime(any(), any(), any());
+        verify(bookingSeriesService, times(1)).materializeForCourt(courtId);
+    }
+
+    @Test
+    @DisplayName("Should only generate dates matching the day of a single-day event")
+    @SuppressWarnings("unchecked")
+    void testDayEventGeneratesMatchingDate() {
+        // Arrange
+        CourtScheduleEventPayload event = new CourtScheduleEventPayload();
+        event.setCourtId(courtId);
+        event.setDayOfWeek(today.getDayOfWeek().getValue());
+        event.setOpenTime(LocalTime.of(8, 0));
+        event.setCloseTime(LocalTime.of(11, 0));
+        when(timeSlotRepository.findByCourtIdInAndDateBetween(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of());
+
+        // Act
+        listener.onScheduleUpdated(event);
+
+        // Assert
+        ArgumentCaptor<List<TimeSlot>> saved = ArgumentCaptor.forClass(List.class);
+        verify(timeSlotRepository, times(1)).saveAll(saved.capture());
+        assertThat(saved.getValue()).hasSize(3);
+        assertThat(saved.getValue()).allMatch(slot -> slot.getDate().equals(today));
+    }
+
+    @Test
+    @DisplayName("Should not generate slots covered by a court closure")
+    @SuppressWarnings("unchecked")
+    void testClosedWindowIsSkipped() {
+        // Arrange
+        CourtScheduleEventPayload event = new CourtScheduleEventPayload();
+        event.setCourtId(courtId);
+        event.setDayOfWeek(today.getDayOfWeek().getValue());
+        event.setOpenTime(LocalTime.of(8, 0));
+        event.setCloseTime(LocalTime.of(12, 0));
+        CourtClosure maintenance = new CourtClosure();
+        maintenance.setId(UUID.randomUUID());
+        maintenance.setCourtId(courtId);
+        maintenance.setStartDate(today);
+        maintenance.setEndDate(today);
+        maintenance.setStartTime(LocalTime.of(9, 30));
+        maintenance.setEndTime(LocalTime.of(10, 0));
+        when(timeSlotRepository.findByCourtIdInAndDateBetween(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of());
+        when(closureRepository.findOverlapping(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(maintenance));
+
+        // Act
+        listener.onScheduleUpdated(event);
+
+        // Assert
+        ArgumentCaptor<List<TimeSlot>> saved = ArgumentCaptor.forClass(List.class);
+        verify(timeSlotRepository, times(1)).saveAll(saved.capture());
+        assertThat(saved.getValue())
+                .extracting(TimeSlot::getStartTime)
+                .containsExactly(LocalTime.of(8, 0), LocalTime.of(10, 0), LocalTime.of(11, 0));
+    }
+}
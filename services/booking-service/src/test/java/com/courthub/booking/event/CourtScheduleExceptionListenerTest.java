@@ -0,0 +1,165 @@
+package com.courthub.booking.event;
+
+import com.courthub.booking.domain.CourtClosure;
+import com.courthub.booking.domain.TimeSlot;
+import com.courthub.booking.repository.CourtClosureRepository;
+import com.courthub.booking.repository.TimeSlotRepository;
+import com.courthub.booking.service.BookingSeriesService;
+import com.courthub.booking.service.TimeSlotGenerationService;
+import com.courthub.common.dto.enums.TimeSlotStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CourtScheduleExceptionListener Unit Tests")
+public class CourtScheduleExceptionListenerTest {
+
+    @Mock
+    private TimeSlotRepository timeSlotRepository;
+
+    @Mock
+    private CourtClosureRepository closureRepository;
+
+    @Mock
+    private BookingSeriesService bookingSeriesService;
+
+    private CourtScheduleEventListener scheduleListener;
+    private CourtScheduleExceptionListener exceptionListener;
+
+    private final List<TimeSlot> slots = new ArrayList<>();
+    private final Map<UUID, CourtClosure> closures = new HashMap<>();
+
+    private UUID courtId;
+    private LocalDate today;
+    private List<CourtScheduleWeekEventPayload.DayWindow> week;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        TimeSlotGenerationService generationService = new TimeSlotGenerationService(timeSlotRepository, closureRepository);
+        ReflectionTestUtils.setField(generationService, "slotDurationMinutes", 60);
+        ReflectionTestUtils.setField(generationService, "daysForward", 7);
+        scheduleListener = new CourtScheduleEventListener(generationService, bookingSeriesService);
+        exceptionListener = new CourtScheduleExceptionListener(closureRepository, timeSlotRepository,
+                generationService, bookingSeriesService);
+        courtId = UUID.randomUUID();
+        today = LocalDate.now();
+        week = new ArrayList<>();
+        for (int dayOfWeek = 1; dayOfWeek <= 7; dayOfWeek++) {
+            week.add(new CourtScheduleWeekEventPayload.DayWindow(dayOfWeek, LocalTime.of(8, 0), LocalTime.of(10, 0)));
+        }
+
+        // In-memory slot and closure tables
+        when(timeSlotRepository.findByCourtIdInAndDateBetween(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenAnswer(invocation -> {
+                    Collection<UUID> courtIds = invocation.getArgument(0);
+                    LocalDate from = invocation.getArgument(1);
+                    LocalDate to = invocation.getArgument(2);
+                    return slots.stream()
+                            .filter(slot -> courtIds.contains(slot.getCourtId()))
+                            .filter(slot -> !slot.getDate().isBefore(from) && !slot.getDate().isAfter(to))
+                            .toList();
+                });
+        when(timeSlotRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+            for (TimeSlot slot : (Collection<TimeSlot>) invocation.getArgument(0)) {
+                if (slots.stream().noneMatch(existing -> existing == slot)) {
+                    slots.add(slot);
+                }
+            }
+            return invocation.getArgument(0);
+        });
+        when(closureRepository.findOverlapping(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenAnswer(invocation -> List.copyOf(closures.values()));
+        when(closureRepository.findById(any(UUID.class)))
+                .thenAnswer(invocation -> Optional.ofNullable(closures.get(invocation.getArgument(0))));
+        when(closureRepository.save(any(CourtClosure.class))).thenAnswer(invocation -> {
+            CourtClosure closure = invocation.getArgument(0);
+            closures.put(closure.getId(), closure);
+            return closure;
+        });
+        doAnswer(invocation -> closures.remove(invocation.getArgument(0)))
+                .when(closureRepository).deleteById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should regenerate the freed slots when the week event is handled before the deletion")
+    void testWeekEventBeforeDeletionRegeneratesSlots() {
+        // Arrange
+        UUID exceptionId = UUID.randomUUID();
+        exceptionListener.onScheduleException(exceptionEvent(exceptionId, CourtScheduleExceptionPayload.CREATED, null));
+        CourtScheduleWeekEventPayload weekEvent = new CourtScheduleWeekEventPayload();
+        weekEvent.setCourtId(courtId);
+        weekEvent.setDays(week);
+        scheduleListener.onScheduleWeek(weekEvent);
+        assertThat(slotsOn(today)).isEmpty();
+
+        // Act
+        exceptionListener.onScheduleException(exceptionEvent(exceptionId, CourtScheduleExceptionPayload.DELETED, week));
+
+        // Assert
+        assertThat(closures).isEmpty();
+        assertThat(slotsOn(today))
+                .extracting(TimeSlot::getStartTime)
+                .containsExactlyInAnyOrder(LocalTime.of(8, 0), LocalTime.of(9, 0));
+        assertThat(slotsOn(today)).allMatch(slot -> slot.getStatus() == TimeSlotStatus.AVAILABLE);
+        assertThat(slots).hasSize(14);
+        verify(bookingSeriesService, times(2)).materializeForCourt(courtId);
+    }
+
+    @Test
+    @DisplayName("Should release blocked slots without duplicating them when the deletion comes last")
+    void testDeletionReleasesBlockedSlots() {
+        // Arrange
+        CourtScheduleWeekEventPayload weekEvent = new CourtScheduleWeekEventPayload();
+        weekEvent.setCourtId(courtId);
+        weekEvent.setDays(week);
+        scheduleListener.onScheduleWeek(weekEvent);
+        UUID exceptionId = UUID.randomUUID();
+        exceptionListener.onScheduleException(exceptionEvent(exceptionId, CourtScheduleExceptionPayload.CREATED, null));
+        assertThat(slotsOn(today)).allMatch(slot -> slot.getStatus() == TimeSlotStatus.BLOCKED);
+
+        // Act
+        exceptionListener.onScheduleException(exceptionEvent(exceptionId, CourtScheduleExceptionPayload.DELETED, week));
+
+        // Assert
+        assertThat(slotsOn(today)).hasSize(2).allMatch(slot -> slot.getStatus() == TimeSlotStatus.AVAILABLE);
+        assertThat(slots).hasSize(14);
+    }
+
+    private CourtScheduleExceptionPayload exceptionEvent(UUID exceptionId, String action,
+                                                         List<CourtScheduleWeekEventPayload.DayWindow> days) {
+        CourtScheduleExceptionPayload event = new CourtScheduleExceptionPayload();
+        event.setExceptionId(exceptionId);
+        event.setCourtId(courtId);
+        event.setAction(action);
+        event.setStartDate(today);
+        event.setEndDate(today);
+        event.setReason("Maintenance");
+        event.setDays(days);
+        return event;
+    }
+
+    private List<TimeSlot> slotsOn(LocalDate date) {
+        return slots.stream().filter(slot -> slot.getDate().equals(date)).toList();
+    }
+}
@@ -0,0 +1,254 @@
+package com.courthub.booking.service;
+
+import com.courthub.booking.domain.Booking;
+import com.courthub.booking.domain.BookingSeries;
+import com.courthub.booking.domain.BookingSeriesStatus;
+import com.courthub.booking.domain.CourtClosure;
+import com.courthub.booking.domain.TimeSlot;
+import com.courthub.booking.dto.BookingSeriesResponse;
+import com.courthub.booking.dto.CreateBookingSeriesRequest;
+import com.courthub.booking.event.BookingEventProducer;
+import com.courthub.booking.event.BookingSeriesConflictPayload;
+import com.courthub.booking.repository.BookingRepository;
+import com.courthub.booking.repository.BookingSeriesRepository;
+import com.courthub.booking.repository.CourtClosureRepository;
+import com.courthub.booking.repository.TimeSlotRepository;
+import com.courthub.common.dto.enums.TimeSlotStatus;
+import com.courthub.common.exception.BusinessException;
+import com.courthub.common.exception.ForbiddenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingSeriesService Unit Tests")
+public class BookingSeriesServiceTest {
+
+    @Mock
+    private BookingSeriesRepository seriesRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private TimeSlotRepository timeSlotRepository;
+
+    @Mock
+    private BookingEventProducer bookingEventProducer;
+
+    @Mock
+    private CourtClosureRepository closureRepository;
+
+    @InjectMocks
+    private BookingSeriesService bookingSeriesService;
+
+    private UUID userId;
+    private UUID courtId;
+    private LocalDate today;
+    private LocalTime startTime;
+    private CreateBookingSeriesRequest request;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bookingSeriesService, "daysForward", 14);
+        ReflectionTestUtils.setField(bookingSeriesService, "maxWeeks", 26);
+
+        userId = UUID.randomUUID();
+        courtId = UUID.randomUUID();
+        today = LocalDate.now();
+        startTime = LocalTime.of(18, 0);
+
+        request = new CreateBookingSeriesRequest();
+        request.setCourtId(courtId);
+        request.setDayOfWeek(today.getDayOfWeek().getValue());
+        request.setStartTime(startTime);
+        request.setStartDate(today);
+        request.setEndDate(today.plusWeeks(4));
+    }
+
+    @Test
+    @DisplayName("Should claim available occurrences and report conflicts in bulk")
+    void testCreateSeriesMaterializesHorizon() {
+        // Arrange
+        mockSeriesSave();
+        TimeSlot available = slot(today, TimeSlotStatus.AVAILABLE);
+        TimeSlot taken = slot(today.plusWeeks(1), TimeSlotStatus.BOOKED);
+        when(timeSlotRepository.findByCourtIdInAndDateBetween(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(available, taken));
+        when(bookingRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BookingSeriesResponse result = bookingSeriesService.createSeries(userId, request);
+
+        // Assert
+        assertThat(result.getStatus()).isEqualTo(BookingSeriesStatus.ACTIVE);
+        assertThat(result.getMaterializedUntil()).isEqualTo(today.plusDays(13));
+        assertThat(available.getStatus()).isEqualTo(TimeSlotStatus.BOOKED);
+
+        verify(timeSlotRepository, times(1))
+                .findByCourtIdInAndDateBetween(anyCollection(), any(LocalDate.class), any(LocalDate.class));
+        verify(bookingEventProducer, times(1)).sendBookingCreated(any(Booking.class), eq(available));
+
+        ArgumentCaptor<BookingSeriesConflictPayload> conflict = ArgumentCaptor.forClass(BookingSeriesConflictPayload.class);
+        verify(bookingEventProducer, times(1)).sendSeriesConflicts(conflict.capture());
+        assertThat(conflict.getValue().getUserId()).isEqualTo(userId);
+        assertThat(conflict.getValue().getUnavailableDates()).containsExactly(today.plusWeeks(1));
+        assertThat(conflict.getValue().getClosedDates()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should stop at the first date whose slots are not generated yet")
+    void testCreateSeriesStopsAtUngeneratedDate() {
+        // Arrange
+        mockSeriesSave();
+        when(timeSlotRepository.findByCourtIdInAndDateBetween(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(slot(today, TimeSlotStatus.AVAILABLE)));
+        when(bookingRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BookingSeriesResponse result = bookingSeriesService.createSeries(userId, request);
+
+        // Assert
+        assertThat(result.getMaterializedUntil()).isEqualTo(today);
+        verify(bookingEventProducer, times(1)).sendBookingCreated(any(Booking.class), any(TimeSlot.class));
+        verify(bookingEventProducer, never()).sendSeriesConflicts(any());
+    }
+
+    @Test
+    @DisplayName("Should report closed occurrences without stopping at days a closure left ungenerated")
+    void testCreateSeriesSkipsClosedDates() {
+        // Arrange
+        mockSeriesSave();
+        CourtClosure holiday = new CourtClosure();
+        holiday.setId(UUID.randomUUID());
+        holiday.setCourtId(courtId);
+        holiday.setStartDate(today.plusWeeks(1));
+        holiday.setEndDate(today.plusWeeks(1));
+        when(closureRepository.findOverlapping(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(holiday));
+        TimeSlot available = slot(today, TimeSlotStatus.AVAILABLE);
+        when(timeSlotRepository.findByCourtIdInAndDateBetween(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(available));
+        when(bookingRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BookingSeriesResponse result = bookingSeriesService.createSeries(userId, request);
+
+        // Assert
+        assertThat(result.getMaterializedUntil()).isEqualTo(today.plusDays(13));
+        verify(bookingEventProducer, times(1)).sendBookingCreated(any(Booking.class), eq(available));
+
+        ArgumentCaptor<BookingSeriesConflictPayload> conflict = ArgumentCaptor.forClass(BookingSeriesConflictPayload.class);
+        verify(bookingEventProducer, times(1)).sendSeriesConflicts(conflict.capture());
+        assertThat(conflict.getValue().getClosedDates()).containsExactly(today.plusWeeks(1));
+        assertThat(conflict.getValue().getUnavailableDates()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report dates the court has no slots on as closed once generation has passed them")
+    void testCreateSeriesAdvancesPastUnscheduledDates() {
+        // Arrange
+        mockSeriesSave();
+        when(timeSlotRepository.findByCourtIdInAndDateBetween(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of());
+        TimeSlotRepository.GeneratedHorizon horizon = mock(TimeSlotRepository.GeneratedHorizon.class);
+        when(horizon.getCourtId()).thenReturn(courtId);
+        when(horizon.getLatestDate()).thenReturn(today.plusDays(13));
+        when(timeSlotRepository.findGeneratedHorizons(anyCollection())).thenReturn(List.of(horizon));
+        when(bookingRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BookingSeriesResponse result = bookingSeriesService.createSeries(userId, request);
+
+        // Assert
+        assertThat(result.getMaterializedUntil()).isEqualTo(today.plusDays(13));
+        ArgumentCaptor<BookingSeriesConflictPayload> conflict = ArgumentCaptor.forClass(BookingSeriesConflictPayload.class);
+        verify(bookingEventProducer, times(1)).sendSeriesConflicts(conflict.capture());
+        assertThat(conflict.getValue().getClosedDates()).containsExactly(today, today.plusWeeks(1));
+    }
+
+    @Test
+    @DisplayName("Should throw BusinessException when the start time is off the court's slot grid")
+    void testCreateSeriesOffSlotGrid() {
+        // Arrange
+        request.setStartTime(LocalTime.of(18, 30));
+        when(timeSlotRepository.existsByCourtId(courtId)).thenReturn(true);
+        when(timeSlotRepository.existsByCourtIdAndStartTime(courtId, LocalTime.of(18, 30))).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> bookingSeriesService.createSeries(userId, request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("slot start time");
+
+        verify(seriesRepository, never()).save(any(BookingSeries.class));
+    }
+
+    @Test
+    @DisplayName("Should throw BusinessException when end date is before start date")
+    void testCreateSeriesWithInvalidRange() {
+        // Arrange
+        request.setEndDate(today.minusDays(1));
+
+        // Act & Assert
+        assertThatThrownBy(() -> bookingSeriesService.createSeries(userId, request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("end date");
+
+        verify(seriesRepository, never()).save(any(BookingSeries.class));
+    }
+
+    @Test
+    @DisplayName("Should throw ForbiddenException when cancelling another user's series")
+    void testCancelSeriesOfAnotherUser() {
+        // Arrange
+        UUID seriesId = UUID.randomUUID();
+        BookingSeries series = new BookingSeries();
+        series.setId(seriesId);
+        series.setUserId(UUID.randomUUID());
+        series.setStatus(BookingSeriesStatus.ACTIVE);
+        when(seriesRepository.findById(seriesId)).thenReturn(Optional.of(series));
+
+        // Act & Assert
+        assertThatThrownBy(() -> bookingSeriesService.cancelSeries(seriesId, userId))
+                .isInstanceOf(ForbiddenException.class);
+
+        verify(seriesRepository, never()).save(any(BookingSeries.class));
+    }
+
+    private void mockSeriesSave() {
+        when(seriesRepository.save(any(BookingSeries.class))).thenAnswer(invocation -> {
+            BookingSeries series = invocation.getArgument(0);
+            series.setId(UUID.randomUUID());
+            return series;
+        });
+    }
+
+    private TimeSlot slot(LocalDate date, TimeSlotStatus status) {
+        TimeSlot slot = new TimeSlot();
+        slot.setId(UUID.randomUUID());
+        slot.setCourtId(courtId);
+        slot.setDate(date);
+        slot.setStartTime(startTime);
+        slot.setEndTime(startTime.plusHours(1));
+        slot.setStatus(status);
+        return slot;
+    }
+}
@@ -10,6 +10,7 @@ import com.courthub.booking.event.BookingEventProducer;
 import com.courthub.booking.repository.BookingRepository;
 import com.courthub.booking.repository.TimeSlotRepository;
 import com.courthub.common.dto.AvailabilitySlotResponse;
+import com.courthub.common.dto.analytics.BookingInternalPage;
 import com.courthub.common.dto.enums.TimeSlotStatus;
 import com.courthub.common.exception.BusinessException;
 import com.courthub.common.exception.NotFoundException;
@@ -20,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -30,6 +32,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -422,4 +425,39 @@ public class BookingServiceTest {
         assertThatThrownBy(() -> bookingService.cancelBooking(bookingId))
                 .isInstanceOf(NotFoundException.class);
     }
+
+    @Test
+    @DisplayName("Should return a keyset page of bookings with time slots loaded in one query")
+    void testGetBookingsForAnalyticsPage() {
+        // Arrange
+        Booking second = new Booking();
+        second.setId(UUID.randomUUID());
+        second.setTimeSlotId(timeSlotId);
+        second.setCourtId(courtId);
+        second.setUserId(userId);
+        second.setStatus(BookingStatus.CONFIRMED);
+        when(bookingRepository.findByIdGreaterThanOrderByIdAsc(eq(bookingId), any(Limit.class)))
+                .thenReturn(List.of(testBooking, second));
+        when(timeSlotRepository.findAllById(any())).thenReturn(List.of(testTimeSlot));
+
+        // Act
+        BookingInternalPage page = bookingService.getBookingsForAnalyticsPage(bookingId.toString(), 1);
+
+        // Assert
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.items().get(0).startTime()).isEqualTo(startTime);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(bookingId.toString());
+        verify(bookingRepository).findByIdGreaterThanOrderByIdAsc(bookingId, Limit.of(2));
+        verify(timeSlotRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid analytics page cursor")
+    void testGetBookingsForAnalyticsPageInvalidCursor() {
+        // Act & Assert
+        assertThatThrownBy(() -> bookingService.getBookingsForAnalyticsPage("not-a-cursor", 10))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
 }
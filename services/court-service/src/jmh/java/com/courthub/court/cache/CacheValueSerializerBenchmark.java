@@ -0,0 +1,94 @@
+package com.courthub.court.cache;
+
+import com.courthub.court.config.RedisConfig;
+import com.courthub.court.domain.CourtStatus;
+import com.courthub.court.domain.SportType;
+import com.courthub.court.domain.SurfaceType;
+import com.courthub.court.dto.CourtResponseDto;
+import com.courthub.court.dto.CourtScheduleResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round-trip cost of a cached court list under the compact versioned encoding and the typed JSON
+ * serializer it replaced. The encoded sizes are asserted in {@code VersionedCacheValueSerializerTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheValueSerializerBenchmark {
+
+    @Param({"1", "50"})
+    private int courts;
+
+    private final RedisSerializer<Object> compact = RedisConfig.compactValueSerializer();
+    private final RedisSerializer<Object> json = RedisConfig.jsonValueSerializer();
+
+    private List<CourtResponseDto> value;
+    private byte[] compactBytes;
+    private byte[] jsonBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        value = new ArrayList<>();
+        for (int i = 0; i < courts; i++) {
+            value.add(court());
+        }
+        compactBytes = compact.serialize(value);
+        jsonBytes = json.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] compactSerialize() {
+        return compact.serialize(value);
+    }
+
+    @Benchmark
+    public Object compactDeserialize() {
+        return compact.deserialize(compactBytes);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return json.serialize(value);
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        return json.deserialize(jsonBytes);
+    }
+
+    private static CourtResponseDto court() {
+        UUID courtId = UUID.randomUUID();
+        List<CourtScheduleResponseDto> schedules = new ArrayList<>();
+        for (int day = 1; day <= 7; day++) {
+            schedules.add(new CourtScheduleResponseDto(UUID.randomUUID(), courtId, day,
+                    LocalTime.of(8, 0), LocalTime.of(22, 0)));
+        }
+        return new CourtResponseDto(courtId, "Soccer Court A", "Building 1", SportType.SOCCER,
+                SurfaceType.SYNTHETIC, 10, CourtStatus.ACTIVE, Instant.now().truncatedTo(ChronoUnit.MILLIS),
+                null, schedules);
+    }
+}
@@ -0,0 +1,12 @@
+package com.courthub.court.cache;
+
+/**
+ * Broadcast over Redis pub/sub whenever a replica evicts from a two-level cache.
+ * A {@code null} key means the whole cache was cleared.
+ */
+public record CacheInvalidationMessage(
+        String origin,
+        String cacheName,
+        String key
+) {
+}
@@ -0,0 +1,43 @@
+package com.courthub.court.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final String instanceId;
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                      String channel, String instanceId) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.instanceId = instanceId;
+    }
+
+    public void publish(String cacheName, String key) {
+        try {
+            String payload = objectMapper.writeValueAsString(new CacheInvalidationMessage(instanceId, cacheName, key));
+            redisTemplate.convertAndSend(channel, payload);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize cache invalidation: cache={}, key={}", cacheName, key, e);
+        } catch (Exception e) {
+            // L1 entries on other replicas still expire through their own TTL
+            log.warn("Failed to publish cache invalidation: cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+}
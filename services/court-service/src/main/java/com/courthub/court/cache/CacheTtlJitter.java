@@ -0,0 +1,49 @@
+package com.courthub.court.cache;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Spreads cache lifetimes by a random fraction of their base value so entries
+ * written together (a warm-up, a burst of misses) do not all expire together.
+ */
+public final class CacheTtlJitter {
+
+    private CacheTtlJitter() {
+    }
+
+    /**
+     * Returns {@code base} scaled by a random factor in {@code [1 - ratio, 1 + ratio]}.
+     */
+    public static Duration apply(Duration base, double ratio) {
+        if (ratio <= 0 || base.isZero() || base.isNegative()) {
+            return base;
+        }
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-ratio, ratio);
+        return Duration.ofNanos((long) (base.toNanos() * factor));
+    }
+
+    /**
+     * Caffeine expiry that restarts a jittered lifetime on every write, like {@code expireAfterWrite}.
+     */
+    public static Expiry<Object, Object> expireAfterWrite(Duration base, double ratio) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Object key, Object value, long currentTime) {
+                return apply(base, ratio).toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+                return apply(base, ratio).toNanos();
+            }
+
+            @Override
+            public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.courthub.court.cache;
+
+import com.courthub.court.domain.Court;
+import com.courthub.court.domain.CourtStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Evicts only the {@code courts} entries a court change can affect: the court's own
+ * key plus the list keys whose filters could contain it. Evictions run after commit
+ * so a concurrent reader cannot re-cache the pre-commit state.
+ */
+@Slf4j
+@Component
+public class CourtCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    public CourtCacheEvictor(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public void evictCourt(Court court) {
+        evictCourt(court, court.getStatus());
+    }
+
+    /**
+     * Use when the status changed, so lists filtered by the previous status are evicted too.
+     */
+    public void evictCourt(Court court, CourtStatus previousStatus) {
+        Set<CourtStatus> statuses = EnumSet.of(court.getStatus());
+        if (previousStatus != null) {
+            statuses.add(previousStatus);
+        }
+
+        Set<String> keys = new LinkedHashSet<>();
+        if (court.getId() != null) {
+            keys.add(CourtCacheKeys.courtKey(court.getId()));
+        }
+        keys.addAll(CourtCacheKeys.listKeysContaining(court.getSportType(), court.getSurfaceType(), statuses));
+
+        runAfterCommit(() -> evictKeys(keys));
+    }
+
+    private void evictKeys(Set<String> keys) {
+        Cache cache = cacheManager.getCache(CourtCacheKeys.CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        keys.forEach(cache::evict);
+        log.debug("Evicted court cache keys: count={}, keys={}", keys.size(), keys);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
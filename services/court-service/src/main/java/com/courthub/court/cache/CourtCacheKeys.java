@@ -0,0 +1,50 @@
+package com.courthub.court.cache;
+
+import com.courthub.court.domain.CourtStatus;
+import com.courthub.court.domain.SportType;
+import com.courthub.court.domain.SurfaceType;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Key layout of the {@code courts} cache. List entries are keyed by their filter
+ * combination ({@code list-<sportType>-<surfaceType>-<status>}, with {@code null}
+ * for an absent filter), so the lists that can contain a given court are exactly
+ * the combinations where each filter is either unset or equal to the court's value.
+ */
+public final class CourtCacheKeys {
+
+    public static final String CACHE_NAME = "courts";
+
+    private CourtCacheKeys() {
+    }
+
+    public static String courtKey(UUID courtId) {
+        return courtId.toString();
+    }
+
+    public static String listKey(SportType sportType, SurfaceType surfaceType, CourtStatus status) {
+        return String.format("list-%s-%s-%s", sportType, surfaceType, status);
+    }
+
+    /**
+     * Every list key whose filter matches a court with the given attributes under any of {@code statuses}.
+     */
+    public static Set<String> listKeysContaining(SportType sportType, SurfaceType surfaceType,
+                                                 Collection<CourtStatus> statuses) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (SportType sport : Arrays.asList(null, sportType)) {
+            for (SurfaceType surface : Arrays.asList(null, surfaceType)) {
+                keys.add(listKey(sport, surface, null));
+                for (CourtStatus status : statuses) {
+                    keys.add(listKey(sport, surface, status));
+                }
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,136 @@
+package com.courthub.court.cache;
+
+import com.courthub.court.domain.CourtStatus;
+import com.courthub.court.domain.SportType;
+import com.courthub.court.domain.SurfaceType;
+import com.courthub.court.dto.CourtResponseDto;
+import com.courthub.court.service.CourtService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Preloads the {@code courts} cache once the application is ready, so the first wave of
+ * traffic after a deploy or a Redis flush does not fall through to Postgres all at once.
+ * <p>
+ * The full court list is loaded through {@link CourtService#listCourts} (two queries, or a cache
+ * hit when Redis survived the deploy); every filter combination and every ACTIVE court entry is
+ * then derived from it in memory and written with {@code putIfAbsent}, leaving fresher entries
+ * alone. The listener runs synchronously: Spring Boot only publishes
+ * {@code ReadinessState.ACCEPTING_TRAFFIC} after all {@link ApplicationReadyEvent} listeners
+ * return, so the readiness probe stays down until warm-up ends. Failures are logged and do not
+ * keep the service out of rotation.
+ */
+@Slf4j
+@Component
+public class CourtCacheWarmer {
+
+    private final CourtService courtService;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${courts.cache.warm-up.enabled:true}")
+    private boolean enabled;
+
+    public CourtCacheWarmer(CourtService courtService, CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.courtService = courtService;
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            log.info("Court cache warm-up disabled");
+            return;
+        }
+        Cache cache = cacheManager.getCache(CourtCacheKeys.CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int lists = 0;
+        int courts = 0;
+        String outcome = "success";
+        log.info("Starting court cache warm-up");
+        try {
+            // Cached by the call itself, whether loaded now or already present
+            List<CourtResponseDto> allCourts = courtService.listCourts(null, null, null);
+            lists++;
+
+            for (SportType sportType : withNull(SportType.values())) {
+                for (SurfaceType surfaceType : withNull(SurfaceType.values())) {
+                    for (CourtStatus status : withNull(CourtStatus.values())) {
+                        if (sportType == null && surfaceType == null && status == null) {
+                            continue;
+                        }
+                        if (cache.putIfAbsent(CourtCacheKeys.listKey(sportType, surfaceType, status),
+                                filter(allCourts, sportType, surfaceType, status)) == null) {
+                            lists++;
+                        }
+                    }
+                }
+            }
+
+            for (CourtResponseDto court : allCourts) {
+                if (court.getStatus() == CourtStatus.ACTIVE) {
+                    if (cache.putIfAbsent(CourtCacheKeys.courtKey(court.getId()), court) == null) {
+                        courts++;
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            log.warn("Court cache warm-up failed, continuing with a cold cache", e);
+        } finally {
+            sample.stop(Timer.builder("courts.cache.warmup.duration")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            entryCounter("list").increment(lists);
+            entryCounter("court").increment(courts);
+        }
+
+        long durationMs = System.currentTimeMillis() - start;
+        log.info("Court cache warm-up completed: lists={}, courts={}, outcome={}, durationMs={}",
+                lists, courts, outcome, durationMs);
+    }
+
+    private List<CourtResponseDto> filter(List<CourtResponseDto> courts, SportType sportType,
+                                          SurfaceType surfaceType, CourtStatus status) {
+        List<CourtResponseDto> matching = new ArrayList<>();
+        for (CourtResponseDto court : courts) {
+            if ((sportType == null || sportType == court.getSportType())
+                    && (surfaceType == null || surfaceType == court.getSurfaceType())
+                    && (status == null || status == court.getStatus())) {
+                matching.add(court);
+            }
+        }
+        return matching;
+    }
+
+    private static <E> List<E> withNull(E[] values) {
+        List<E> options = new ArrayList<>(values.length + 1);
+        options.add(null);
+        options.addAll(Arrays.asList(values));
+        return options;
+    }
+
+    private Counter entryCounter(String type) {
+        return Counter.builder("courts.cache.warmup.entries")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
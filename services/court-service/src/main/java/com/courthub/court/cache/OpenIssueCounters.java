@@ -0,0 +1,203 @@
+package com.courthub.court.cache;
+
+import com.courthub.court.domain.CourtIssue;
+import com.courthub.court.domain.IssueSeverity;
+import com.courthub.court.dto.OpenIssueCountsResponseDto;
+import com.courthub.court.repository.CourtIssueRepository;
+import com.courthub.court.repository.OpenIssueCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Open (non-CLOSED) issue counters per court and per severity, kept in one Redis hash so every
+ * replica reads the same numbers without a count query.
+ * <p>
+ * The hash is seeded from a single grouped query on the first read after it expires, and
+ * adjusted with {@code HINCRBY} after each issue create/close commit. Increments are skipped
+ * while the hash is absent, but always bump a version counter; a seed is only written if the
+ * version is still the one read before its query, otherwise the query is repeated, so a change
+ * committed while the seed was being computed is not lost. The TTL bounds any drift left by a
+ * crash between commit and increment, or by an increment that runs after a seed whose query
+ * already saw its commit.
+ */
+@Slf4j
+@Component
+public class OpenIssueCounters {
+
+    static final String KEY = "court-issues:open-counts";
+    static final String VERSION_KEY = "court-issues:open-counts:version";
+    static final String TOTAL_FIELD = "total";
+    static final String COURT_PREFIX = "court:";
+    static final String SEVERITY_PREFIX = "severity:";
+
+    private static final int SEED_ATTEMPTS = 3;
+
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "for i = 2, #ARGV do redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[1]) end " +
+            "return 1", Long.class);
+
+    // Returns -1 when an increment ran since the seed read the version
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return -1 end " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "for i = 3, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CourtIssueRepository issueRepository;
+
+    @Value("${courts.issues.open-counts-ttl:1h}")
+    private Duration ttl;
+
+    public OpenIssueCounters(StringRedisTemplate redisTemplate, CourtIssueRepository issueRepository) {
+        this.redisTemplate = redisTemplate;
+        this.issueRepository = issueRepository;
+    }
+
+    public void issueOpened(CourtIssue issue) {
+        runAfterCommit(() -> increment(issue, 1));
+    }
+
+    public void issueClosed(CourtIssue issue) {
+        runAfterCommit(() -> increment(issue, -1));
+    }
+
+    public OpenIssueCountsResponseDto getCounts() {
+        String version;
+        try {
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(KEY);
+            if (!fields.isEmpty()) {
+                return fromFields(fields);
+            }
+            version = currentVersion();
+        } catch (DataAccessException e) {
+            log.warn("Open issue counters unavailable, counting from database", e);
+            return fromRows(issueRepository.countOpenIssuesByCourtAndSeverity());
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            OpenIssueCountsResponseDto counts = fromRows(issueRepository.countOpenIssuesByCourtAndSeverity());
+            if (seed(version, counts) || attempt == SEED_ATTEMPTS) {
+                return counts;
+            }
+            log.debug("Open issue counters changed while seeding, recounting: attempt={}", attempt);
+            try {
+                version = currentVersion();
+            } catch (DataAccessException e) {
+                return counts;
+            }
+        }
+    }
+
+    private String currentVersion() {
+        String version = redisTemplate.opsForValue().get(VERSION_KEY);
+        return version != null ? version : "0";
+    }
+
+    private void increment(CourtIssue issue, long delta) {
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, List.of(KEY, VERSION_KEY), Long.toString(delta), TOTAL_FIELD,
+                    COURT_PREFIX + issue.getCourtId(), SEVERITY_PREFIX + issue.getSeverity());
+        } catch (DataAccessException e) {
+            // Dropping the hash makes the next read reseed it from the database
+            log.warn("Failed to update open issue counters: issueId={}, delta={}", issue.getId(), delta, e);
+            try {
+                redisTemplate.delete(KEY);
+            } catch (DataAccessException ignored) {
+                // Redis is down; the TTL takes care of the stale hash
+            }
+        }
+    }
+
+    /**
+     * @return false if an increment ran since {@code version} was read, so the counts may be stale
+     */
+    private boolean seed(String version, OpenIssueCountsResponseDto counts) {
+        List<String> args = new ArrayList<>();
+        args.add(version);
+        args.add(Long.toString(ttl.toMillis()));
+        args.add(TOTAL_FIELD);
+        args.add(Long.toString(counts.getTotal()));
+        counts.getByCourt().forEach((courtId, count) -> {
+            args.add(COURT_PREFIX + courtId);
+            args.add(Long.toString(count));
+        });
+        counts.getBySeverity().forEach((severity, count) -> {
+            args.add(SEVERITY_PREFIX + severity);
+            args.add(Long.toString(count));
+        });
+        try {
+            Long result = redisTemplate.execute(SEED_SCRIPT, List.of(KEY, VERSION_KEY), args.toArray());
+            if (result != null && result < 0) {
+                return false;
+            }
+            log.debug("Open issue counters seeded: total={}, courts={}", counts.getTotal(), counts.getByCourt().size());
+        } catch (DataAccessException e) {
+            log.warn("Failed to seed open issue counters", e);
+        }
+        return true;
+    }
+
+    private OpenIssueCountsResponseDto fromFields(Map<Object, Object> fields) {
+        long total = 0;
+        Map<UUID, Long> byCourt = new HashMap<>();
+        Map<IssueSeverity, Long> bySeverity = new EnumMap<>(IssueSeverity.class);
+        for (Map.Entry<Object, Object> entry : fields.entrySet()) {
+            String field = entry.getKey().toString();
+            long count = Long.parseLong(entry.getValue().toString());
+            if (TOTAL_FIELD.equals(field)) {
+                total = count;
+            } else if (count <= 0) {
+                continue;
+            } else if (field.startsWith(COURT_PREFIX)) {
+                byCourt.put(UUID.fromString(field.substring(COURT_PREFIX.length())), count);
+            } else if (field.startsWith(SEVERITY_PREFIX)) {
+                bySeverity.put(IssueSeverity.valueOf(field.substring(SEVERITY_PREFIX.length())), count);
+            }
+        }
+        return new OpenIssueCountsResponseDto(total, byCourt, bySeverity);
+    }
+
+    private OpenIssueCountsResponseDto fromRows(List<OpenIssueCount> rows) {
+        long total = 0;
+        Map<UUID, Long> byCourt = new HashMap<>();
+        Map<IssueSeverity, Long> bySeverity = new EnumMap<>(IssueSeverity.class);
+        for (OpenIssueCount row : rows) {
+            total += row.getOpenCount();
+            byCourt.merge(row.getCourtId(), row.getOpenCount(), Long::sum);
+            bySeverity.merge(row.getSeverity(), row.getOpenCount(), Long::sum);
+        }
+        return new OpenIssueCountsResponseDto(total, byCourt, bySeverity);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
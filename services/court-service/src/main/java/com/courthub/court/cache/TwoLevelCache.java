@@ -0,0 +1,318 @@
+package com.courthub.court.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Cache backed by a local Caffeine L1 in front of a shared L2 (Redis).
+ * Reads try L1 first and populate it from L2; evictions hit both tiers and are
+ * broadcast so other replicas drop their L1 copy. L1 values are shared instances,
+ * so callers must not mutate what they get back.
+ * <p>
+ * Loads through {@link #get(Object, Callable)} (i.e. {@code @Cacheable(sync = true)})
+ * are coalesced per key: concurrent misses wait for the one loader in flight. L1
+ * entries older than the soft TTL are still served while a single background
+ * refresh reloads them into both tiers (stale-while-revalidate).
+ * <p>
+ * An eviction supersedes the load or refresh in flight for its key: a loader may have read the
+ * database before the write that triggered the eviction committed, so its result is returned to
+ * the callers already waiting but not written to either tier.
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+    private final Cache remoteCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Duration refreshAfter;
+    private final double refreshJitter;
+    private final Executor refreshExecutor;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter loads;
+    private final Counter coalescedLoads;
+    private final Counter refreshes;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+                         Cache remoteCache,
+                         CacheInvalidationPublisher invalidationPublisher,
+                         MeterRegistry meterRegistry) {
+        this(name, localCache, remoteCache, invalidationPublisher, meterRegistry, Duration.ZERO, 0, Runnable::run);
+    }
+
+    /**
+     * @param refreshAfter soft TTL of L1 entries; {@link Duration#ZERO} disables stale-while-revalidate
+     */
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+                         Cache remoteCache,
+                         CacheInvalidationPublisher invalidationPublisher,
+                         MeterRegistry meterRegistry,
+                         Duration refreshAfter,
+                         double refreshJitter,
+                         Executor refreshExecutor) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.refreshAfter = refreshAfter;
+        this.refreshJitter = refreshJitter;
+        this.refreshExecutor = refreshExecutor;
+        this.l1Hits = tierCounter(meterRegistry, "l1", "hit");
+        this.l1Misses = tierCounter(meterRegistry, "l1", "miss");
+        this.l2Hits = tierCounter(meterRegistry, "l2", "hit");
+        this.l2Misses = tierCounter(meterRegistry, "l2", "miss");
+        this.loads = loadCounter(meterRegistry, "load");
+        this.coalescedLoads = loadCounter(meterRegistry, "coalesced");
+        this.refreshes = loadCounter(meterRegistry, "refresh");
+        meterRegistry.gauge("cache.tier.size",
+                Tags.of("cache", name, "tier", "l1"),
+                localCache, com.github.benmanes.caffeine.cache.Cache::estimatedSize);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        LocalEntry local = getLocal(key);
+        if (local != null) {
+            return new SimpleValueWrapper(local.value());
+        }
+        return getRemote(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        LocalEntry local = getLocal(key);
+        if (local != null) {
+            if (local.isStale(System.nanoTime())) {
+                refreshAsync(key, valueLoader);
+            }
+            return (T) local.value();
+        }
+        ValueWrapper remote = getRemote(key);
+        if (remote != null) {
+            return (T) remote.get();
+        }
+        return (T) load(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        if (value != null) {
+            putLocal(key, value);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        Object current = existing != null ? existing.get() : value;
+        if (current != null) {
+            putLocal(key, current);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        // Supersede the in-flight load first; a store it already made is removed just below
+        inFlight.remove(localKey(key));
+        remoteCache.evict(key);
+        localCache.invalidate(localKey(key));
+        invalidationPublisher.publish(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        inFlight.clear();
+        remoteCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.publish(name, null);
+    }
+
+    /**
+     * Drops L1 entries in response to an invalidation broadcast by another replica.
+     */
+    void evictLocal(String key) {
+        if (key == null) {
+            inFlight.clear();
+            localCache.invalidateAll();
+        } else {
+            inFlight.remove(key);
+            localCache.invalidate(key);
+        }
+    }
+
+    private LocalEntry getLocal(Object key) {
+        LocalEntry local = (LocalEntry) localCache.getIfPresent(localKey(key));
+        if (local != null) {
+            l1Hits.increment();
+        } else {
+            l1Misses.increment();
+        }
+        return local;
+    }
+
+    private ValueWrapper getRemote(Object key) {
+        ValueWrapper remote = remoteCache.get(key);
+        if (remote == null || remote.get() == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        putLocal(key, remote.get());
+        return remote;
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        String localKey = localKey(key);
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(localKey, loading);
+        if (existing != null) {
+            coalescedLoads.increment();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            }
+        }
+
+        loads.increment();
+        try {
+            Object value = valueLoader.call();
+            putIfCurrent(key, localKey, loading, value);
+            loading.complete(value);
+            return value;
+        } catch (Exception e) {
+            loading.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            inFlight.remove(localKey, loading);
+        }
+    }
+
+    private void refreshAsync(Object key, Callable<?> valueLoader) {
+        String localKey = localKey(key);
+        CompletableFuture<Object> refreshing = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(localKey, refreshing) != null) {
+            return;
+        }
+
+        refreshes.increment();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Object value = valueLoader.call();
+                    putIfCurrent(key, localKey, refreshing, value);
+                    refreshing.complete(value);
+                } catch (Exception e) {
+                    log.warn("Background cache refresh failed, serving stale value: cache={}, key={}", name, localKey, e);
+                    refreshing.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(localKey, refreshing);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Cache refresh rejected, serving stale value: cache={}, key={}", name, localKey);
+            inFlight.remove(localKey, refreshing);
+            refreshing.complete(null);
+        }
+    }
+
+    /**
+     * Stores a loaded value unless an eviction superseded its load. The store runs under the
+     * {@code inFlight} entry's lock, so {@link #evict} either removes the entry first (and the
+     * value is dropped) or waits for the store to finish before clearing both tiers.
+     */
+    private void putIfCurrent(Object key, String localKey, CompletableFuture<Object> load, Object value) {
+        if (value == null) {
+            return;
+        }
+        CompletableFuture<Object> current = inFlight.computeIfPresent(localKey, (k, future) -> {
+            if (future == load) {
+                put(key, value);
+            }
+            return future;
+        });
+        if (current != load) {
+            log.debug("Cache load superseded by an eviction, not storing: cache={}, key={}", name, localKey);
+        }
+    }
+
+    private void putLocal(Object key, Object value) {
+        long refreshAt = refreshAfter.isZero()
+                ? LocalEntry.NEVER
+                : System.nanoTime() + CacheTtlJitter.apply(refreshAfter, refreshJitter).toNanos();
+        localCache.put(localKey(key), new LocalEntry(value, refreshAt));
+    }
+
+    private String localKey(Object key) {
+        // Same string form the Redis tier uses, so remote invalidations can address L1 entries
+        return key.toString();
+    }
+
+    private Counter tierCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter loadCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("cache.loads")
+                .tag("cache", name)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private record LocalEntry(Object value, long refreshAtNanos) {
+
+        static final long NEVER = Long.MAX_VALUE;
+
+        boolean isStale(long nowNanos) {
+            return refreshAtNanos != NEVER && nowNanos - refreshAtNanos >= 0;
+        }
+    }
+}
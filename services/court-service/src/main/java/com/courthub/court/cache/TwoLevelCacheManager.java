@@ -0,0 +1,94 @@
+package com.courthub.court.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Wraps the Redis {@link CacheManager} so every cache it hands out gets a
+ * bounded Caffeine L1 in front of it, plus per-key load coalescing and
+ * stale-while-revalidate when a soft TTL is configured.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, DisposableBean {
+
+    private final CacheManager remoteCacheManager;
+    private final Caffeine<Object, Object> localCacheBuilder;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Duration refreshAfter;
+    private final double refreshJitter;
+    private final Executor refreshExecutor;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                Caffeine<Object, Object> localCacheBuilder,
+                                CacheInvalidationPublisher invalidationPublisher,
+                                MeterRegistry meterRegistry) {
+        this(remoteCacheManager, localCacheBuilder, invalidationPublisher, meterRegistry, Duration.ZERO, 0, Runnable::run);
+    }
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                Caffeine<Object, Object> localCacheBuilder,
+                                CacheInvalidationPublisher invalidationPublisher,
+                                MeterRegistry meterRegistry,
+                                Duration refreshAfter,
+                                double refreshJitter,
+                                Executor refreshExecutor) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localCacheBuilder = localCacheBuilder;
+        this.invalidationPublisher = invalidationPublisher;
+        this.meterRegistry = meterRegistry;
+        this.refreshAfter = refreshAfter;
+        this.refreshJitter = refreshJitter;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public void onInvalidation(CacheInvalidationMessage message) {
+        if (invalidationPublisher.getInstanceId().equals(message.origin())) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(message.cacheName());
+        if (cache != null) {
+            log.debug("Applying remote cache invalidation: cache={}, key={}", message.cacheName(), message.key());
+            cache.evictLocal(message.key());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            throw new IllegalStateException("No remote cache available for name: " + name);
+        }
+        return new TwoLevelCache(name, localCacheBuilder.build(), remote, invalidationPublisher, meterRegistry,
+                refreshAfter, refreshJitter, refreshExecutor);
+    }
+}
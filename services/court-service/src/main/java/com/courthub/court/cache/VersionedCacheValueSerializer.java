@@ -0,0 +1,144 @@
+package com.courthub.court.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compact cache value encoding: a three byte header (magic, format version, type tag)
+ * followed by a Smile (binary JSON) body written without embedded class names.
+ * <p>
+ * Only registered types can be stored; the tag in the header tells the reader which
+ * type to bind to. Entries written with another format version, or with a tag this
+ * instance does not know, are read as a cache miss instead of failing the request,
+ * so a rolling deploy never serves or chokes on values from the other build.
+ * Bump {@link #FORMAT_VERSION} whenever a cached DTO changes incompatibly.
+ */
+@Slf4j
+public class VersionedCacheValueSerializer implements RedisSerializer<Object> {
+
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final byte MAGIC = (byte) 0xC7;
+    private static final int HEADER_LENGTH = 3;
+
+    private final byte version;
+    private final ObjectMapper mapper;
+    private final List<Registration> registrations = new ArrayList<>();
+
+    public VersionedCacheValueSerializer() {
+        this(FORMAT_VERSION);
+    }
+
+    VersionedCacheValueSerializer(byte version) {
+        this.version = version;
+        this.mapper = SmileMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    public byte getVersion() {
+        return version;
+    }
+
+    public VersionedCacheValueSerializer register(Class<?> type) {
+        return register(type, mapper.constructType(type), false);
+    }
+
+    public VersionedCacheValueSerializer registerListOf(Class<?> elementType) {
+        return register(elementType, mapper.getTypeFactory().constructCollectionType(List.class, elementType), true);
+    }
+
+    private VersionedCacheValueSerializer register(Class<?> type, JavaType javaType, boolean list) {
+        if (registrations.size() >= Byte.MAX_VALUE) {
+            throw new IllegalStateException("Too many cache value types registered");
+        }
+        registrations.add(new Registration((byte) (registrations.size() + 1), type, javaType, list));
+        return this;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        Registration registration = registrationFor(value);
+        try {
+            byte[] body = mapper.writerFor(registration.javaType()).writeValueAsBytes(value);
+            byte[] bytes = new byte[HEADER_LENGTH + body.length];
+            bytes[0] = MAGIC;
+            bytes[1] = version;
+            bytes[2] = registration.tag();
+            System.arraycopy(body, 0, bytes, HEADER_LENGTH, body.length);
+            return bytes;
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value of type " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length < HEADER_LENGTH || bytes[0] != MAGIC || bytes[1] != version) {
+            log.debug("Skipping cache value with foreign format: length={}", bytes.length);
+            return null;
+        }
+        int index = bytes[2] - 1;
+        if (index < 0 || index >= registrations.size()) {
+            log.debug("Skipping cache value with unknown type tag: tag={}", bytes[2]);
+            return null;
+        }
+        try {
+            return mapper.readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, registrations.get(index).javaType());
+        } catch (IOException e) {
+            log.warn("Skipping unreadable cache value: tag={}", bytes[2], e);
+            return null;
+        }
+    }
+
+    private Registration registrationFor(Object value) {
+        for (Registration registration : registrations) {
+            if (registration.matches(value)) {
+                return registration;
+            }
+        }
+        throw new SerializationException("Cache value type is not registered: " + value.getClass().getName());
+    }
+
+    private record Registration(byte tag, Class<?> type, JavaType javaType, boolean list) {
+
+        boolean matches(Object value) {
+            if (!list) {
+                return type.isInstance(value);
+            }
+            if (!(value instanceof List<?> values)) {
+                return false;
+            }
+            return allInstances(values);
+        }
+
+        private boolean allInstances(Collection<?> values) {
+            for (Object element : values) {
+                if (!type.isInstance(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
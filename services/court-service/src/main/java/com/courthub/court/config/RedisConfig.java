@@ -1,39 +1,90 @@
 package com.courthub.court.config;
 
+import com.courthub.court.cache.CacheInvalidationMessage;
+import com.courthub.court.cache.CacheInvalidationPublisher;
+import com.courthub.court.cache.CacheTtlJitter;
+import com.courthub.court.cache.TwoLevelCacheManager;
+import com.courthub.court.cache.VersionedCacheValueSerializer;
+import com.courthub.court.dto.CourtResponseDto;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+@Slf4j
 @Configuration
 @EnableCaching
 public class RedisConfig {
 
-    @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.activateDefaultTyping(
-                LaissezFaireSubTypeValidator.instance,
-                ObjectMapper.DefaultTyping.NON_FINAL,
-                JsonTypeInfo.As.PROPERTY
-        );
+    @Value("${courts.cache.l1.maximum-size:1000}")
+    private long l1MaximumSize;
+
+    @Value("${courts.cache.l1.expire-after-write:5m}")
+    private Duration l1ExpireAfterWrite;
+
+    @Value("${courts.cache.l1.refresh-after:1m}")
+    private Duration l1RefreshAfter;
 
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+    @Value("${courts.cache.ttl:60m}")
+    private Duration ttl;
+
+    @Value("${courts.cache.ttl-jitter:0.1}")
+    private double ttlJitter;
+
+    @Value("${courts.cache.refresh-threads:2}")
+    private int refreshThreads;
+
+    @Value("${courts.cache.invalidation-channel:courts.cache.invalidation}")
+    private String invalidationChannel;
+
+    @Value("${courts.cache.value-format:compact}")
+    private String valueFormat;
+
+    @Bean
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+        RedisSerializer<Object> serializer;
+        String keyPrefix;
+        if ("json".equalsIgnoreCase(valueFormat)) {
+            serializer = jsonValueSerializer();
+            keyPrefix = "";
+        } else {
+            VersionedCacheValueSerializer compact = compactValueSerializer();
+            serializer = compact;
+            // Each format version gets its own keyspace so replicas of different builds never read each other's entries
+            keyPrefix = "c" + compact.getVersion() + "::";
+        }
+        log.info("Court cache value format: format={}, keyPrefix={}", valueFormat, keyPrefix);
 
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(60))
+                .entryTtl((key, value) -> CacheTtlJitter.apply(ttl, ttlJitter))
+                .computePrefixWith(cacheName -> cacheName + "::" + keyPrefix)
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
                 )
@@ -46,4 +97,70 @@ public class RedisConfig {
                 .cacheDefaults(config)
                 .build();
     }
+
+    public static VersionedCacheValueSerializer compactValueSerializer() {
+        return new VersionedCacheValueSerializer()
+                .register(CourtResponseDto.class)
+                .registerListOf(CourtResponseDto.class);
+    }
+
+    public static GenericJackson2JsonRedisSerializer jsonValueSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.activateDefaultTyping(
+                LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationPublisher(stringRedisTemplate, new ObjectMapper(),
+                invalidationChannel, UUID.randomUUID().toString());
+    }
+
+    @Bean
+    @Primary
+    public TwoLevelCacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                             CacheInvalidationPublisher cacheInvalidationPublisher,
+                                             MeterRegistry meterRegistry) {
+        Caffeine<Object, Object> localCacheBuilder = Caffeine.newBuilder()
+                .maximumSize(l1MaximumSize)
+                .expireAfter(CacheTtlJitter.expireAfterWrite(l1ExpireAfterWrite, ttlJitter));
+        return new TwoLevelCacheManager(redisCacheManager, localCacheBuilder, cacheInvalidationPublisher, meterRegistry,
+                l1RefreshAfter, ttlJitter, cacheRefreshExecutor());
+    }
+
+    // Not a bean: an Executor bean would replace Boot's applicationTaskExecutor. The cache manager shuts it down.
+    private ExecutorService cacheRefreshExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        // Bounded queue: when refreshes back up, callers keep getting the stale value instead of queueing more work
+        return new ThreadPoolExecutor(refreshThreads, refreshThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(100),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "court-cache-refresh-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           TwoLevelCacheManager cacheManager) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            try {
+                String body = new String(message.getBody(), StandardCharsets.UTF_8);
+                cacheManager.onInvalidation(objectMapper.readValue(body, CacheInvalidationMessage.class));
+            } catch (Exception e) {
+                log.warn("Ignoring malformed cache invalidation message", e);
+            }
+        }, new ChannelTopic(invalidationChannel));
+        return container;
+    }
 }
@@ -47,9 +47,13 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.POST, "/courts").hasAuthority("ADMIN")
                 .requestMatchers(HttpMethod.PATCH, "/courts/*/status").hasAuthority("ADMIN")
                 .requestMatchers(HttpMethod.POST, "/courts/*/schedule").hasAuthority("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/courts/*/exceptions").hasAuthority("ADMIN")
+                .requestMatchers(HttpMethod.DELETE, "/courts/*/exceptions/*").hasAuthority("ADMIN")
                 .requestMatchers(HttpMethod.POST, "/courts/*/issues").authenticated()
                 .requestMatchers(HttpMethod.GET, "/courts/issues/severity-levels").permitAll()
                 .requestMatchers(HttpMethod.GET, "/courts/issues").hasAuthority("ADMIN")
+                .requestMatchers(HttpMethod.GET, "/courts/issues/page").hasAuthority("ADMIN")
+                .requestMatchers(HttpMethod.GET, "/courts/issues/open-counts").hasAuthority("ADMIN")
                 .requestMatchers(HttpMethod.PATCH, "/courts/issues/*/status").hasAuthority("ADMIN")
                 .requestMatchers(HttpMethod.GET, "/courts/internal/**").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html", "/actuator/**", "/courts/hello").permitAll()
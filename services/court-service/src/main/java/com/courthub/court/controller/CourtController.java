@@ -1,13 +1,16 @@
 package com.courthub.court.controller;
 
+import com.courthub.common.dto.analytics.CourtIssueChangePage;
 import com.courthub.court.domain.CourtStatus;
 import com.courthub.court.domain.SportType;
 import com.courthub.court.domain.SurfaceType;
+import com.courthub.court.dto.CourtPageResponseDto;
 import com.courthub.court.dto.CourtRequestDto;
 import com.courthub.court.dto.CourtResponseDto;
 import com.courthub.court.dto.CourtScheduleRequestDto;
 import com.courthub.court.dto.CourtScheduleResponseDto;
 import com.courthub.court.dto.CourtStatusUpdateDto;
+import com.courthub.court.repository.CourtSortField;
 import com.courthub.court.service.CourtService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,10 +19,12 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -87,6 +92,28 @@ public class CourtController {
         return ResponseEntity.ok(courts);
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "List courts (paginated)",
+            description = "Keyset-paginated court listing. Pass the returned nextCursor to fetch the following page with the same filters and sort.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Court page returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size or cursor")
+    })
+    public ResponseEntity<CourtPageResponseDto> listCourtsPage(
+            @RequestParam(required = false) SportType sportType,
+            @RequestParam(required = false) SurfaceType surfaceType,
+            @RequestParam(required = false) CourtStatus status,
+            @RequestParam(defaultValue = "NAME") CourtSortField sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
+        log.info("List courts page request received: sportType={}, surfaceType={}, status={}, sort={}, direction={}, size={}",
+                sportType, surfaceType, status, sort, direction, size);
+        CourtPageResponseDto page = courtService.listCourtsPage(sportType, surfaceType, status, sort, direction, size, cursor);
+        log.info("Court page returned successfully: count={}, hasMore={}", page.getItems().size(), page.getNextCursor() != null);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get court", description = "Returns court details by ID")
     @ApiResponses(value = {
@@ -147,4 +174,21 @@ public class CourtController {
         log.info("All court issues returned (internal): count={}", issues.size());
         return ResponseEntity.ok(issues);
     }
+
+    @GetMapping("/internal/courts/issues/changes")
+    @Operation(summary = "Get court issue changes (internal)",
+            description = "Cursor-based change feed of court issues ordered by last update. Pass the returned nextCursor to resume; changedSince is used only without a cursor. Internal endpoint")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Court issue changes returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size or cursor")
+    })
+    public ResponseEntity<CourtIssueChangePage> getCourtIssueChanges(
+            @RequestParam(required = false) Instant changedSince,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "500") int size) {
+        log.info("Get court issue changes (internal) request received: changedSince={}, size={}", changedSince, size);
+        CourtIssueChangePage changes = courtService.getCourtIssueChanges(changedSince, cursor, size);
+        log.info("Court issue changes returned (internal): count={}, hasMore={}", changes.items().size(), changes.hasMore());
+        return ResponseEntity.ok(changes);
+    }
 }
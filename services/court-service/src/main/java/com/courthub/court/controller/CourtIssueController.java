@@ -2,9 +2,11 @@ package com.courthub.court.controller;
 
 import com.courthub.court.config.JwtAuthenticationToken;
 import com.courthub.court.domain.IssueSeverity;
+import com.courthub.court.dto.CourtIssuePageResponseDto;
 import com.courthub.court.dto.CourtIssueRequestDto;
 import com.courthub.court.dto.CourtIssueResponseDto;
 import com.courthub.court.dto.IssueStatusUpdateDto;
+import com.courthub.court.dto.OpenIssueCountsResponseDto;
 import com.courthub.court.service.CourtIssueService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -115,6 +117,40 @@ public class CourtIssueController {
     }
 
 
+    @GetMapping("/issues/page")
+    @Operation(summary = "List pending issues (paginated)",
+            description = "Keyset-paginated pending issues, newest first. Pass the returned nextCursor to fetch the following page. Admin only.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Pending issue page returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size or cursor"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only")
+    })
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<CourtIssuePageResponseDto> getPendingIssuesPage(
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
+        log.info("Get pending issues page request received: size={}", size);
+        CourtIssuePageResponseDto page = issueService.getPendingIssuesPage(size, cursor);
+        log.info("Pending issues page returned: count={}, hasMore={}", page.getItems().size(), page.getNextCursor() != null);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/issues/open-counts")
+    @Operation(summary = "Count open issues", description = "Open (non-closed) issue counts in total, per court and per severity. Admin only.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Open issue counts returned"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only")
+    })
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<OpenIssueCountsResponseDto> getOpenIssueCounts() {
+        log.info("Get open issue counts request received");
+        OpenIssueCountsResponseDto counts = issueService.getOpenIssueCounts();
+        log.info("Open issue counts returned: total={}", counts.getTotal());
+        return ResponseEntity.ok(counts);
+    }
+
     @PatchMapping("/issues/{issueId}/status")
     @Operation(summary = "Update issue status", description = "Update the status of an issue. Admin only.")
     @ApiResponses(value = {
@@ -0,0 +1,81 @@
+package com.courthub.court.controller;
+
+import com.courthub.court.dto.CourtScheduleExceptionRequestDto;
+import com.courthub.court.dto.CourtScheduleExceptionResponseDto;
+import com.courthub.court.service.CourtScheduleExceptionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/courts")
+@Tag(name = "Court Schedule Exceptions", description = "Holiday and maintenance closures on top of the weekly schedule. Changes are ADMIN-only.")
+public class CourtScheduleExceptionController {
+
+    private final CourtScheduleExceptionService exceptionService;
+
+    public CourtScheduleExceptionController(CourtScheduleExceptionService exceptionService) {
+        this.exceptionService = exceptionService;
+    }
+
+    @PostMapping("/{courtId}/exceptions")
+    @Operation(summary = "Create schedule exception",
+            description = "Closes a court for a date range, either all day or for a daily time window. Booking slots in the window are no longer offered.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Exception created"),
+            @ApiResponse(responseCode = "400", description = "Invalid data"),
+            @ApiResponse(responseCode = "404", description = "Court not found"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<CourtScheduleExceptionResponseDto> createException(
+            @PathVariable UUID courtId,
+            @Valid @RequestBody CourtScheduleExceptionRequestDto request) {
+        log.info("Create schedule exception request received: courtId={}, startDate={}, endDate={}",
+                courtId, request.getStartDate(), request.getEndDate());
+        CourtScheduleExceptionResponseDto exception = exceptionService.createException(courtId, request);
+        log.info("Schedule exception created successfully: courtId={}, exceptionId={}", courtId, exception.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(exception);
+    }
+
+    @GetMapping("/{courtId}/exceptions")
+    @Operation(summary = "List schedule exceptions", description = "Returns the court's current and upcoming closures.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exceptions returned"),
+            @ApiResponse(responseCode = "404", description = "Court not found")
+    })
+    public ResponseEntity<List<CourtScheduleExceptionResponseDto>> getExceptions(@PathVariable UUID courtId) {
+        log.info("Get schedule exceptions request received: courtId={}", courtId);
+        List<CourtScheduleExceptionResponseDto> exceptions = exceptionService.getUpcomingExceptions(courtId);
+        log.info("Schedule exceptions returned: courtId={}, count={}", courtId, exceptions.size());
+        return ResponseEntity.ok(exceptions);
+    }
+
+    @DeleteMapping("/{courtId}/exceptions/{exceptionId}")
+    @Operation(summary = "Delete schedule exception", description = "Reopens the window; booking slots are regenerated.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Exception deleted"),
+            @ApiResponse(responseCode = "404", description = "Court or exception not found"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<Void> deleteException(@PathVariable UUID courtId, @PathVariable UUID exceptionId) {
+        log.info("Delete schedule exception request received: courtId={}, exceptionId={}", courtId, exceptionId);
+        exceptionService.deleteException(courtId, exceptionId);
+        log.info("Schedule exception deleted successfully: courtId={}, exceptionId={}", courtId, exceptionId);
+        return ResponseEntity.noContent().build();
+    }
+}
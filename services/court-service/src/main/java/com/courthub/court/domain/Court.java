@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 
@@ -14,7 +15,11 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "courts")
+@Table(name = "courts", indexes = {
+        @Index(name = "idx_courts_status_sport_surface", columnList = "status,sport_type,surface_type"),
+        @Index(name = "idx_courts_name_id", columnList = "name,id"),
+        @Index(name = "idx_courts_created_at_id", columnList = "created_at,id")
+})
 public class Court {
 
     @Id
@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 
@@ -14,7 +15,8 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "court_issues")
+@Table(name = "court_issues",
+        indexes = {@Index(name = "idx_court_issues_updated_id", columnList = "updated_at,id")})
 public class CourtIssue {
 
     @Id
@@ -0,0 +1,33 @@
+package com.courthub.court.dto;
+
+import java.util.List;
+
+public class CourtIssuePageResponseDto {
+
+    private List<CourtIssueResponseDto> items;
+    private String nextCursor;
+
+    public CourtIssuePageResponseDto() {
+    }
+
+    public CourtIssuePageResponseDto(List<CourtIssueResponseDto> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<CourtIssueResponseDto> getItems() {
+        return items;
+    }
+
+    public void setItems(List<CourtIssueResponseDto> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,33 @@
+package com.courthub.court.dto;
+
+import java.util.List;
+
+public class CourtPageResponseDto {
+
+    private List<CourtResponseDto> items;
+    private String nextCursor;
+
+    public CourtPageResponseDto() {
+    }
+
+    public CourtPageResponseDto(List<CourtResponseDto> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<CourtResponseDto> getItems() {
+        return items;
+    }
+
+    public void setItems(List<CourtResponseDto> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,73 @@
+package com.courthub.court.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public class CourtScheduleExceptionRequestDto {
+
+    @NotNull
+    @Schema(description = "First closed day (inclusive)", example = "2025-12-24", type = "string", format = "date")
+    private LocalDate startDate;
+
+    @NotNull
+    @Schema(description = "Last closed day (inclusive)", example = "2025-12-26", type = "string", format = "date")
+    private LocalDate endDate;
+
+    @Schema(description = "Start of the daily closed window; omit with endTime for a full-day closure",
+            example = "14:00:00", type = "string", format = "time")
+    private LocalTime startTime;
+
+    @Schema(description = "End of the daily closed window; omit with startTime for a full-day closure",
+            example = "18:00:00", type = "string", format = "time")
+    private LocalTime endTime;
+
+    @NotBlank
+    @Size(max = 255)
+    @Schema(description = "Why the court is closed", example = "Christmas holidays")
+    private String reason;
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
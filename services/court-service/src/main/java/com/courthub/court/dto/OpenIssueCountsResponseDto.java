@@ -0,0 +1,46 @@
+package com.courthub.court.dto;
+
+import com.courthub.court.domain.IssueSeverity;
+
+import java.util.Map;
+import java.util.UUID;
+
+public class OpenIssueCountsResponseDto {
+
+    private long total;
+    private Map<UUID, Long> byCourt;
+    private Map<IssueSeverity, Long> bySeverity;
+
+    public OpenIssueCountsResponseDto() {
+    }
+
+    public OpenIssueCountsResponseDto(long total, Map<UUID, Long> byCourt, Map<IssueSeverity, Long> bySeverity) {
+        this.total = total;
+        this.byCourt = byCourt;
+        this.bySeverity = bySeverity;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<UUID, Long> getByCourt() {
+        return byCourt;
+    }
+
+    public void setByCourt(Map<UUID, Long> byCourt) {
+        this.byCourt = byCourt;
+    }
+
+    public Map<IssueSeverity, Long> getBySeverity() {
+        return bySeverity;
+    }
+
+    public void setBySeverity(Map<IssueSeverity, Long> bySeverity) {
+        this.bySeverity = bySeverity;
+    }
+}
@@ -1,7 +1,11 @@
 package com.courthub.court.event;
 
+import com.courthub.common.dto.CourtIssueEventPayload;
 import com.courthub.court.domain.Court;
+import com.courthub.court.domain.CourtIssue;
 import com.courthub.court.domain.CourtSchedule;
+import com.courthub.court.domain.CourtScheduleException;
+import com.courthub.court.domain.IssueStatus;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -9,6 +13,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @Component
 public class CourtEventProducer {
@@ -27,6 +35,18 @@ public class CourtEventProducer {
     @Value("${kafka.topics.court-schedule-updated:court.schedule.updated}")
     private String courtScheduleUpdatedTopic;
 
+    @Value("${kafka.topics.court-schedule-week:court.schedule.week}")
+    private String courtScheduleWeekTopic;
+
+    @Value("${kafka.topics.court-schedule-exception:court.schedule.exception}")
+    private String courtScheduleExceptionTopic;
+
+    @Value("${kafka.topics.court-issue-created:court.issue.created}")
+    private String courtIssueCreatedTopic;
+
+    @Value("${kafka.topics.court-issue-status-changed:court.issue.status.changed}")
+    private String courtIssueStatusChangedTopic;
+
     public CourtEventProducer(KafkaTemplate<String, Object> kafkaTemplate) {
         this.kafkaTemplate = kafkaTemplate;
     }
@@ -51,6 +71,57 @@ public class CourtEventProducer {
         publishAfterCommit(courtScheduleUpdatedTopic, mapScheduleEvent(court, schedule));
     }
 
+    /**
+     * Publishes one court.schedule.week event per court, carrying all of its day windows.
+     * All events go out from a single after-commit callback and the producer is flushed once.
+     */
+    public void sendCourtScheduleWeeks(Map<Court, List<CourtSchedule>> schedulesByCourt) {
+        List<CourtScheduleWeekEventPayload> payloads = schedulesByCourt.entrySet().stream()
+                .map(entry -> mapScheduleWeekEvent(entry.getKey(), entry.getValue()))
+                .toList();
+        if (payloads.isEmpty()) {
+            return;
+        }
+        log.info("Publishing court.schedule.week events: courts={}", payloads.size());
+        runAfterCommit(() -> {
+            // Keyed by court so every week event of a court lands on the same partition, in order
+            payloads.forEach(payload -> kafkaTemplate.send(courtScheduleWeekTopic, payload.getCourtId().toString(), payload));
+            kafkaTemplate.flush();
+        });
+    }
+
+    public void sendScheduleExceptionCreated(CourtScheduleException exception) {
+        log.info("Publishing court.schedule.exception event: courtId={}, exceptionId={}, action={}",
+                exception.getCourtId(), exception.getId(), CourtScheduleExceptionEventPayload.CREATED);
+        publishAfterCommit(courtScheduleExceptionTopic, exception.getCourtId().toString(),
+                mapScheduleExceptionEvent(exception, CourtScheduleExceptionEventPayload.CREATED));
+    }
+
+    /**
+     * Publishes the deletion together with the court's current week, so booking-service reopens the
+     * window and generates its missing slots from one message, in order with the court's other
+     * closure events.
+     */
+    public void sendScheduleExceptionDeleted(CourtScheduleException exception, List<CourtSchedule> schedules) {
+        log.info("Publishing court.schedule.exception event: courtId={}, exceptionId={}, action={}, days={}",
+                exception.getCourtId(), exception.getId(), CourtScheduleExceptionEventPayload.DELETED, schedules.size());
+        CourtScheduleExceptionEventPayload payload =
+                mapScheduleExceptionEvent(exception, CourtScheduleExceptionEventPayload.DELETED);
+        payload.setDays(mapDayWindows(schedules));
+        publishAfterCommit(courtScheduleExceptionTopic, exception.getCourtId().toString(), payload);
+    }
+
+    public void sendIssueCreated(CourtIssue issue) {
+        log.info("Publishing court.issue.created event: courtId={}, issueId={}", issue.getCourtId(), issue.getId());
+        publishAfterCommit(courtIssueCreatedTopic, issue.getCourtId().toString(), mapIssueEvent(issue, null));
+    }
+
+    public void sendIssueStatusChanged(CourtIssue issue, IssueStatus previousStatus) {
+        log.info("Publishing court.issue.status.changed event: courtId={}, issueId={}, status={}",
+                issue.getCourtId(), issue.getId(), issue.getStatus());
+        publishAfterCommit(courtIssueStatusChangedTopic, issue.getCourtId().toString(), mapIssueEvent(issue, previousStatus));
+    }
+
     private CourtEventPayload mapCourtEvent(Court court) {
         return new CourtEventPayload(
                 court.getId(),
@@ -77,16 +148,68 @@ public class CourtEventProducer {
         );
     }
 
+    private CourtScheduleWeekEventPayload mapScheduleWeekEvent(Court court, List<CourtSchedule> schedules) {
+        return new CourtScheduleWeekEventPayload(
+                court.getId(),
+                court.getSportType(),
+                court.getSurfaceType(),
+                court.getCapacity(),
+                court.getStatus(),
+                mapDayWindows(schedules)
+        );
+    }
+
+    private List<CourtScheduleWeekEventPayload.DayWindow> mapDayWindows(List<CourtSchedule> schedules) {
+        return schedules.stream()
+                .sorted(Comparator.comparingInt(CourtSchedule::getDayOfWeek))
+                .map(schedule -> new CourtScheduleWeekEventPayload.DayWindow(
+                        schedule.getDayOfWeek(), schedule.getOpenTime(), schedule.getCloseTime()))
+                .toList();
+    }
+
+    private CourtScheduleExceptionEventPayload mapScheduleExceptionEvent(CourtScheduleException exception, String action) {
+        return new CourtScheduleExceptionEventPayload(
+                exception.getId(),
+                exception.getCourtId(),
+                action,
+                exception.getStartDate(),
+                exception.getEndDate(),
+                exception.getStartTime(),
+                exception.getEndTime(),
+                exception.getReason()
+        );
+    }
+
+    private CourtIssueEventPayload mapIssueEvent(CourtIssue issue, IssueStatus previousStatus) {
+        return new CourtIssueEventPayload(
+                issue.getId(),
+                issue.getCourtId(),
+                issue.getSeverity().name(),
+                issue.getStatus().name(),
+                previousStatus != null ? previousStatus.name() : null,
+                issue.getCreatedAt(),
+                issue.getUpdatedAt()
+        );
+    }
+
     private void publishAfterCommit(String topic, Object payload) {
+        runAfterCommit(() -> kafkaTemplate.send(topic, payload));
+    }
+
+    private void publishAfterCommit(String topic, String key, Object payload) {
+        runAfterCommit(() -> kafkaTemplate.send(topic, key, payload));
+    }
+
+    private void runAfterCommit(Runnable action) {
         if (TransactionSynchronizationManager.isSynchronizationActive()) {
             TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
                 @Override
                 public void afterCommit() {
-                    kafkaTemplate.send(topic, payload);
+                    action.run();
                 }
             });
         } else {
-            kafkaTemplate.send(topic, payload);
+            action.run();
         }
     }
 }
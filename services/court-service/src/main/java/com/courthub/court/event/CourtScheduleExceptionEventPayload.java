@@ -0,0 +1,118 @@
+package com.courthub.court.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published on {@code court.schedule.exception}. {@code action} is {@code CREATED} or
+ * {@code DELETED}; window fields describe the exception in both cases. A deletion also carries the
+ * court's week in {@code days}, so the freed slots are regenerated from the same message.
+ */
+public class CourtScheduleExceptionEventPayload {
+
+    public static final String CREATED = "CREATED";
+    public static final String DELETED = "DELETED";
+
+    private UUID exceptionId;
+    private UUID courtId;
+    private String action;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private String reason;
+    private List<CourtScheduleWeekEventPayload.DayWindow> days;
+
+    public CourtScheduleExceptionEventPayload() {
+    }
+
+    public CourtScheduleExceptionEventPayload(UUID exceptionId, UUID courtId, String action, LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime, String reason) {
+        this.exceptionId = exceptionId;
+        this.courtId = courtId;
+        this.action = action;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.reason = reason;
+    }
+
+    public CourtScheduleExceptionEventPayload(UUID exceptionId, UUID courtId, String action, LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime, String reason, List<CourtScheduleWeekEventPayload.DayWindow> days) {
+        this(exceptionId, courtId, action, startDate, endDate, startTime, endTime, reason);
+        this.days = days;
+    }
+
+    public UUID getExceptionId() {
+        return exceptionId;
+    }
+
+    public void setExceptionId(UUID exceptionId) {
+        this.exceptionId = exceptionId;
+    }
+
+    public UUID getCourtId() {
+        return courtId;
+    }
+
+    public void setCourtId(UUID courtId) {
+        this.courtId = courtId;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public List<CourtScheduleWeekEventPayload.DayWindow> getDays() {
+        return days;
+    }
+
+    public void setDays(List<CourtScheduleWeekEventPayload.DayWindow> days) {
+        this.days = days;
+    }
+}
@@ -0,0 +1,124 @@
+package com.courthub.court.event;
+
+import com.courthub.court.domain.CourtStatus;
+import com.courthub.court.domain.SportType;
+import com.courthub.court.domain.SurfaceType;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * All day windows of one court in a single message, so consumers can regenerate
+ * the whole horizon in one pass instead of once per {@code court.schedule.updated}.
+ */
+public class CourtScheduleWeekEventPayload {
+
+    private UUID courtId;
+    private SportType sportType;
+    private SurfaceType surfaceType;
+    private int capacity;
+    private CourtStatus status;
+    private List<DayWindow> days;
+
+    public CourtScheduleWeekEventPayload() {
+    }
+
+    public CourtScheduleWeekEventPayload(UUID courtId, SportType sportType, SurfaceType surfaceType, int capacity,
+                                         CourtStatus status, List<DayWindow> days) {
+        this.courtId = courtId;
+        this.sportType = sportType;
+        this.surfaceType = surfaceType;
+        this.capacity = capacity;
+        this.status = status;
+        this.days = days;
+    }
+
+    public UUID getCourtId() {
+        return courtId;
+    }
+
+    public void setCourtId(UUID courtId) {
+        this.courtId = courtId;
+    }
+
+    public SportType getSportType() {
+        return sportType;
+    }
+
+    public void setSportType(SportType sportType) {
+        this.sportType = sportType;
+    }
+
+    public SurfaceType getSurfaceType() {
+        return surfaceType;
+    }
+
+    public void setSurfaceType(SurfaceType surfaceType) {
+        this.surfaceType = surfaceType;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public CourtStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(CourtStatus status) {
+        this.status = status;
+    }
+
+    public List<DayWindow> getDays() {
+        return days;
+    }
+
+    public void setDays(List<DayWindow> days) {
+        this.days = days;
+    }
+
+    public static class DayWindow {
+
+        private int dayOfWeek;
+        private LocalTime openTime;
+        private LocalTime closeTime;
+
+        public DayWindow() {
+        }
+
+        public DayWindow(int dayOfWeek, LocalTime openTime, LocalTime closeTime) {
+            this.dayOfWeek = dayOfWeek;
+            this.openTime = openTime;
+            this.closeTime = closeTime;
+        }
+
+        public int getDayOfWeek() {
+            return dayOfWeek;
+        }
+
+        public void setDayOfWeek(int dayOfWeek) {
+            this.dayOfWeek = dayOfWeek;
+        }
+
+        public LocalTime getOpenTime() {
+            return openTime;
+        }
+
+        public void setOpenTime(LocalTime openTime) {
+            this.openTime = openTime;
+        }
+
+        public LocalTime getCloseTime() {
+            return closeTime;
+        }
+
+        public void setCloseTime(LocalTime closeTime) {
+            this.closeTime = closeTime;
+        }
+    }
+}
@@ -2,11 +2,13 @@ package com.courthub.court.repository;
 
 import com.courthub.court.domain.CourtIssue;
 import com.courthub.court.domain.IssueStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,4 +32,33 @@ public interface CourtIssueRepository extends JpaRepository<CourtIssue, UUID> {
 
     @Query("SELECT COUNT(ci) FROM CourtIssue ci WHERE ci.status != :closedStatus")
     long countPendingIssues(@Param("closedStatus") IssueStatus closedStatus);
+
+    // The CLOSED literal (instead of a parameter) lets the planner match the partial index
+    // idx_court_issues_open_created, whose predicate is status <> 'CLOSED'
+    @Query("SELECT ci FROM CourtIssue ci WHERE ci.status <> com.courthub.court.domain.IssueStatus.CLOSED " +
+           "ORDER BY ci.createdAt DESC, ci.id DESC")
+    List<CourtIssue> findPendingPage(Limit limit);
+
+    @Query("SELECT ci FROM CourtIssue ci WHERE ci.status <> com.courthub.court.domain.IssueStatus.CLOSED " +
+           "AND (ci.createdAt < :createdAt OR (ci.createdAt = :createdAt AND ci.id < :id)) " +
+           "ORDER BY ci.createdAt DESC, ci.id DESC")
+    List<CourtIssue> findPendingPageAfter(
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+    @Query("SELECT ci.courtId AS courtId, ci.severity AS severity, COUNT(ci) AS openCount FROM CourtIssue ci " +
+           "WHERE ci.status <> com.courthub.court.domain.IssueStatus.CLOSED GROUP BY ci.courtId, ci.severity")
+    List<OpenIssueCount> countOpenIssuesByCourtAndSeverity();
+
+    @Query("SELECT ci FROM CourtIssue ci WHERE ci.updatedAt < :until " +
+           "AND (ci.updatedAt > :updatedAt OR (ci.updatedAt = :updatedAt AND ci.id > :id)) " +
+           "ORDER BY ci.updatedAt ASC, ci.id ASC")
+    List<CourtIssue> findChangedAfter(
+            @Param("updatedAt") Instant updatedAt,
+            @Param("id") UUID id,
+            @Param("until") Instant until,
+            Limit limit
+    );
 }
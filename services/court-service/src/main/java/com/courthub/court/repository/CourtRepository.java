@@ -5,20 +5,16 @@ import com.courthub.court.domain.CourtStatus;
 import com.courthub.court.domain.SportType;
 import com.courthub.court.domain.SurfaceType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface CourtRepository extends JpaRepository<Court, UUID> {
+public interface CourtRepository extends JpaRepository<Court, UUID>, JpaSpecificationExecutor<Court> {
 
-    @Query("""
-            SELECT c FROM Court c
-            WHERE (:sportType IS NULL OR c.sportType = :sportType)
-              AND (:surfaceType IS NULL OR c.surfaceType = :surfaceType)
-              AND (:status IS NULL OR c.status = :status)
-            """)
-    List<Court> findByFilters(SportType sportType, SurfaceType surfaceType, CourtStatus status);
+    default List<Court> findByFilters(SportType sportType, SurfaceType surfaceType, CourtStatus status) {
+        return findAll(CourtSpecifications.matching(sportType, surfaceType, status));
+    }
 }
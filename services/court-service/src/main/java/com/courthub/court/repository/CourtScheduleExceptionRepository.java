@@ -0,0 +1,18 @@
+package com.courthub.court.repository;
+
+import com.courthub.court.domain.CourtScheduleException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface CourtScheduleExceptionRepository extends JpaRepository<CourtScheduleException, UUID> {
+
+    List<CourtScheduleException> findByCourtIdAndEndDateGreaterThanEqualOrderByStartDate(UUID courtId, LocalDate from);
+
+    Optional<CourtScheduleException> findByIdAndCourtId(UUID id, UUID courtId);
+}
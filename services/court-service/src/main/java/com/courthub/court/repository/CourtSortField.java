@@ -0,0 +1,21 @@
+package com.courthub.court.repository;
+
+/**
+ * Sort keys supported by keyset pagination over courts. Each sort is made total by
+ * {@code id} as a tie-breaker, so a (value, id) cursor identifies a unique position.
+ */
+public enum CourtSortField {
+
+    NAME("name"),
+    CREATED_AT("createdAt");
+
+    private final String property;
+
+    CourtSortField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+}
@@ -0,0 +1,66 @@
+package com.courthub.court.repository;
+
+import com.courthub.court.domain.Court;
+import com.courthub.court.domain.CourtStatus;
+import com.courthub.court.domain.SportType;
+import com.courthub.court.domain.SurfaceType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Court query fragments. Only supplied filters become predicates, so Postgres sees plain
+ * equality conditions it can match against {@code idx_courts_status_sport_surface}
+ * instead of {@code (:x IS NULL OR c.x = :x)} branches that force a generic plan.
+ */
+public final class CourtSpecifications {
+
+    private CourtSpecifications() {
+    }
+
+    public static Specification<Court> matching(SportType sportType, SurfaceType surfaceType, CourtStatus status) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (sportType != null) {
+                predicates.add(cb.equal(root.get("sportType"), sportType));
+            }
+            if (surfaceType != null) {
+                predicates.add(cb.equal(root.get("surfaceType"), surfaceType));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Rows strictly after {@code (value, id)} in {@code (sortField, id)} order for the given direction.
+     */
+    public static <T extends Comparable<? super T>> Specification<Court> after(CourtSortField sortField,
+                                                                                 Sort.Direction direction,
+                                                                                 T value,
+                                                                                 UUID id) {
+        return (root, query, cb) -> {
+            Path<T> sortPath = root.get(sortField.getProperty());
+            Path<UUID> idPath = root.get("id");
+            if (direction.isAscending()) {
+                return cb.or(
+                        cb.greaterThan(sortPath, value),
+                        cb.and(cb.equal(sortPath, value), cb.greaterThan(idPath, id)));
+            }
+            return cb.or(
+                    cb.lessThan(sortPath, value),
+                    cb.and(cb.equal(sortPath, value), cb.lessThan(idPath, id)));
+        };
+    }
+
+    public static Sort sort(CourtSortField sortField, Sort.Direction direction) {
+        return Sort.by(direction, sortField.getProperty()).and(Sort.by(direction, "id"));
+    }
+}
@@ -0,0 +1,17 @@
+package com.courthub.court.repository;
+
+import com.courthub.court.domain.IssueSeverity;
+
+import java.util.UUID;
+
+/**
+ * Projection of {@link CourtIssueRepository#countOpenIssuesByCourtAndSeverity()}.
+ */
+public interface OpenIssueCount {
+
+    UUID getCourtId();
+
+    IssueSeverity getSeverity();
+
+    long getOpenCount();
+}
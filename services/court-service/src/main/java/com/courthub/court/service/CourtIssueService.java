@@ -2,20 +2,32 @@ package com.courthub.court.service;
 
 import com.courthub.common.exception.BusinessException;
 import com.courthub.common.exception.NotFoundException;
+import com.courthub.common.dto.analytics.CourtIssueChangePage;
+import com.courthub.common.dto.analytics.CourtIssueInternalDTO;
+import com.courthub.court.cache.OpenIssueCounters;
 import com.courthub.court.domain.CourtIssue;
 import com.courthub.court.domain.IssueStatus;
+import com.courthub.court.dto.CourtIssuePageResponseDto;
 import com.courthub.court.dto.CourtIssueRequestDto;
 import com.courthub.court.dto.CourtIssueResponseDto;
 import com.courthub.court.dto.IssueStatusUpdateDto;
+import com.courthub.court.dto.OpenIssueCountsResponseDto;
+import com.courthub.court.event.CourtEventProducer;
 import com.courthub.court.repository.CourtIssueRepository;
 import com.courthub.court.repository.CourtRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -26,10 +38,22 @@ public class CourtIssueService {
 
     private final CourtIssueRepository issueRepository;
     private final CourtRepository courtRepository;
+    private final OpenIssueCounters openIssueCounters;
+    private final CourtEventProducer eventProducer;
 
-    public CourtIssueService(CourtIssueRepository issueRepository, CourtRepository courtRepository) {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CHANGES_PAGE_SIZE = 1000;
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    @Value("${courts.issues.change-feed-lag:5s}")
+    private Duration changeFeedLag;
+
+    public CourtIssueService(CourtIssueRepository issueRepository, CourtRepository courtRepository,
+                             OpenIssueCounters openIssueCounters, CourtEventProducer eventProducer) {
         this.issueRepository = issueRepository;
         this.courtRepository = courtRepository;
+        this.openIssueCounters = openIssueCounters;
+        this.eventProducer = eventProducer;
     }
 
 
@@ -51,6 +75,8 @@ public class CourtIssueService {
         // Status will be set to REPORTED by @PrePersist
 
         CourtIssue savedIssue = issueRepository.save(issue);
+        openIssueCounters.issueOpened(savedIssue);
+        eventProducer.sendIssueCreated(savedIssue);
         log.info("Court issue created successfully: issueId={}", savedIssue.getId());
         return toResponseDto(savedIssue);
     }
@@ -75,6 +101,37 @@ public class CourtIssueService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Keyset-paginated pending issues, newest first. Fetches {@code size + 1} rows after the
+     * cursor through the partial index on open issues, with no OFFSET scan and no count query.
+     */
+    public CourtIssuePageResponseDto getPendingIssuesPage(int size, String cursor) {
+        log.debug("Fetching pending issues page: size={}", size);
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        List<CourtIssue> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = issueRepository.findPendingPage(Limit.of(size + 1));
+        } else {
+            IssueCursor after = decodeCursor(cursor);
+            rows = issueRepository.findPendingPageAfter(after.timestamp(), after.id(), Limit.of(size + 1));
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<CourtIssue> page = hasMore ? rows.subList(0, size) : rows;
+        CourtIssue last = page.isEmpty() ? null : page.get(page.size() - 1);
+        String nextCursor = hasMore ? encodeCursor(last.getCreatedAt(), last.getId()) : null;
+        return new CourtIssuePageResponseDto(page.stream().map(this::toResponseDto).collect(Collectors.toList()),
+                nextCursor);
+    }
+
+    public OpenIssueCountsResponseDto getOpenIssueCounts() {
+        log.debug("Fetching open issue counts");
+        return openIssueCounters.getCounts();
+    }
+
 
     public CourtIssueResponseDto getIssueById(UUID issueId) {
         log.debug("Fetching issue by id={}", issueId);
@@ -91,6 +148,7 @@ public class CourtIssueService {
                 .orElseThrow(() -> new NotFoundException("Issue not found with id: " + issueId));
 
         IssueStatus newStatus = statusUpdate.getStatus();
+        IssueStatus previousStatus = issue.getStatus();
 
         // Validate status transition
         validateStatusTransition(issue.getStatus(), newStatus);
@@ -99,6 +157,10 @@ public class CourtIssueService {
         issue.setUpdatedAt(Instant.now());
 
         CourtIssue updatedIssue = issueRepository.save(issue);
+        if (newStatus == IssueStatus.CLOSED) {
+            openIssueCounters.issueClosed(updatedIssue);
+        }
+        eventProducer.sendIssueStatusChanged(updatedIssue, previousStatus);
         log.info("Issue status updated successfully: issueId={}, status={}", issueId, updatedIssue.getStatus());
         return toResponseDto(updatedIssue);
     }
@@ -115,6 +177,25 @@ public class CourtIssueService {
     }
 
 
+    // Cursor format: base64url("<timestamp>|<id>"); createdAt for pending pages, updatedAt for the change feed
+    private String encodeCursor(Instant timestamp, UUID id) {
+        String raw = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private IssueCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new BusinessException("Invalid cursor");
+            }
+            return new IssueCursor(Instant.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException("Invalid cursor");
+        }
+    }
+
     private CourtIssueResponseDto toResponseDto(CourtIssue issue) {
         return new CourtIssueResponseDto(
                 issue.getId(),
@@ -129,24 +210,62 @@ public class CourtIssueService {
         );
     }
 
-    public List<com.courthub.common.dto.analytics.CourtIssueInternalDTO> getAllCourtIssuesForAnalytics() {
+    public List<CourtIssueInternalDTO> getAllCourtIssuesForAnalytics() {
         log.debug("Fetching court issues for analytics");
         return issueRepository.findAll().stream()
-            .map(issue -> new com.courthub.common.dto.analytics.CourtIssueInternalDTO(
-                issue.getId().toString(),
-                issue.getCourtId().toString(),
-                issue.getSeverity().toString(),
-                issue.getStatus().toString(),
-                toLocalDateTime(issue.getCreatedAt()),
-                toLocalDateTime(issue.getUpdatedAt())
-            ))
+            .map(this::toInternalDto)
             .collect(Collectors.toList());
     }
 
+    /**
+     * Change feed over issues in {@code (updatedAt, id)} order. Resumes after {@code cursor} when
+     * given, otherwise from {@code changedSince} (or the beginning). Rows updated within the
+     * configured lag are held back so a transaction that commits late with an earlier timestamp
+     * is not skipped by a consumer that already moved past it.
+     */
+    public CourtIssueChangePage getIssueChanges(Instant changedSince, String cursor, int size) {
+        log.debug("Fetching court issue changes: changedSince={}, size={}", changedSince, size);
+        if (size <= 0 || size > MAX_CHANGES_PAGE_SIZE) {
+            throw new BusinessException("Page size must be between 1 and " + MAX_CHANGES_PAGE_SIZE);
+        }
+
+        IssueCursor after;
+        if (cursor != null && !cursor.isBlank()) {
+            after = decodeCursor(cursor);
+        } else {
+            after = new IssueCursor(changedSince != null ? changedSince : Instant.EPOCH, MIN_ID);
+        }
+
+        List<CourtIssue> rows = issueRepository.findChangedAfter(after.timestamp(), after.id(),
+                Instant.now().minus(changeFeedLag), Limit.of(size + 1));
+        boolean hasMore = rows.size() > size;
+        List<CourtIssue> page = hasMore ? rows.subList(0, size) : rows;
+
+        IssueCursor last = page.isEmpty()
+                ? after
+                : new IssueCursor(page.get(page.size() - 1).getUpdatedAt(), page.get(page.size() - 1).getId());
+        return new CourtIssueChangePage(page.stream().map(this::toInternalDto).collect(Collectors.toList()),
+                encodeCursor(last.timestamp(), last.id()), hasMore);
+    }
+
+    private CourtIssueInternalDTO toInternalDto(CourtIssue issue) {
+        return new CourtIssueInternalDTO(
+            issue.getId().toString(),
+            issue.getCourtId().toString(),
+            issue.getSeverity().toString(),
+            issue.getStatus().toString(),
+            toLocalDateTime(issue.getCreatedAt()),
+            toLocalDateTime(issue.getUpdatedAt())
+        );
+    }
+
     private LocalDateTime toLocalDateTime(Instant instant) {
         if (instant == null) {
             return null;
         }
         return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
     }
+
+    private record IssueCursor(Instant timestamp, UUID id) {
+    }
 }
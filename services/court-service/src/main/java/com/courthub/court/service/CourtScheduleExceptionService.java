@@ -0,0 +1,132 @@
+package com.courthub.court.service;
+
+import com.courthub.common.exception.BusinessException;
+import com.courthub.common.exception.NotFoundException;
+import com.courthub.court.domain.Court;
+import com.courthub.court.domain.CourtSchedule;
+import com.courthub.court.domain.CourtScheduleException;
+import com.courthub.court.dto.CourtScheduleExceptionRequestDto;
+import com.courthub.court.dto.CourtScheduleExceptionResponseDto;
+import com.courthub.court.event.CourtEventProducer;
+import com.courthub.court.repository.CourtRepository;
+import com.courthub.court.repository.CourtScheduleExceptionRepository;
+import com.courthub.court.repository.CourtScheduleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class CourtScheduleExceptionService {
+
+    private static final int MAX_EXCEPTION_DAYS = 366;
+
+    private final CourtRepository courtRepository;
+    private final CourtScheduleRepository scheduleRepository;
+    private final CourtScheduleExceptionRepository exceptionRepository;
+    private final CourtEventProducer eventProducer;
+
+    public CourtScheduleExceptionService(CourtRepository courtRepository,
+                                         CourtScheduleRepository scheduleRepository,
+                                         CourtScheduleExceptionRepository exceptionRepository,
+                                         CourtEventProducer eventProducer) {
+        this.courtRepository = courtRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.exceptionRepository = exceptionRepository;
+        this.eventProducer = eventProducer;
+    }
+
+    @Transactional
+    public CourtScheduleExceptionResponseDto createException(UUID courtId, CourtScheduleExceptionRequestDto request) {
+        log.info("Creating schedule exception: courtId={}, startDate={}, endDate={}, startTime={}, endTime={}",
+                courtId, request.getStartDate(), request.getEndDate(), request.getStartTime(), request.getEndTime());
+        findCourtOrThrow(courtId);
+        validateException(request);
+
+        CourtScheduleException exception = new CourtScheduleException();
+        exception.setCourtId(courtId);
+        exception.setStartDate(request.getStartDate());
+        exception.setEndDate(request.getEndDate());
+        exception.setStartTime(request.getStartTime());
+        exception.setEndTime(request.getEndTime());
+        exception.setReason(request.getReason());
+
+        CourtScheduleException saved = exceptionRepository.save(exception);
+        eventProducer.sendScheduleExceptionCreated(saved);
+
+        log.info("Schedule exception created successfully: courtId={}, exceptionId={}", courtId, saved.getId());
+        return toResponse(saved);
+    }
+
+    public List<CourtScheduleExceptionResponseDto> getUpcomingExceptions(UUID courtId) {
+        log.debug("Fetching upcoming schedule exceptions: courtId={}", courtId);
+        findCourtOrThrow(courtId);
+        return exceptionRepository.findByCourtIdAndEndDateGreaterThanEqualOrderByStartDate(courtId, LocalDate.now())
+                .stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Removes the exception. The deletion event carries the court's week, so booking-service
+     * regenerates the slots it skipped while the window was closed without depending on the
+     * order of two topics.
+     */
+    @Transactional
+    public void deleteException(UUID courtId, UUID exceptionId) {
+        log.info("Deleting schedule exception: courtId={}, exceptionId={}", courtId, exceptionId);
+        findCourtOrThrow(courtId);
+        CourtScheduleException exception = exceptionRepository.findByIdAndCourtId(exceptionId, courtId)
+                .orElseThrow(() -> new NotFoundException("Schedule exception not found with id: " + exceptionId));
+
+        exceptionRepository.delete(exception);
+        List<CourtSchedule> schedules = scheduleRepository.findByCourtId(courtId);
+        eventProducer.sendScheduleExceptionDeleted(exception, schedules);
+
+        log.info("Schedule exception deleted successfully: courtId={}, exceptionId={}", courtId, exceptionId);
+    }
+
+    private void validateException(CourtScheduleExceptionRequestDto request) {
+        if (request.getStartDate() == null || request.getEndDate() == null) {
+            throw new BusinessException("Start and end date are required");
+        }
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new BusinessException("Exception end date must not be before its start date");
+        }
+        if (request.getEndDate().isBefore(LocalDate.now())) {
+            throw new BusinessException("Cannot create a schedule exception entirely in the past");
+        }
+        if (request.getStartDate().plusDays(MAX_EXCEPTION_DAYS).isBefore(request.getEndDate())) {
+            throw new BusinessException("Schedule exception cannot span more than " + MAX_EXCEPTION_DAYS + " days");
+        }
+        if ((request.getStartTime() == null) != (request.getEndTime() == null)) {
+            throw new BusinessException("Start and end time must be both set for a partial-day exception, or both omitted");
+        }
+        if (request.getStartTime() != null && !request.getStartTime().isBefore(request.getEndTime())) {
+            throw new BusinessException("Exception start time must be before its end time");
+        }
+    }
+
+    private Court findCourtOrThrow(UUID courtId) {
+        return courtRepository.findById(courtId)
+                .orElseThrow(() -> new NotFoundException("Court not found with id: " + courtId));
+    }
+
+    private CourtScheduleExceptionResponseDto toResponse(CourtScheduleException exception) {
+        return new CourtScheduleExceptionResponseDto(
+                exception.getId(),
+                exception.getCourtId(),
+                exception.getStartDate(),
+                exception.getEndDate(),
+                exception.getStartTime(),
+                exception.getEndTime(),
+                exception.getReason(),
+                exception.getCreatedAt()
+        );
+    }
+}
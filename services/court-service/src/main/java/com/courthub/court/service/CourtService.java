@@ -1,12 +1,16 @@
 package com.courthub.court.service;
 
+import com.courthub.common.dto.analytics.CourtIssueChangePage;
 import com.courthub.common.exception.BusinessException;
 import com.courthub.common.exception.NotFoundException;
+import com.courthub.court.cache.CourtCacheEvictor;
+import com.courthub.court.cache.CourtCacheKeys;
 import com.courthub.court.domain.Court;
 import com.courthub.court.domain.CourtSchedule;
 import com.courthub.court.domain.CourtStatus;
 import com.courthub.court.domain.SportType;
 import com.courthub.court.domain.SurfaceType;
+import com.courthub.court.dto.CourtPageResponseDto;
 import com.courthub.court.dto.CourtRequestDto;
 import com.courthub.court.dto.CourtResponseDto;
 import com.courthub.court.dto.CourtScheduleRequestDto;
@@ -15,13 +19,20 @@ import com.courthub.court.dto.CourtStatusUpdateDto;
 import com.courthub.court.event.CourtEventProducer;
 import com.courthub.court.repository.CourtRepository;
 import com.courthub.court.repository.CourtScheduleRepository;
+import com.courthub.court.repository.CourtSortField;
+import com.courthub.court.repository.CourtSpecifications;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -36,19 +47,23 @@ public class CourtService {
     private final CourtScheduleRepository scheduleRepository;
     private final CourtEventProducer eventProducer;
     private final CourtIssueService courtIssueService;
+    private final CourtCacheEvictor cacheEvictor;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     public CourtService(CourtRepository courtRepository,
                         CourtScheduleRepository scheduleRepository,
                         CourtEventProducer eventProducer,
-                        CourtIssueService courtIssueService) {
+                        CourtIssueService courtIssueService,
+                        CourtCacheEvictor cacheEvictor) {
         this.courtRepository = courtRepository;
         this.scheduleRepository = scheduleRepository;
         this.eventProducer = eventProducer;
         this.courtIssueService = courtIssueService;
+        this.cacheEvictor = cacheEvictor;
     }
 
     @Transactional
-    @CacheEvict(value = "courts", allEntries = true)
     public CourtResponseDto createCourt(CourtRequestDto request) {
         log.info("Creating court: name={}, sportType={}, surfaceType={}",
             request.getName(), request.getSportType(), request.getSurfaceType());
@@ -65,33 +80,51 @@ public class CourtService {
 
         Court savedCourt = courtRepository.save(court);
         eventProducer.sendCourtCreated(savedCourt);
+        cacheEvictor.evictCourt(savedCourt);
 
         log.info("Court created successfully: courtId={}", savedCourt.getId());
 
         return toCourtResponse(savedCourt, Collections.emptyList());
     }
 
-    @Cacheable(value = "courts", key = "T(String).format('list-%s-%s-%s', #sportType, #surfaceType, #status)")
+    @Cacheable(value = CourtCacheKeys.CACHE_NAME, sync = true,
+            key = "T(com.courthub.court.cache.CourtCacheKeys).listKey(#sportType, #surfaceType, #status)")
     public List<CourtResponseDto> listCourts(SportType sportType, SurfaceType surfaceType, CourtStatus status) {
         log.debug("Listing courts: sportType={}, surfaceType={}, status={}", sportType, surfaceType, status);
         List<Court> courts = courtRepository.findByFilters(sportType, surfaceType, status);
-        if (courts.isEmpty()) {
-            return Collections.emptyList();
+        return toCourtResponses(courts);
+    }
+
+    /**
+     * Keyset-paginated listing: fetches {@code size + 1} rows after the cursor position, so
+     * there is no OFFSET scan and no count query. Not cached; page boundaries move with writes.
+     */
+    public CourtPageResponseDto listCourtsPage(SportType sportType, SurfaceType surfaceType, CourtStatus status,
+                                               CourtSortField sortField, Sort.Direction direction,
+                                               int size, String cursor) {
+        log.debug("Listing courts page: sportType={}, surfaceType={}, status={}, sort={}, direction={}, size={}",
+                sportType, surfaceType, status, sortField, direction, size);
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException("Page size must be between 1 and " + MAX_PAGE_SIZE);
         }
 
-        List<UUID> courtIds = courts.stream()
-                .map(Court::getId)
-                .collect(Collectors.toList());
+        Specification<Court> spec = CourtSpecifications.matching(sportType, surfaceType, status);
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(afterCursor(cursor, sortField, direction));
+        }
 
-        Map<UUID, List<CourtSchedule>> schedules = scheduleRepository.findByCourtIdIn(courtIds).stream()
-                .collect(Collectors.groupingBy(CourtSchedule::getCourtId));
+        List<Court> rows = courtRepository.findBy(spec, query -> query
+                .sortBy(CourtSpecifications.sort(sortField, direction))
+                .limit(size + 1)
+                .all());
 
-        return courts.stream()
-                .map(court -> toCourtResponse(court, schedules.getOrDefault(court.getId(), Collections.emptyList())))
-                .collect(Collectors.toList());
+        boolean hasMore = rows.size() > size;
+        List<Court> page = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? encodeCursor(sortField, page.get(page.size() - 1)) : null;
+        return new CourtPageResponseDto(toCourtResponses(page), nextCursor);
     }
 
-    @Cacheable(value = "courts", key = "#id")
+    @Cacheable(value = CourtCacheKeys.CACHE_NAME, key = "#id", sync = true)
     public CourtResponseDto getCourt(UUID id) {
         log.debug("Fetching court: courtId={}", id);
         Court court = findCourtOrThrow(id);
@@ -100,7 +133,6 @@ public class CourtService {
     }
 
     @Transactional
-    @CacheEvict(value = "courts", allEntries = true)
     public CourtResponseDto updateStatus(UUID id, CourtStatusUpdateDto request) {
         log.info("Updating court status: courtId={}, status={}", id, request.getStatus());
         if (request.getStatus() == null) {
@@ -108,11 +140,13 @@ public class CourtService {
         }
 
         Court court = findCourtOrThrow(id);
+        CourtStatus previousStatus = court.getStatus();
         court.setStatus(request.getStatus());
 
         Court saved = courtRepository.save(court);
         eventProducer.sendCourtStatusChanged(saved);
         eventProducer.sendCourtUpdated(saved);
+        cacheEvictor.evictCourt(saved, previousStatus);
 
         log.info("Court status updated successfully: courtId={}, status={}", id, saved.getStatus());
 
@@ -121,7 +155,6 @@ public class CourtService {
     }
 
     @Transactional
-    @CacheEvict(value = "courts", allEntries = true)
     public CourtScheduleResponseDto upsertSchedule(UUID courtId, CourtScheduleRequestDto request) {
         log.info("Upserting schedule: courtId={}, dayOfWeek={}", courtId, request.getDayOfWeek());
         Court court = findCourtOrThrow(courtId);
@@ -138,12 +171,54 @@ public class CourtService {
         CourtSchedule saved = scheduleRepository.save(schedule);
         eventProducer.sendCourtScheduleUpdated(court, saved);
         eventProducer.sendCourtUpdated(court);
+        cacheEvictor.evictCourt(court);
 
         log.info("Court schedule saved successfully: courtId={}, scheduleId={}", courtId, saved.getId());
 
         return toScheduleResponse(saved);
     }
 
+    private List<CourtResponseDto> toCourtResponses(List<Court> courts) {
+        if (courts.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<UUID> courtIds = courts.stream()
+                .map(Court::getId)
+                .collect(Collectors.toList());
+
+        Map<UUID, List<CourtSchedule>> schedules = scheduleRepository.findByCourtIdIn(courtIds).stream()
+                .collect(Collectors.groupingBy(CourtSchedule::getCourtId));
+
+        return courts.stream()
+                .map(court -> toCourtResponse(court, schedules.getOrDefault(court.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
+    // Cursor format: base64url("<sortField>|<id>|<sortValue>"); the value goes last since names may contain '|'
+    private String encodeCursor(CourtSortField sortField, Court last) {
+        String value = sortField == CourtSortField.NAME ? last.getName() : last.getCreatedAt().toString();
+        String raw = sortField.name() + "|" + last.getId() + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Specification<Court> afterCursor(String cursor, CourtSortField sortField, Sort.Direction direction) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3 || !sortField.name().equals(parts[0])) {
+                throw new BusinessException("Cursor does not match the requested sort");
+            }
+            UUID id = UUID.fromString(parts[1]);
+            if (sortField == CourtSortField.NAME) {
+                return CourtSpecifications.after(sortField, direction, parts[2], id);
+            }
+            return CourtSpecifications.after(sortField, direction, Instant.parse(parts[2]), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException("Invalid cursor");
+        }
+    }
+
     private Court findCourtOrThrow(UUID id) {
         return courtRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Court", id));
@@ -197,4 +272,8 @@ public class CourtService {
         log.debug("Fetching court issues for analytics");
         return courtIssueService.getAllCourtIssuesForAnalytics();
     }
+
+    public CourtIssueChangePage getCourtIssueChanges(Instant changedSince, String cursor, int size) {
+        return courtIssueService.getIssueChanges(changedSince, cursor, size);
+    }
 }
@@ -6,6 +6,9 @@ import com.courthub.court.domain.CourtStatus;
 import com.courthub.court.event.CourtEventProducer;
 import com.courthub.court.repository.CourtRepository;
 import com.courthub.court.repository.CourtScheduleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -16,7 +19,11 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -25,105 +32,119 @@ public class WeeklySchedulerService {
     private final CourtRepository courtRepository;
     private final CourtScheduleRepository courtScheduleRepository;
     private final CourtEventProducer courtEventProducer;
+    private final MeterRegistry meterRegistry;
 
     private static final LocalTime DEFAULT_OPEN_TIME = LocalTime.of(8, 0);
     private static final LocalTime DEFAULT_CLOSE_TIME = LocalTime.of(20, 0);
 
     public WeeklySchedulerService(CourtRepository courtRepository,
                                    CourtScheduleRepository courtScheduleRepository,
-                                   CourtEventProducer courtEventProducer) {
+                                   CourtEventProducer courtEventProducer,
+                                   MeterRegistry meterRegistry) {
         this.courtRepository = courtRepository;
         this.courtScheduleRepository = courtScheduleRepository;
         this.courtEventProducer = courtEventProducer;
+        this.meterRegistry = meterRegistry;
     }
 
     @Scheduled(cron = "0 0 0 * * MON")
  //@Scheduled(cron = "0 37 3 * * *")
     @Transactional
     public void createWeeklySchedules() {
-        long start = System.currentTimeMillis();
         log.info("Starting weekly schedule creation job");
         try {
-            List<Court> activeCourts = courtRepository.findByFilters(null, null, CourtStatus.ACTIVE);
-
-            if (activeCourts.isEmpty()) {
-                log.info("No active courts found");
-                return;
-            }
-
-            log.info("Found {} active courts", activeCourts.size());
-
             LocalDate today = LocalDate.now();
             LocalDate nextMonday = today.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
-            LocalDate nextSunday = nextMonday.plusDays(6);
-            log.info("Creating schedules for the week of {} to {}", nextMonday, nextSunday);
+            log.info("Creating schedules for the week of {} to {}", nextMonday, nextMonday.plusDays(6));
 
-            int totalSchedulesCreated = 0;
-
-            for (Court court : activeCourts) {
-                List<CourtSchedule> newSchedules = createSchedulesForCourt(court, nextMonday, nextSunday);
-                totalSchedulesCreated += newSchedules.size();
-
-                for (CourtSchedule schedule : newSchedules) {
-                    courtEventProducer.sendCourtScheduleUpdated(court, schedule);
-                }
-            }
-            long durationMs = System.currentTimeMillis() - start;
-            log.info("Weekly schedule creation completed: created={}, durationMs={}", totalSchedulesCreated, durationMs);
+            int totalSchedulesCreated = createSchedules(nextMonday, "scheduled");
+            log.info("Weekly schedule creation completed: created={}", totalSchedulesCreated);
         } catch (Exception e) {
             log.error("Error during weekly schedule creation", e);
             throw e;
         }
     }
 
+    @Transactional
+    public void createSchedulesForSpecificWeek(LocalDate weekStart) {
+        log.info("Manually creating schedules for week starting on {}", weekStart);
+        int totalSchedulesCreated = createSchedules(weekStart, "manual");
+        log.info("Manual schedule creation completed: created={}", totalSchedulesCreated);
+    }
 
-    private List<CourtSchedule> createSchedulesForCourt(Court court, LocalDate weekStart, LocalDate weekEnd) {
-        List<CourtSchedule> createdSchedules = new ArrayList<>();
-        LocalDate currentDate = weekStart;
-
-        while (!currentDate.isAfter(weekEnd)) {
-            int dayOfWeek = currentDate.getDayOfWeek().getValue();
+    /**
+     * Set-based run: one query for the active courts, one for their existing schedules,
+     * one batched insert for the missing days, and one court.schedule.week event per
+     * court that gained days, published as a batch after commit.
+     */
+    private int createSchedules(LocalDate weekStart, String trigger) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int created = 0;
+        int courtCount = 0;
+        try {
+            List<Court> activeCourts = courtRepository.findByFilters(null, null, CourtStatus.ACTIVE);
+            courtCount = activeCourts.size();
+            if (activeCourts.isEmpty()) {
+                log.info("No active courts found");
+                return 0;
+            }
+            log.info("Found {} active courts", activeCourts.size());
 
-            if (!courtScheduleRepository.existsByCourtIdAndDayOfWeek(court.getId(), dayOfWeek)) {
-                CourtSchedule schedule = new CourtSchedule();
-                schedule.setCourtId(court.getId());
-                schedule.setDayOfWeek(dayOfWeek);
-                schedule.setOpenTime(DEFAULT_OPEN_TIME);
-                schedule.setCloseTime(DEFAULT_CLOSE_TIME);
+            Map<UUID, List<CourtSchedule>> existingByCourt = findExistingSchedules(activeCourts);
+            Map<Court, List<CourtSchedule>> weekByCourt = new LinkedHashMap<>();
+            List<CourtSchedule> newSchedules = new ArrayList<>();
+            LocalDate weekEnd = weekStart.plusDays(6);
 
-                CourtSchedule saved = courtScheduleRepository.save(schedule);
-                createdSchedules.add(saved);
+            for (Court court : activeCourts) {
+                List<CourtSchedule> existing = existingByCourt.getOrDefault(court.getId(), List.of());
+                List<CourtSchedule> missing = new ArrayList<>();
+                for (LocalDate date = weekStart; !date.isAfter(weekEnd); date = date.plusDays(1)) {
+                    int dayOfWeek = date.getDayOfWeek().getValue();
+                    if (existing.stream().anyMatch(schedule -> schedule.getDayOfWeek() == dayOfWeek)) {
+                        continue;
+                    }
+                    CourtSchedule schedule = new CourtSchedule();
+                    schedule.setCourtId(court.getId());
+                    schedule.setDayOfWeek(dayOfWeek);
+                    schedule.setOpenTime(DEFAULT_OPEN_TIME);
+                    schedule.setCloseTime(DEFAULT_CLOSE_TIME);
+                    missing.add(schedule);
+                }
+                if (!missing.isEmpty()) {
+                    newSchedules.addAll(missing);
+                    List<CourtSchedule> week = new ArrayList<>(existing);
+                    week.addAll(missing);
+                    weekByCourt.put(court, week);
+                }
+            }
 
-                log.debug("Created schedule for court {} on day {}", court.getId(), dayOfWeek);
-            } else {
-                log.debug("Schedule already exists for court {} on day {}", court.getId(), dayOfWeek);
+            if (newSchedules.isEmpty()) {
+                log.info("All active courts already have schedules for every day");
+                return 0;
             }
 
-            currentDate = currentDate.plusDays(1);
+            courtScheduleRepository.saveAll(newSchedules);
+            courtEventProducer.sendCourtScheduleWeeks(weekByCourt);
+            created = newSchedules.size();
+            return created;
+        } finally {
+            sample.stop(Timer.builder("court.schedules.weekly.duration")
+                    .tag("trigger", trigger)
+                    .register(meterRegistry));
+            runCounter("court.schedules.weekly.courts", trigger).increment(courtCount);
+            runCounter("court.schedules.weekly.created", trigger).increment(created);
         }
-
-        return createdSchedules;
     }
 
+    private Map<UUID, List<CourtSchedule>> findExistingSchedules(List<Court> courts) {
+        List<UUID> courtIds = courts.stream().map(Court::getId).toList();
+        return courtScheduleRepository.findByCourtIdIn(courtIds).stream()
+                .collect(Collectors.groupingBy(CourtSchedule::getCourtId));
+    }
 
-    @Transactional
-    public void createSchedulesForSpecificWeek(LocalDate weekStart) {
-        long start = System.currentTimeMillis();
-        log.info("Manually creating schedules for week starting on {}", weekStart);
-
-        List<Court> activeCourts = courtRepository.findByFilters(null, null, CourtStatus.ACTIVE);
-        LocalDate weekEnd = weekStart.plusDays(6);
-        int totalSchedulesCreated = 0;
-
-        for (Court court : activeCourts) {
-            List<CourtSchedule> newSchedules = createSchedulesForCourt(court, weekStart, weekEnd);
-            totalSchedulesCreated += newSchedules.size();
-
-            for (CourtSchedule schedule : newSchedules) {
-                courtEventProducer.sendCourtScheduleUpdated(court, schedule);
-            }
-        }
-        long durationMs = System.currentTimeMillis() - start;
-        log.info("Manual schedule creation completed: created={}, durationMs={}", totalSchedulesCreated, durationMs);
+    private Counter runCounter(String name, String trigger) {
+        return Counter.builder(name)
+                .tag("trigger", trigger)
+                .register(meterRegistry);
     }
 }
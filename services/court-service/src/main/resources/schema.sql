@@ -0,0 +1,11 @@
+-- Applied on every start after Hibernate's schema update; statements must be idempotent.
+
+-- Pending-issue pages (status <> 'CLOSED' ORDER BY created_at DESC, id DESC) only touch open rows
+CREATE INDEX IF NOT EXISTS idx_court_issues_open_created
+    ON court_issues (created_at DESC, id DESC)
+    WHERE status <> 'CLOSED';
+
+-- Seeds the open-issue counters (GROUP BY court_id, severity) from open rows only
+CREATE INDEX IF NOT EXISTS idx_court_issues_open_court_severity
+    ON court_issues (court_id, severity)
+    WHERE status <> 'CLOSED';
@@ -0,0 +1,63 @@
+package com.courthub.court.cache;
+
+import com.courthub.court.domain.Court;
+import com.courthub.court.domain.CourtStatus;
+import com.courthub.court.domain.SportType;
+import com.courthub.court.domain.SurfaceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CourtCacheEvictor Unit Tests")
+public class CourtCacheEvictorTest {
+
+    private Cache cache;
+    private CourtCacheEvictor cacheEvictor;
+    private Court court;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CourtCacheKeys.CACHE_NAME);
+        cache = cacheManager.getCache(CourtCacheKeys.CACHE_NAME);
+        cacheEvictor = new CourtCacheEvictor(cacheManager);
+
+        court = new Court();
+        court.setId(UUID.randomUUID());
+        court.setSportType(SportType.SOCCER);
+        court.setSurfaceType(SurfaceType.SYNTHETIC);
+        court.setStatus(CourtStatus.MAINTENANCE);
+    }
+
+    @Test
+    @DisplayName("Should evict only the court and the lists that can contain it")
+    void testEvictCourtIsSelective() {
+        // Arrange
+        UUID otherCourtId = UUID.randomUUID();
+        cache.put(court.getId().toString(), "court");
+        cache.put(otherCourtId.toString(), "other");
+        cache.put(CourtCacheKeys.listKey(null, null, null), "all");
+        cache.put(CourtCacheKeys.listKey(SportType.SOCCER, null, CourtStatus.ACTIVE), "active soccer");
+        cache.put(CourtCacheKeys.listKey(SportType.SOCCER, SurfaceType.SYNTHETIC, CourtStatus.MAINTENANCE), "maintenance");
+        cache.put(CourtCacheKeys.listKey(SportType.BASKETBALL, null, null), "basketball");
+        cache.put(CourtCacheKeys.listKey(null, null, CourtStatus.INACTIVE), "inactive");
+
+        // Act
+        cacheEvictor.evictCourt(court, CourtStatus.ACTIVE);
+
+        // Assert
+        assertThat(cache.get(court.getId().toString())).isNull();
+        assertThat(cache.get(CourtCacheKeys.listKey(null, null, null))).isNull();
+        assertThat(cache.get(CourtCacheKeys.listKey(SportType.SOCCER, null, CourtStatus.ACTIVE))).isNull();
+        assertThat(cache.get(CourtCacheKeys.listKey(SportType.SOCCER, SurfaceType.SYNTHETIC, CourtStatus.MAINTENANCE))).isNull();
+
+        assertThat(cache.get(otherCourtId.toString())).isNotNull();
+        assertThat(cache.get(CourtCacheKeys.listKey(SportType.BASKETBALL, null, null))).isNotNull();
+        assertThat(cache.get(CourtCacheKeys.listKey(null, null, CourtStatus.INACTIVE))).isNotNull();
+    }
+}
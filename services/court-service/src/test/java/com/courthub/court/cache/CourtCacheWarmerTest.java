@@ -0,0 +1,120 @@
+package com.courthub.court.cache;
+
+import com.courthub.court.domain.CourtStatus;
+import com.courthub.court.domain.SportType;
+import com.courthub.court.domain.SurfaceType;
+import com.courthub.court.dto.CourtResponseDto;
+import com.courthub.court.service.CourtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CourtCacheWarmer Unit Tests")
+public class CourtCacheWarmerTest {
+
+    @Mock
+    private CourtService courtService;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CourtCacheWarmer warmer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        warmer = new CourtCacheWarmer(courtService, cacheManager, meterRegistry);
+        ReflectionTestUtils.setField(warmer, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("Should derive every filter combination and ACTIVE court entry from one full load")
+    void testWarmUpPreloadsListsAndActiveCourts() {
+        // Arrange
+        CourtResponseDto active = court(SportType.SOCCER, SurfaceType.GRASS, CourtStatus.ACTIVE);
+        CourtResponseDto inactive = court(SportType.BASKETBALL, SurfaceType.WOOD, CourtStatus.INACTIVE);
+        when(cacheManager.getCache(CourtCacheKeys.CACHE_NAME)).thenReturn(cache);
+        when(courtService.listCourts(null, null, null)).thenReturn(List.of(active, inactive));
+
+        // Act
+        warmer.warmUp();
+
+        // Assert
+        verify(courtService, times(1)).listCourts(any(), any(), any());
+        verify(cache).putIfAbsent(CourtCacheKeys.listKey(SportType.SOCCER, null, CourtStatus.ACTIVE), List.of(active));
+        verify(cache).putIfAbsent(CourtCacheKeys.listKey(null, SurfaceType.WOOD, null), List.of(inactive));
+        verify(cache).putIfAbsent(CourtCacheKeys.listKey(SportType.VOLLEYBALL, null, null), List.of());
+        verify(cache).putIfAbsent(CourtCacheKeys.courtKey(active.getId()), active);
+        verify(cache, never()).putIfAbsent(CourtCacheKeys.courtKey(inactive.getId()), inactive);
+        // 4 x 5 x 4 filter combinations minus the loaded unfiltered list, plus one ACTIVE court
+        verify(cache, times(80)).putIfAbsent(anyString(), any());
+
+        assertThat(meterRegistry.get("courts.cache.warmup.entries").tag("type", "list").counter().count()).isEqualTo(80);
+        assertThat(meterRegistry.get("courts.cache.warmup.entries").tag("type", "court").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("courts.cache.warmup.duration").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count only entries the warm-up actually stored")
+    void testWarmUpCountsOnlyStoredEntries() {
+        // Arrange
+        CourtResponseDto active = court(SportType.SOCCER, SurfaceType.GRASS, CourtStatus.ACTIVE);
+        when(cacheManager.getCache(CourtCacheKeys.CACHE_NAME)).thenReturn(cache);
+        when(courtService.listCourts(null, null, null)).thenReturn(List.of(active));
+        // Another instance already stored one list and the court
+        Set<String> present = Set.of(CourtCacheKeys.listKey(SportType.SOCCER, null, null),
+                CourtCacheKeys.courtKey(active.getId()));
+        when(cache.putIfAbsent(anyString(), any())).thenAnswer(invocation ->
+                present.contains(invocation.<String>getArgument(0))
+                        ? new SimpleValueWrapper(invocation.getArgument(1)) : null);
+
+        // Act
+        warmer.warmUp();
+
+        // Assert
+        verify(cache, times(80)).putIfAbsent(anyString(), any());
+        assertThat(meterRegistry.get("courts.cache.warmup.entries").tag("type", "list").counter().count()).isEqualTo(79);
+        assertThat(meterRegistry.get("courts.cache.warmup.entries").tag("type", "court").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should record a failed warm-up without throwing")
+    void testWarmUpFailureIsContained() {
+        // Arrange
+        when(cacheManager.getCache(CourtCacheKeys.CACHE_NAME)).thenReturn(cache);
+        when(courtService.listCourts(null, null, null)).thenThrow(new IllegalStateException("database down"));
+
+        // Act & Assert
+        assertThatCode(() -> warmer.warmUp()).doesNotThrowAnyException();
+        verify(cache, never()).putIfAbsent(any(), any());
+        assertThat(meterRegistry.get("courts.cache.warmup.duration").tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    private CourtResponseDto court(SportType sportType, SurfaceType surfaceType, CourtStatus status) {
+        return new CourtResponseDto(UUID.randomUUID(), "Court", "Building 1", sportType, surfaceType, 10, status,
+                Instant.now(), null, List.of());
+    }
+}
@@ -0,0 +1,163 @@
+package com.courthub.court.cache;
+
+import com.courthub.court.domain.CourtIssue;
+import com.courthub.court.domain.IssueSeverity;
+import com.courthub.court.dto.OpenIssueCountsResponseDto;
+import com.courthub.court.repository.CourtIssueRepository;
+import com.courthub.court.repository.OpenIssueCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OpenIssueCounters Unit Tests")
+public class OpenIssueCountersTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private CourtIssueRepository issueRepository;
+
+    private OpenIssueCounters counters;
+    private UUID courtId;
+
+    @BeforeEach
+    void setUp() {
+        counters = new OpenIssueCounters(redisTemplate, issueRepository);
+        ReflectionTestUtils.setField(counters, "ttl", Duration.ofHours(1));
+        courtId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should serve counts from the Redis hash without querying the database")
+    void testCountsFromCache() {
+        // Arrange
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(OpenIssueCounters.KEY)).thenReturn(Map.of(
+                "total", "3",
+                "court:" + courtId, "3",
+                "court:" + UUID.randomUUID(), "0",
+                "severity:HIGH", "2",
+                "severity:LOW", "1"));
+
+        // Act
+        OpenIssueCountsResponseDto counts = counters.getCounts();
+
+        // Assert
+        assertThat(counts.getTotal()).isEqualTo(3);
+        assertThat(counts.getByCourt()).containsExactly(Map.entry(courtId, 3L));
+        assertThat(counts.getBySeverity()).containsEntry(IssueSeverity.HIGH, 2L).containsEntry(IssueSeverity.LOW, 1L);
+        verifyNoInteractions(issueRepository);
+    }
+
+    @Test
+    @DisplayName("Should seed the hash from one grouped query when it is missing")
+    @SuppressWarnings("unchecked")
+    void testSeedsFromDatabase() {
+        // Arrange
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(OpenIssueCounters.KEY)).thenReturn(Map.of());
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(OpenIssueCounters.VERSION_KEY)).thenReturn("7");
+        when(issueRepository.countOpenIssuesByCourtAndSeverity()).thenReturn(List.of(
+                row(courtId, IssueSeverity.HIGH, 2), row(courtId, IssueSeverity.LOW, 1)));
+
+        // Act
+        OpenIssueCountsResponseDto counts = counters.getCounts();
+
+        // Assert
+        assertThat(counts.getTotal()).isEqualTo(3);
+        assertThat(counts.getByCourt()).containsEntry(courtId, 3L);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class),
+                eq(List.of(OpenIssueCounters.KEY, OpenIssueCounters.VERSION_KEY)),
+                eq("7"), eq("3600000"), eq("total"), eq("3"), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should recount when an issue changed while the seed was being computed")
+    @SuppressWarnings("unchecked")
+    void testSeedConflictRecounts() {
+        // Arrange
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(OpenIssueCounters.KEY)).thenReturn(Map.of());
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(OpenIssueCounters.VERSION_KEY)).thenReturn("7", "8");
+        when(issueRepository.countOpenIssuesByCourtAndSeverity())
+                .thenReturn(List.of(row(courtId, IssueSeverity.HIGH, 2)))
+                .thenReturn(List.of(row(courtId, IssueSeverity.HIGH, 3)));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(-1L, 1L);
+
+        // Act
+        OpenIssueCountsResponseDto counts = counters.getCounts();
+
+        // Assert
+        assertThat(counts.getTotal()).isEqualTo(3);
+        verify(issueRepository, times(2)).countOpenIssuesByCourtAndSeverity();
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(),
+                eq("8"), eq("3600000"), eq("total"), eq("3"), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should increment total, court and severity fields for a new issue")
+    @SuppressWarnings("unchecked")
+    void testIssueOpenedIncrements() {
+        // Arrange
+        CourtIssue issue = new CourtIssue();
+        issue.setId(UUID.randomUUID());
+        issue.setCourtId(courtId);
+        issue.setSeverity(IssueSeverity.CRITICAL);
+
+        // Act
+        counters.issueOpened(issue);
+
+        // Assert
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(),
+                eq("1"), eq("total"), eq("court:" + courtId), eq("severity:CRITICAL"));
+    }
+
+    private OpenIssueCount row(UUID courtId, IssueSeverity severity, long openCount) {
+        return new OpenIssueCount() {
+            @Override
+            public UUID getCourtId() {
+                return courtId;
+            }
+
+            @Override
+            public IssueSeverity getSeverity() {
+                return severity;
+            }
+
+            @Override
+            public long getOpenCount() {
+                return openCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,197 @@
+package com.courthub.court.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoLevelCache Unit Tests")
+public class TwoLevelCacheTest {
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private MeterRegistry meterRegistry;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager("courts");
+        meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new TwoLevelCacheManager(remoteCacheManager, Caffeine.newBuilder().maximumSize(100),
+                invalidationPublisher, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from L1 after the first L2 hit")
+    void testReadThroughPopulatesL1() {
+        // Arrange
+        UUID key = UUID.randomUUID();
+        remoteCacheManager.getCache("courts").put(key, "court");
+        Cache cache = cacheManager.getCache("courts");
+
+        // Act
+        Object first = cache.get(key).get();
+        Object second = cache.get(key).get();
+
+        // Assert
+        assertThat(first).isEqualTo("court");
+        assertThat(second).isEqualTo("court");
+        assertThat(count("l2", "hit")).isEqualTo(1.0);
+        assertThat(count("l1", "hit")).isEqualTo(1.0);
+        assertThat(count("l1", "miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should evict both tiers and broadcast the eviction")
+    void testEvictBroadcasts() {
+        // Arrange
+        UUID key = UUID.randomUUID();
+        Cache cache = cacheManager.getCache("courts");
+        cache.put(key, "court");
+
+        // Act
+        cache.evict(key);
+
+        // Assert
+        assertThat(cache.get(key)).isNull();
+        assertThat(((ConcurrentMapCache) remoteCacheManager.getCache("courts")).getNativeCache()).isEmpty();
+        verify(invalidationPublisher, times(1)).publish("courts", key.toString());
+    }
+
+    @Test
+    @DisplayName("Should drop L1 entries on invalidations from other replicas only")
+    void testRemoteInvalidation() {
+        // Arrange
+        when(invalidationPublisher.getInstanceId()).thenReturn("local");
+        Cache cache = cacheManager.getCache("courts");
+        cache.put("list-null-null-null", "courts");
+        remoteCacheManager.getCache("courts").clear();
+
+        // Act & Assert
+        cacheManager.onInvalidation(new CacheInvalidationMessage("local", "courts", null));
+        assertThat(cache.get("list-null-null-null")).isNotNull();
+
+        cacheManager.onInvalidation(new CacheInvalidationMessage("other", "courts", null));
+        assertThat(cache.get("list-null-null-null")).isNull();
+        verify(invalidationPublisher, never()).publish(eq("courts"), isNull());
+    }
+
+    @Test
+    @DisplayName("Should run a single loader for concurrent misses on the same key")
+    void testConcurrentMissesAreCoalesced() throws Exception {
+        // Arrange
+        Cache cache = cacheManager.getCache("courts");
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<Object> first = executor.submit(() -> cache.get("list-null-null-null", () -> {
+                loaderCalls.incrementAndGet();
+                loaderStarted.countDown();
+                releaseLoader.await(5, TimeUnit.SECONDS);
+                return "courts";
+            }));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Object> second = executor.submit(() -> cache.get("list-null-null-null", () -> {
+                loaderCalls.incrementAndGet();
+                return "other";
+            }));
+            while (meterRegistry.get("cache.loads").tag("type", "coalesced").counter().count() < 1) {
+                Thread.sleep(5);
+            }
+            releaseLoader.countDown();
+
+            // Assert
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("courts");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("courts");
+            assertThat(loaderCalls.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not store the result of a load that an eviction superseded")
+    void testEvictionSupersedesInFlightLoad() throws Exception {
+        // Arrange
+        Cache cache = cacheManager.getCache("courts");
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // Act
+            Future<Object> load = executor.submit(() -> cache.get("list-null-null-null", () -> {
+                loaderStarted.countDown();
+                releaseLoader.await(5, TimeUnit.SECONDS);
+                return "stale";
+            }));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            cache.evict("list-null-null-null");
+            releaseLoader.countDown();
+
+            // Assert
+            assertThat(load.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+            assertThat(cache.get("list-null-null-null")).isNull();
+            assertThat(remoteCacheManager.getCache("courts").get("list-null-null-null")).isNull();
+            assertThat(cache.get("list-null-null-null", () -> "fresh")).isEqualTo("fresh");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve the stale value while refreshing past the soft TTL")
+    void testStaleWhileRevalidate() {
+        // Arrange
+        TwoLevelCacheManager refreshingManager = new TwoLevelCacheManager(remoteCacheManager,
+                Caffeine.newBuilder().maximumSize(100), invalidationPublisher, meterRegistry,
+                Duration.ofNanos(1), 0, Runnable::run);
+        Cache cache = refreshingManager.getCache("courts");
+        cache.get("list-null-null-null", () -> "v1");
+
+        // Act
+        Object served = cache.get("list-null-null-null", () -> "v2");
+
+        // Assert
+        assertThat(served).isEqualTo("v1");
+        assertThat(cache.get("list-null-null-null").get()).isEqualTo("v2");
+        assertThat(remoteCacheManager.getCache("courts").get("list-null-null-null").get()).isEqualTo("v2");
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("cache.tier.gets")
+                .tag("cache", "courts")
+                .tag("tier", tier)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,99 @@
+package com.courthub.court.cache;
+
+import com.courthub.court.config.RedisConfig;
+import com.courthub.court.domain.CourtStatus;
+import com.courthub.court.domain.SportType;
+import com.courthub.court.domain.SurfaceType;
+import com.courthub.court.dto.CourtResponseDto;
+import com.courthub.court.dto.CourtScheduleResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("VersionedCacheValueSerializer Unit Tests")
+public class VersionedCacheValueSerializerTest {
+
+    private final VersionedCacheValueSerializer serializer = RedisConfig.compactValueSerializer();
+
+    @Test
+    @DisplayName("Should round-trip single courts and court lists")
+    void testRoundTrip() {
+        // Arrange
+        CourtResponseDto court = court();
+        List<CourtResponseDto> courts = List.of(court, court());
+
+        // Act
+        Object single = serializer.deserialize(serializer.serialize(court));
+        Object list = serializer.deserialize(serializer.serialize(courts));
+
+        // Assert
+        assertThat(single).isInstanceOf(CourtResponseDto.class);
+        assertThat(single).usingRecursiveComparison().isEqualTo(court);
+        assertThat((List<?>) list).hasSize(2);
+        assertThat(list).usingRecursiveComparison().isEqualTo(courts);
+    }
+
+    @Test
+    @DisplayName("Should treat values from another format version or encoder as a miss")
+    void testForeignValuesAreMisses() {
+        // Arrange
+        VersionedCacheValueSerializer nextVersion = new VersionedCacheValueSerializer((byte) (serializer.getVersion() + 1))
+                .register(CourtResponseDto.class)
+                .registerListOf(CourtResponseDto.class);
+        byte[] written = nextVersion.serialize(court());
+        byte[] legacyJson = RedisConfig.jsonValueSerializer().serialize(court());
+
+        // Act & Assert
+        assertThat(serializer.deserialize(written)).isNull();
+        assertThat(serializer.deserialize(legacyJson)).isNull();
+        assertThat(nextVersion.deserialize(written)).isInstanceOf(CourtResponseDto.class);
+    }
+
+    @Test
+    @DisplayName("Should reject values of unregistered types")
+    void testUnregisteredType() {
+        assertThatThrownBy(() -> serializer.serialize("not a court"))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("Should encode a court list in fewer bytes than the typed JSON serializer")
+    void testCompactComparedToJson() {
+        // Arrange
+        RedisSerializer<Object> json = RedisConfig.jsonValueSerializer();
+        List<CourtResponseDto> courts = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            courts.add(court());
+        }
+
+        // Act
+        byte[] compactBytes = serializer.serialize(courts);
+        byte[] jsonBytes = json.serialize(courts);
+
+        // Assert
+        assertThat(compactBytes.length).isLessThan(jsonBytes.length / 2);
+        assertThat(serializer.deserialize(compactBytes)).usingRecursiveComparison().isEqualTo(courts);
+    }
+
+    private CourtResponseDto court() {
+        UUID courtId = UUID.randomUUID();
+        List<CourtScheduleResponseDto> schedules = new ArrayList<>();
+        for (int day = 1; day <= 7; day++) {
+            schedules.add(new CourtScheduleResponseDto(UUID.randomUUID(), courtId, day,
+                    LocalTime.of(8, 0), LocalTime.of(22, 0)));
+        }
+        return new CourtResponseDto(courtId, "Soccer Court A", "Building 1", SportType.SOCCER,
+                SurfaceType.SYNTHETIC, 10, CourtStatus.ACTIVE, Instant.now().truncatedTo(ChronoUnit.MILLIS),
+                null, schedules);
+    }
+}
@@ -1,13 +1,17 @@
 package com.courthub.court.service;
 
+import com.courthub.common.dto.analytics.CourtIssueChangePage;
 import com.courthub.common.exception.BusinessException;
 import com.courthub.common.exception.NotFoundException;
+import com.courthub.court.cache.OpenIssueCounters;
 import com.courthub.court.domain.CourtIssue;
 import com.courthub.court.domain.IssueSeverity;
 import com.courthub.court.domain.IssueStatus;
+import com.courthub.court.dto.CourtIssuePageResponseDto;
 import com.courthub.court.dto.CourtIssueRequestDto;
 import com.courthub.court.dto.CourtIssueResponseDto;
 import com.courthub.court.dto.IssueStatusUpdateDto;
+import com.courthub.court.event.CourtEventProducer;
 import com.courthub.court.repository.CourtIssueRepository;
 import com.courthub.court.repository.CourtRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,7 +21,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
@@ -38,6 +45,12 @@ public class CourtIssueServiceTest {
     @Mock
     private CourtRepository courtRepository;
 
+    @Mock
+    private OpenIssueCounters openIssueCounters;
+
+    @Mock
+    private CourtEventProducer eventProducer;
+
     @InjectMocks
     private CourtIssueService issueService;
 
@@ -90,6 +103,8 @@ public class CourtIssueServiceTest {
 
         verify(courtRepository, times(1)).existsById(courtId);
         verify(issueRepository, times(1)).save(any(CourtIssue.class));
+        verify(openIssueCounters, times(1)).issueOpened(testIssue);
+        verify(eventProducer, times(1)).sendIssueCreated(testIssue);
     }
 
     @Test
@@ -201,6 +216,91 @@ public class CourtIssueServiceTest {
 
         verify(issueRepository, times(1)).findById(issueId);
         verify(issueRepository, times(1)).save(any(CourtIssue.class));
+        verify(openIssueCounters, never()).issueClosed(any());
+        verify(eventProducer, times(1)).sendIssueStatusChanged(updatedIssue, IssueStatus.REPORTED);
+    }
+
+    @Test
+    @DisplayName("Should decrement open issue counters when an issue is closed")
+    void testCloseIssueUpdatesCounters() {
+        // Arrange
+        IssueStatusUpdateDto statusUpdate = new IssueStatusUpdateDto(IssueStatus.CLOSED);
+        when(issueRepository.findById(issueId)).thenReturn(Optional.of(testIssue));
+        when(issueRepository.save(any(CourtIssue.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        CourtIssueResponseDto result = issueService.updateIssueStatus(issueId, statusUpdate);
+
+        // Assert
+        assertThat(result.getStatus()).isEqualTo(IssueStatus.CLOSED);
+        verify(openIssueCounters, times(1)).issueClosed(testIssue);
+    }
+
+    @Test
+    @DisplayName("Should return a pending issue page with a cursor that resumes after its last row")
+    void testGetPendingIssuesPage() {
+        // Arrange
+        CourtIssue newer = issue(Instant.parse("2025-01-02T10:00:00Z"));
+        CourtIssue older = issue(Instant.parse("2025-01-01T10:00:00Z"));
+        CourtIssue oldest = issue(Instant.parse("2024-12-31T10:00:00Z"));
+        when(issueRepository.findPendingPage(Limit.of(3))).thenReturn(List.of(newer, older, oldest));
+        when(issueRepository.findPendingPageAfter(older.getCreatedAt(), older.getId(), Limit.of(3)))
+                .thenReturn(List.of(oldest));
+
+        // Act
+        CourtIssuePageResponseDto first = issueService.getPendingIssuesPage(2, null);
+        CourtIssuePageResponseDto second = issueService.getPendingIssuesPage(2, first.getNextCursor());
+
+        // Assert
+        assertThat(first.getItems()).extracting(CourtIssueResponseDto::getId).containsExactly(newer.getId(), older.getId());
+        assertThat(first.getNextCursor()).isNotNull();
+        assertThat(second.getItems()).extracting(CourtIssueResponseDto::getId).containsExactly(oldest.getId());
+        assertThat(second.getNextCursor()).isNull();
+        verify(issueRepository, never()).findAllPendingIssues(any());
+    }
+
+    @Test
+    @DisplayName("Should page the change feed by (updatedAt, id) and resume from the returned cursor")
+    void testGetIssueChanges() {
+        // Arrange
+        ReflectionTestUtils.setField(issueService, "changeFeedLag", Duration.ofSeconds(5));
+        Instant since = Instant.parse("2025-01-01T00:00:00Z");
+        CourtIssue first = issue(Instant.parse("2025-01-01T09:00:00Z"));
+        first.setUpdatedAt(Instant.parse("2025-01-02T09:00:00Z"));
+        CourtIssue second = issue(Instant.parse("2025-01-01T10:00:00Z"));
+        second.setUpdatedAt(Instant.parse("2025-01-02T10:00:00Z"));
+        when(issueRepository.findChangedAfter(eq(since), eq(new UUID(0L, 0L)), any(Instant.class), eq(Limit.of(2))))
+                .thenReturn(List.of(first, second));
+        when(issueRepository.findChangedAfter(eq(first.getUpdatedAt()), eq(first.getId()), any(Instant.class), eq(Limit.of(2))))
+                .thenReturn(List.of(second));
+        when(issueRepository.findChangedAfter(eq(second.getUpdatedAt()), eq(second.getId()), any(Instant.class), eq(Limit.of(2))))
+                .thenReturn(List.of());
+
+        // Act
+        CourtIssueChangePage page1 = issueService.getIssueChanges(since, null, 1);
+        CourtIssueChangePage page2 = issueService.getIssueChanges(null, page1.nextCursor(), 1);
+        CourtIssueChangePage page3 = issueService.getIssueChanges(null, page2.nextCursor(), 1);
+
+        // Assert
+        assertThat(page1.items()).extracting(dto -> dto.id()).containsExactly(first.getId().toString());
+        assertThat(page1.hasMore()).isTrue();
+        assertThat(page2.items()).extracting(dto -> dto.id()).containsExactly(second.getId().toString());
+        assertThat(page2.hasMore()).isFalse();
+        assertThat(page3.items()).isEmpty();
+        assertThat(page3.nextCursor()).isEqualTo(page2.nextCursor());
+        verify(issueRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid pending issue cursors and page sizes")
+    void testGetPendingIssuesPageInvalidInput() {
+        assertThatThrownBy(() -> issueService.getPendingIssuesPage(2, "not-a-cursor"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("cursor");
+        assertThatThrownBy(() -> issueService.getPendingIssuesPage(0, null))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> issueService.getPendingIssuesPage(101, null))
+                .isInstanceOf(BusinessException.class);
     }
 
     @Test
@@ -238,4 +338,17 @@ public class CourtIssueServiceTest {
         verify(issueRepository, times(1)).findById(issueId);
         verify(issueRepository, never()).save(any());
     }
+
+    private CourtIssue issue(Instant createdAt) {
+        CourtIssue issue = new CourtIssue();
+        issue.setId(UUID.randomUUID());
+        issue.setCourtId(courtId);
+        issue.setReporterId(reporterId);
+        issue.setTitle("Net is torn");
+        issue.setDescription("The net on court 2 is torn");
+        issue.setSeverity(IssueSeverity.LOW);
+        issue.setStatus(IssueStatus.REPORTED);
+        issue.setCreatedAt(createdAt);
+        return issue;
+    }
 }
@@ -0,0 +1,152 @@
+package com.courthub.court.service;
+
+import com.courthub.common.exception.BusinessException;
+import com.courthub.common.exception.NotFoundException;
+import com.courthub.court.domain.Court;
+import com.courthub.court.domain.CourtSchedule;
+import com.courthub.court.domain.CourtScheduleException;
+import com.courthub.court.dto.CourtScheduleExceptionRequestDto;
+import com.courthub.court.dto.CourtScheduleExceptionResponseDto;
+import com.courthub.court.event.CourtEventProducer;
+import com.courthub.court.repository.CourtRepository;
+import com.courthub.court.repository.CourtScheduleExceptionRepository;
+import com.courthub.court.repository.CourtScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CourtScheduleExceptionService Unit Tests")
+public class CourtScheduleExceptionServiceTest {
+
+    @Mock
+    private CourtRepository courtRepository;
+
+    @Mock
+    private CourtScheduleRepository scheduleRepository;
+
+    @Mock
+    private CourtScheduleExceptionRepository exceptionRepository;
+
+    @Mock
+    private CourtEventProducer eventProducer;
+
+    @InjectMocks
+    private CourtScheduleExceptionService exceptionService;
+
+    private UUID courtId;
+    private Court court;
+    private CourtScheduleExceptionRequestDto request;
+
+    @BeforeEach
+    void setUp() {
+        courtId = UUID.randomUUID();
+        court = new Court();
+        court.setId(courtId);
+
+        request = new CourtScheduleExceptionRequestDto();
+        request.setStartDate(LocalDate.now().plusDays(1));
+        request.setEndDate(LocalDate.now().plusDays(3));
+        request.setStartTime(LocalTime.of(12, 0));
+        request.setEndTime(LocalTime.of(14, 0));
+        request.setReason("Resurfacing");
+    }
+
+    @Test
+    @DisplayName("Should save the exception and publish it")
+    void testCreateExceptionSuccess() {
+        // Arrange
+        when(courtRepository.findById(courtId)).thenReturn(Optional.of(court));
+        when(exceptionRepository.save(any(CourtScheduleException.class))).thenAnswer(invocation -> {
+            CourtScheduleException saved = invocation.getArgument(0);
+            saved.setId(UUID.randomUUID());
+            return saved;
+        });
+
+        // Act
+        CourtScheduleExceptionResponseDto result = exceptionService.createException(courtId, request);
+
+        // Assert
+        assertThat(result.getCourtId()).isEqualTo(courtId);
+        assertThat(result.getStartTime()).isEqualTo(LocalTime.of(12, 0));
+        assertThat(result.getReason()).isEqualTo("Resurfacing");
+        verify(eventProducer, times(1)).sendScheduleExceptionCreated(any(CourtScheduleException.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a time window with only one bound or an inverted range")
+    void testCreateExceptionWithInvalidWindow() {
+        // Arrange
+        when(courtRepository.findById(courtId)).thenReturn(Optional.of(court));
+        request.setEndTime(null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> exceptionService.createException(courtId, request))
+                .isInstanceOf(BusinessException.class);
+
+        request.setEndTime(LocalTime.of(11, 0));
+        assertThatThrownBy(() -> exceptionService.createException(courtId, request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("start time");
+
+        request.setEndTime(LocalTime.of(14, 0));
+        request.setEndDate(request.getStartDate().minusDays(1));
+        assertThatThrownBy(() -> exceptionService.createException(courtId, request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("end date");
+
+        verify(exceptionRepository, never()).save(any());
+        verifyNoInteractions(eventProducer);
+    }
+
+    @Test
+    @DisplayName("Should publish the court week with the exception deletion")
+    void testDeleteExceptionCarriesWeek() {
+        // Arrange
+        CourtScheduleException exception = new CourtScheduleException();
+        exception.setId(UUID.randomUUID());
+        exception.setCourtId(courtId);
+        CourtSchedule schedule = new CourtSchedule();
+        schedule.setCourtId(courtId);
+        schedule.setDayOfWeek(1);
+        when(courtRepository.findById(courtId)).thenReturn(Optional.of(court));
+        when(exceptionRepository.findByIdAndCourtId(exception.getId(), courtId)).thenReturn(Optional.of(exception));
+        when(scheduleRepository.findByCourtId(courtId)).thenReturn(List.of(schedule));
+
+        // Act
+        exceptionService.deleteException(courtId, exception.getId());
+
+        // Assert
+        verify(exceptionRepository, times(1)).delete(exception);
+        verify(eventProducer, times(1)).sendScheduleExceptionDeleted(exception, List.of(schedule));
+        verify(eventProducer, never()).sendCourtScheduleWeeks(any());
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when the exception belongs to another court")
+    void testDeleteUnknownException() {
+        // Arrange
+        UUID exceptionId = UUID.randomUUID();
+        when(courtRepository.findById(courtId)).thenReturn(Optional.of(court));
+        when(exceptionRepository.findByIdAndCourtId(exceptionId, courtId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> exceptionService.deleteException(courtId, exceptionId))
+                .isInstanceOf(NotFoundException.class);
+        verifyNoInteractions(eventProducer);
+    }
+}
@@ -2,11 +2,13 @@ package com.courthub.court.service;
 
 import com.courthub.common.exception.BusinessException;
 import com.courthub.common.exception.NotFoundException;
+import com.courthub.court.cache.CourtCacheEvictor;
 import com.courthub.court.domain.Court;
 import com.courthub.court.domain.CourtSchedule;
 import com.courthub.court.domain.CourtStatus;
 import com.courthub.court.domain.SportType;
 import com.courthub.court.domain.SurfaceType;
+import com.courthub.court.dto.CourtPageResponseDto;
 import com.courthub.court.dto.CourtRequestDto;
 import com.courthub.court.dto.CourtResponseDto;
 import com.courthub.court.dto.CourtScheduleRequestDto;
@@ -15,6 +17,7 @@ import com.courthub.court.dto.CourtStatusUpdateDto;
 import com.courthub.court.event.CourtEventProducer;
 import com.courthub.court.repository.CourtRepository;
 import com.courthub.court.repository.CourtScheduleRepository;
+import com.courthub.court.repository.CourtSortField;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,7 +25,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Instant;
 import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
@@ -46,6 +52,9 @@ public class CourtServiceTest {
     @Mock
     private CourtEventProducer eventProducer;
 
+    @Mock
+    private CourtCacheEvictor cacheEvictor;
+
     @InjectMocks
     private CourtService courtService;
 
@@ -162,6 +171,65 @@ public class CourtServiceTest {
         verify(scheduleRepository, never()).findByCourtIdIn(any());
     }
 
+    @Test
+    @DisplayName("Should return a keyset page with a cursor when more rows exist")
+    @SuppressWarnings("unchecked")
+    void testListCourtsPageWithMoreRows() {
+        // Arrange
+        Court second = new Court();
+        second.setId(UUID.randomUUID());
+        second.setName("Soccer Court B");
+        second.setStatus(CourtStatus.ACTIVE);
+        second.setCreatedAt(Instant.now());
+        when(courtRepository.findBy(any(Specification.class), any())).thenReturn(List.of(testCourt, second));
+        when(scheduleRepository.findByCourtIdIn(any())).thenReturn(Collections.emptyList());
+
+        // Act
+        CourtPageResponseDto first = courtService.listCourtsPage(SportType.SOCCER, null, CourtStatus.ACTIVE,
+                CourtSortField.NAME, Sort.Direction.ASC, 1, null);
+
+        // Assert
+        assertThat(first.getItems()).hasSize(1);
+        assertThat(first.getItems().get(0).getId()).isEqualTo(courtId);
+        assertThat(first.getNextCursor()).isNotBlank();
+
+        // A cursor issued for NAME can be followed with the same sort
+        courtService.listCourtsPage(SportType.SOCCER, null, CourtStatus.ACTIVE,
+                CourtSortField.NAME, Sort.Direction.ASC, 1, first.getNextCursor());
+        verify(courtRepository, times(2)).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor issued for a different sort")
+    @SuppressWarnings("unchecked")
+    void testListCourtsPageWithMismatchedCursor() {
+        // Arrange
+        testCourt.setCreatedAt(Instant.now());
+        when(courtRepository.findBy(any(Specification.class), any())).thenReturn(List.of(testCourt, testCourt));
+        when(scheduleRepository.findByCourtIdIn(any())).thenReturn(Collections.emptyList());
+        String cursor = courtService.listCourtsPage(null, null, null,
+                CourtSortField.CREATED_AT, Sort.Direction.DESC, 1, null).getNextCursor();
+
+        // Act & Assert
+        assertThatThrownBy(() -> courtService.listCourtsPage(null, null, null,
+                CourtSortField.NAME, Sort.Direction.ASC, 1, cursor))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> courtService.listCourtsPage(null, null, null,
+                CourtSortField.NAME, Sort.Direction.ASC, 1, "not-a-cursor"))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject page sizes outside the allowed range")
+    @SuppressWarnings("unchecked")
+    void testListCourtsPageWithInvalidSize() {
+        assertThatThrownBy(() -> courtService.listCourtsPage(null, null, null,
+                CourtSortField.NAME, Sort.Direction.ASC, 0, null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Page size");
+        verify(courtRepository, never()).findBy(any(Specification.class), any());
+    }
+
     @Test
     @DisplayName("Should get court by ID successfully")
     void testGetCourtSuccess() {
@@ -228,6 +296,7 @@ public class CourtServiceTest {
         verify(courtRepository, times(1)).save(any(Court.class));
         verify(eventProducer, times(1)).sendCourtStatusChanged(any(Court.class));
         verify(eventProducer, times(1)).sendCourtUpdated(any(Court.class));
+        verify(cacheEvictor, times(1)).evictCourt(updatedCourt, CourtStatus.ACTIVE);
     }
 
     @Test
@@ -0,0 +1,149 @@
+package com.courthub.court.service;
+
+import com.courthub.court.domain.Court;
+import com.courthub.court.domain.CourtSchedule;
+import com.courthub.court.domain.CourtStatus;
+import com.courthub.court.domain.SportType;
+import com.courthub.court.domain.SurfaceType;
+import com.courthub.court.event.CourtEventProducer;
+import com.courthub.court.repository.CourtRepository;
+import com.courthub.court.repository.CourtScheduleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WeeklySchedulerService Unit Tests")
+public class WeeklySchedulerServiceTest {
+
+    @Mock
+    private CourtRepository courtRepository;
+
+    @Mock
+    private CourtScheduleRepository courtScheduleRepository;
+
+    @Mock
+    private CourtEventProducer courtEventProducer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WeeklySchedulerService weeklySchedulerService;
+    private Court firstCourt;
+    private Court secondCourt;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        weeklySchedulerService = new WeeklySchedulerService(courtRepository, courtScheduleRepository,
+                courtEventProducer, meterRegistry);
+        firstCourt = court();
+        secondCourt = court();
+    }
+
+    @Test
+    @DisplayName("Should create only missing days with one lookup, one batch insert and one week event per court")
+    @SuppressWarnings("unchecked")
+    void testCreatesMissingDaysInBulk() {
+        // Arrange
+        when(courtRepository.findByFilters(null, null, CourtStatus.ACTIVE)).thenReturn(List.of(firstCourt, secondCourt));
+        when(courtScheduleRepository.findByCourtIdIn(anyList())).thenReturn(List.of(
+                schedule(firstCourt.getId(), 1), schedule(firstCourt.getId(), 2), schedule(secondCourt.getId(), 7)));
+
+        // Act
+        weeklySchedulerService.createSchedulesForSpecificWeek(LocalDate.of(2025, 1, 6));
+
+        // Assert
+        ArgumentCaptor<List<CourtSchedule>> saved = ArgumentCaptor.forClass(List.class);
+        verify(courtScheduleRepository, times(1)).saveAll(saved.capture());
+        assertThat(saved.getValue()).hasSize(11);
+        assertThat(saved.getValue())
+                .filteredOn(schedule -> schedule.getCourtId().equals(firstCourt.getId()))
+                .extracting(CourtSchedule::getDayOfWeek)
+                .containsExactly(3, 4, 5, 6, 7);
+
+        ArgumentCaptor<Map<Court, List<CourtSchedule>>> events = ArgumentCaptor.forClass(Map.class);
+        verify(courtEventProducer, times(1)).sendCourtScheduleWeeks(events.capture());
+        assertThat(events.getValue().get(firstCourt)).hasSize(7);
+        assertThat(events.getValue().get(secondCourt)).hasSize(7);
+        verify(courtScheduleRepository, never()).existsByCourtIdAndDayOfWeek(any(UUID.class), anyInt());
+        verify(courtScheduleRepository, never()).save(any(CourtSchedule.class));
+
+        assertThat(meterRegistry.get("court.schedules.weekly.created").tag("trigger", "manual").counter().count())
+                .isEqualTo(11.0);
+        assertThat(meterRegistry.get("court.schedules.weekly.duration").tag("trigger", "manual").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should skip inserts and events when every court is fully scheduled")
+    void testNothingToCreate() {
+        // Arrange
+        when(courtRepository.findByFilters(null, null, CourtStatus.ACTIVE)).thenReturn(List.of(firstCourt));
+        List<CourtSchedule> fullWeek = new ArrayList<>();
+        for (int dayOfWeek = 1; dayOfWeek <= 7; dayOfWeek++) {
+            fullWeek.add(schedule(firstCourt.getId(), dayOfWeek));
+        }
+        when(courtScheduleRepository.findByCourtIdIn(anyList())).thenReturn(fullWeek);
+
+        // Act
+        weeklySchedulerService.createWeeklySchedules();
+
+        // Assert
+        verify(courtScheduleRepository, never()).saveAll(anyList());
+        verify(courtEventProducer, never()).sendCourtScheduleWeeks(any());
+        assertThat(meterRegistry.get("court.schedules.weekly.created").tag("trigger", "scheduled").counter().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should not query schedules when there are no active courts")
+    void testNoActiveCourts() {
+        // Arrange
+        when(courtRepository.findByFilters(null, null, CourtStatus.ACTIVE)).thenReturn(Collections.emptyList());
+
+        // Act
+        weeklySchedulerService.createWeeklySchedules();
+
+        // Assert
+        verify(courtScheduleRepository, never()).findByCourtIdIn(anyList());
+        verifyNoInteractions(courtEventProducer);
+    }
+
+    private Court court() {
+        Court court = new Court();
+        court.setId(UUID.randomUUID());
+        court.setName("Court");
+        court.setSportType(SportType.SOCCER);
+        court.setSurfaceType(SurfaceType.SYNTHETIC);
+        court.setCapacity(10);
+        court.setStatus(CourtStatus.ACTIVE);
+        return court;
+    }
+
+    private CourtSchedule schedule(UUID courtId, int dayOfWeek) {
+        CourtSchedule schedule = new CourtSchedule();
+        schedule.setId(UUID.randomUUID());
+        schedule.setCourtId(courtId);
+        schedule.setDayOfWeek(dayOfWeek);
+        schedule.setOpenTime(LocalTime.of(9, 0));
+        schedule.setCloseTime(LocalTime.of(21, 0));
+        return schedule;
+    }
+}
@@ -157,4 +157,19 @@ public class UserController {
         log.info("All users returned (internal): count={}", users.size());
         return ResponseEntity.ok(users);
     }
+
+    @GetMapping("/internal/users/page")
+    @Operation(summary = "Get users page (internal)", description = "Retrieve users in id order, one keyset page at a time, for analytics extraction - Internal endpoint")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Users page returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    public ResponseEntity<com.courthub.common.dto.analytics.UserInternalPage> getUsersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "1000") int size) {
+        log.info("Get users page (internal) request received: size={}", size);
+        com.courthub.common.dto.analytics.UserInternalPage page = userService.getUsersForAnalyticsPage(cursor, size);
+        log.info("Users page returned (internal): count={}, hasMore={}", page.items().size(), page.hasMore());
+        return ResponseEntity.ok(page);
+    }
 }
@@ -10,6 +10,7 @@ import com.courthub.user.entity.User;
 import com.courthub.user.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +23,8 @@ import java.util.stream.Collectors;
 @Service
 public class UserService {
 
+    static final int MAX_ANALYTICS_PAGE_SIZE = 5000;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
@@ -157,4 +160,39 @@ public class UserService {
             ))
             .collect(Collectors.toList());
     }
+
+    @Transactional(readOnly = true)
+    public com.courthub.common.dto.analytics.UserInternalPage getUsersForAnalyticsPage(String cursor, int size) {
+        log.debug("Fetching users page for analytics: cursor={}, size={}", cursor, size);
+        if (size <= 0 || size > MAX_ANALYTICS_PAGE_SIZE) {
+            throw new BusinessException("Page size must be between 1 and " + MAX_ANALYTICS_PAGE_SIZE);
+        }
+
+        java.util.List<User> rows;
+        if (cursor != null && !cursor.isBlank()) {
+            rows = userRepository.findByIdGreaterThanOrderByIdAsc(parseCursor(cursor), Limit.of(size + 1));
+        } else {
+            rows = userRepository.findAllByOrderByIdAsc(Limit.of(size + 1));
+        }
+        boolean hasMore = rows.size() > size;
+        java.util.List<User> page = hasMore ? rows.subList(0, size) : rows;
+
+        java.util.List<com.courthub.common.dto.analytics.UserInternalDTO> items = page.stream()
+            .map(user -> new com.courthub.common.dto.analytics.UserInternalDTO(
+                user.getId().toString(),
+                user.getName(),
+                user.getFaculty()
+            ))
+            .collect(Collectors.toList());
+        String nextCursor = hasMore ? page.get(page.size() - 1).getId().toString() : null;
+        return new com.courthub.common.dto.analytics.UserInternalPage(items, nextCursor, hasMore);
+    }
+
+    private UUID parseCursor(String cursor) {
+        try {
+            return UUID.fromString(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid cursor");
+        }
+    }
 }
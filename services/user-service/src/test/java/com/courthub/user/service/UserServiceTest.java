@@ -3,6 +3,8 @@ package com.courthub.user.service;
 import com.courthub.common.dto.CreateUserDto;
 import com.courthub.common.dto.UpdateUserDto;
 import com.courthub.common.dto.UserDto;
+import com.courthub.common.dto.analytics.UserInternalDTO;
+import com.courthub.common.dto.analytics.UserInternalPage;
 import com.courthub.common.exception.BusinessException;
 import com.courthub.common.exception.NotFoundException;
 import com.courthub.user.domain.Role;
@@ -15,8 +17,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -330,4 +334,20 @@ public class UserServiceTest {
         verify(userRepository, times(1)).findById(userId);
         verify(userRepository, never()).save(any(User.class));
     }
+
+    @Test
+    @DisplayName("Should return the last page of users without a next cursor")
+    void testGetUsersForAnalyticsPage() {
+        // Arrange
+        when(userRepository.findAllByOrderByIdAsc(any(Limit.class))).thenReturn(List.of(testUser));
+
+        // Act
+        UserInternalPage page = userService.getUsersForAnalyticsPage(null, 100);
+
+        // Assert
+        assertThat(page.items()).extracting(UserInternalDTO::faculty).containsExactly("Engineering");
+        assertThat(page.hasMore()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+        verify(userRepository).findAllByOrderByIdAsc(Limit.of(101));
+    }
 }